@@ -0,0 +1,134 @@
+package org.springframework.data.orientdb3.benchmark;
+
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
+import org.springframework.data.orientdb3.repository.support.OrientdbRepositoryFactory;
+import org.springframework.data.orientdb3.repository.support.StringIdParser;
+import org.springframework.data.orientdb3.support.IOrientdbConfig;
+import org.springframework.data.orientdb3.support.OrientdbEntityManager;
+import org.springframework.data.orientdb3.support.SessionFactory;
+
+/**
+ * A embedded {@code memory:} database with the schema of the test sample entities, shared by the benchmarks of a
+ * trial.
+ *
+ * @author xxcxy
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    private static final String SAMPLE_PACKAGE = "org.springframework.data.orientdb3.test.sample";
+
+    private SessionFactory sessionFactory;
+    private OrientdbEntityManager entityManager;
+    private OrientdbRepositoryFactory repositoryFactory;
+
+    /**
+     * Creates the database, the schema is generated from the test sample entities.
+     */
+    @Setup
+    public void createDatabase() {
+        sessionFactory = new SessionFactory(memoryConfig());
+        entityManager = new OrientdbEntityManager(sessionFactory);
+        repositoryFactory = new OrientdbRepositoryFactory(entityManager,
+                new OrientdbIdParserHolder(new StringIdParser()));
+    }
+
+    /**
+     * Closes the sessions and drops the database with them.
+     */
+    @TearDown
+    public void dropDatabase() {
+        sessionFactory.destroy();
+    }
+
+    /**
+     * Gets the sessionFactory.
+     *
+     * @return
+     */
+    public SessionFactory getSessionFactory() {
+        return sessionFactory;
+    }
+
+    /**
+     * Gets the entityManager.
+     *
+     * @return
+     */
+    public OrientdbEntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Gets the repositoryFactory.
+     *
+     * @return
+     */
+    public OrientdbRepositoryFactory getRepositoryFactory() {
+        return repositoryFactory;
+    }
+
+    /**
+     * Creates the config of a {@code memory:} database, which is created by the {@link SessionFactory}.
+     *
+     * @return
+     */
+    private static IOrientdbConfig memoryConfig() {
+        return new IOrientdbConfig() {
+            @Override
+            public String getHosts() {
+                return "memory:";
+            }
+
+            @Override
+            public String getDatabaseUsername() {
+                return null;
+            }
+
+            @Override
+            public String getDatabasePassword() {
+                return null;
+            }
+
+            @Override
+            public String getDatabaseName() {
+                return "benchmark";
+            }
+
+            @Override
+            public ODatabaseType getCreateDatabaseType() {
+                return ODatabaseType.MEMORY;
+            }
+
+            @Override
+            public String getUsername() {
+                return "admin";
+            }
+
+            @Override
+            public String getPassword() {
+                return "admin";
+            }
+
+            @Override
+            public boolean getAutoGenerateSchema() {
+                return true;
+            }
+
+            @Override
+            public String getEntityScanPackage() {
+                return SAMPLE_PACKAGE;
+            }
+
+            @Override
+            public String getProjectionScanPackage() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package org.springframework.data.orientdb3.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.orientdb3.repository.QueryResult;
+import org.springframework.data.orientdb3.support.OrientdbEntityManager;
+import org.springframework.data.orientdb3.test.sample.ProjectionObject;
+
+import java.util.List;
+
+/**
+ * Measures the mapping of query results to {@link QueryResult} objects. The results of a query are mapped by
+ * {@link OrientdbEntityManager#doQuery(String, Object[], Class)}, so the query is measured too.
+ *
+ * @author xxcxy
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryResultBenchmark {
+
+    private static final String QUERY = "select name as cName, description as pName from QueryElement";
+
+    @Param({"1", "100"})
+    private int records;
+
+    private OrientdbEntityManager entityManager;
+
+    /**
+     * Saves the records of the query.
+     *
+     * @param database
+     */
+    @Setup
+    public void setup(final BenchmarkDatabase database) {
+        entityManager = database.getEntityManager();
+        entityManager.doCommand("delete from QueryElement", new Object[0]);
+        for (int i = 0; i < records; i++) {
+            entityManager.doCommand("insert into QueryElement set name = ?, description = ?",
+                    new Object[]{"name" + i, "description" + i});
+        }
+    }
+
+    @Benchmark
+    public List<ProjectionObject> mapQueryResults() {
+        return entityManager.doQuery(QUERY, new Object[0], ProjectionObject.class);
+    }
+}
@@ -0,0 +1,166 @@
+package org.springframework.data.orientdb3.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.orientdb3.support.OrientdbEntityManager;
+import org.springframework.data.orientdb3.test.sample.EdgeObject;
+import org.springframework.data.orientdb3.test.sample.ElementObject;
+import org.springframework.data.orientdb3.test.sample.SimpleElement;
+import org.springframework.data.orientdb3.test.sample.VertexObject;
+import org.springframework.data.orientdb3.test.sample.VertexSource;
+import org.springframework.data.orientdb3.test.sample.VertexTarget;
+import org.springframework.data.orientdb3.test.sample.repository.EdgeObjectRepository;
+import org.springframework.data.orientdb3.test.sample.repository.ElementObjectRepository;
+import org.springframework.data.orientdb3.test.sample.repository.VertexObjectRepository;
+import org.springframework.data.orientdb3.transaction.OrientdbTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Measures the throughput of saving and loading element, vertex and edge entities by their repositories. A entity is
+ * loaded in a transaction as a service would do, the transaction ends the tracking of the loaded proxies.
+ *
+ * @author xxcxy
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    private static final String[] RESET_COMMANDS = {"delete vertex VertexObject", "delete vertex VertexSource",
+            "delete vertex VertexTarget", "delete from ElementObject", "delete from SimpleElement"};
+
+    private OrientdbEntityManager entityManager;
+    private ElementObjectRepository elementObjectRepository;
+    private VertexObjectRepository vertexObjectRepository;
+    private EdgeObjectRepository edgeObjectRepository;
+    private TransactionTemplate transactionTemplate;
+
+    private String elementId;
+    private String vertexId;
+    private String edgeId;
+
+    /**
+     * Creates the repositories and the entities to load.
+     *
+     * @param database
+     */
+    @Setup
+    public void setup(final BenchmarkDatabase database) {
+        entityManager = database.getEntityManager();
+        elementObjectRepository = database.getRepositoryFactory().getRepository(ElementObjectRepository.class);
+        vertexObjectRepository = database.getRepositoryFactory().getRepository(VertexObjectRepository.class);
+        edgeObjectRepository = database.getRepositoryFactory().getRepository(EdgeObjectRepository.class);
+        transactionTemplate = new TransactionTemplate(new OrientdbTransactionManager(database.getSessionFactory()));
+        saveLoadedEntities();
+    }
+
+    /**
+     * Removes the entities saved by the iteration, so every iteration saves into a database of the same size.
+     */
+    @TearDown(Level.Iteration)
+    public void resetDatabase() {
+        // Deleting the vertices deletes their edges too
+        for (String sql : RESET_COMMANDS) {
+            entityManager.doCommand(sql, new Object[0]);
+        }
+        saveLoadedEntities();
+    }
+
+    @Benchmark
+    public ElementObject saveElement() {
+        return elementObjectRepository.save(createElementObject());
+    }
+
+    @Benchmark
+    public Object loadElement() {
+        return transactionTemplate.execute(status -> elementObjectRepository.findById(elementId).get()
+                .getElementList().get(0).getValue());
+    }
+
+    @Benchmark
+    public VertexObject saveVertex() {
+        return vertexObjectRepository.save(createVertexObject());
+    }
+
+    @Benchmark
+    public Object loadVertex() {
+        return transactionTemplate.execute(status -> vertexObjectRepository.findById(vertexId).get()
+                .getTarget().getType());
+    }
+
+    @Benchmark
+    public EdgeObject saveEdge() {
+        return edgeObjectRepository.save(createEdgeObject());
+    }
+
+    @Benchmark
+    public Object loadEdge() {
+        return transactionTemplate.execute(status -> edgeObjectRepository.findById(edgeId).get()
+                .getSource().getType());
+    }
+
+    private void saveLoadedEntities() {
+        elementId = elementObjectRepository.save(createElementObject()).getId();
+        vertexId = vertexObjectRepository.save(createVertexObject()).getId();
+        edgeId = edgeObjectRepository.save(createEdgeObject()).getId();
+    }
+
+    private static ElementObject createElementObject() {
+        ElementObject elementObject = new ElementObject();
+        elementObject.setLength(5);
+        elementObject.setType("benchmark");
+        elementObject.setNames(Arrays.asList("first", "second", "third"));
+        elementObject.setMaps(Collections.singletonMap("size", 5L));
+        elementObject.setElementList(Arrays.asList(createSimpleElement("first"), createSimpleElement("second")));
+        return elementObject;
+    }
+
+    private static SimpleElement createSimpleElement(final String value) {
+        SimpleElement simpleElement = new SimpleElement();
+        simpleElement.setValue(value);
+        return simpleElement;
+    }
+
+    private static VertexObject createVertexObject() {
+        VertexObject vertexObject = new VertexObject();
+        vertexObject.setType("benchmark");
+        vertexObject.setTarget(createVertexTarget());
+        vertexObject.setSource(createVertexSource());
+        return vertexObject;
+    }
+
+    private static EdgeObject createEdgeObject() {
+        EdgeObject edgeObject = new EdgeObject();
+        edgeObject.setType("benchmark");
+        edgeObject.setLength(5);
+        edgeObject.setSource(createVertexSource());
+        edgeObject.setTarget(createVertexTarget());
+        return edgeObject;
+    }
+
+    private static VertexSource createVertexSource() {
+        VertexSource vertexSource = new VertexSource();
+        vertexSource.setType("source");
+        return vertexSource;
+    }
+
+    private static VertexTarget createVertexTarget() {
+        VertexTarget vertexTarget = new VertexTarget();
+        vertexTarget.setType("target");
+        return vertexTarget;
+    }
+}
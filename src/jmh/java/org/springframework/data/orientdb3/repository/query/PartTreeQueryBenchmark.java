@@ -0,0 +1,88 @@
+package org.springframework.data.orientdb3.repository.query;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.orientdb3.benchmark.BenchmarkDatabase;
+import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
+import org.springframework.data.orientdb3.repository.support.StringIdParser;
+import org.springframework.data.orientdb3.support.OrientdbEntityManager;
+import org.springframework.data.orientdb3.test.sample.repository.QueryElementRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the sql generation of {@link PartTreeOrientdbQuery}s, once for a query created for every call and once for
+ * a query which renders the sql of the same parameters again.
+ *
+ * @author xxcxy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PartTreeQueryBenchmark {
+
+    private static final Map<String, Object[]> PARAMETERS = new HashMap<>();
+
+    static {
+        PARAMETERS.put("findByNameAndDescription", new Object[]{"name", "description"});
+        PARAMETERS.put("findByScoreGreaterThanOrderByScoreDesc", new Object[]{5.0});
+        PARAMETERS.put("findByNameIn", new Object[]{Arrays.asList("first", "second", "third")});
+    }
+
+    @Param({"findByNameAndDescription", "findByScoreGreaterThanOrderByScoreDesc", "findByNameIn"})
+    private String methodName;
+
+    private OrientdbQueryMethod queryMethod;
+    private OrientdbEntityManager em;
+    private NamedQueries namedQueries;
+    private PartTreeOrientdbQuery query;
+    private Object[] parameters;
+
+    /**
+     * Creates the query method of the {@link QueryElementRepository}.
+     *
+     * @param database
+     */
+    @Setup
+    public void setup(final BenchmarkDatabase database) {
+        Method method = Arrays.stream(QueryElementRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+        queryMethod = new OrientdbQueryMethod(method, new DefaultRepositoryMetadata(QueryElementRepository.class),
+                new SpelAwareProxyProjectionFactory(), new OrientdbIdParserHolder(new StringIdParser()));
+        em = database.getEntityManager();
+        namedQueries = new PropertiesBasedNamedQueries(new Properties());
+        query = new PartTreeOrientdbQuery(queryMethod, em, namedQueries);
+        parameters = PARAMETERS.get(methodName);
+    }
+
+    @Benchmark
+    public StringQuery createAndRender() {
+        return new PartTreeOrientdbQuery(queryMethod, em, namedQueries).getQuery(parameters);
+    }
+
+    @Benchmark
+    public StringQuery render() {
+        return query.getQuery(parameters);
+    }
+}
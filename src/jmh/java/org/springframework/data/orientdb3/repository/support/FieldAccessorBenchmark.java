@@ -0,0 +1,132 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ReflectionFieldAccessorFactory} with {@link MethodHandleFieldAccessorFactory} by reading and
+ * writing all fields of a vertex with 30 properties, the way a entity is converted to and from a record.
+ *
+ * @author xxcxy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldAccessorBenchmark {
+
+    private static final int FIELDS = 30;
+
+    private FieldAccessor[] reflectionAccessors;
+    private FieldAccessor[] methodHandleAccessors;
+    private WideVertex vertex;
+    private Object[] values;
+
+    /**
+     * Creates the accessors of both factories for all fields of {@link WideVertex}.
+     */
+    @Setup
+    public void setup() {
+        Field[] fields = WideVertex.class.getDeclaredFields();
+        reflectionAccessors = new FieldAccessor[FIELDS];
+        methodHandleAccessors = new FieldAccessor[FIELDS];
+        values = new Object[FIELDS];
+        FieldAccessorFactory reflection = new ReflectionFieldAccessorFactory();
+        FieldAccessorFactory methodHandle = new MethodHandleFieldAccessorFactory();
+        for (int i = 0; i < FIELDS; i++) {
+            fields[i].setAccessible(true);
+            reflectionAccessors[i] = reflection.getFieldAccessor(fields[i]);
+            methodHandleAccessors[i] = methodHandle.getFieldAccessor(fields[i]);
+            values[i] = fields[i].getType() == String.class ? "value" + i : Long.valueOf(i);
+        }
+        vertex = new WideVertex();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public void reflectionRead(final Blackhole blackhole) {
+        read(reflectionAccessors, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public void methodHandleRead(final Blackhole blackhole) {
+        read(methodHandleAccessors, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public WideVertex reflectionWrite() {
+        return write(reflectionAccessors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIELDS)
+    public WideVertex methodHandleWrite() {
+        return write(methodHandleAccessors);
+    }
+
+    private void read(final FieldAccessor[] accessors, final Blackhole blackhole) {
+        for (FieldAccessor accessor : accessors) {
+            blackhole.consume(accessor.get(vertex));
+        }
+    }
+
+    private WideVertex write(final FieldAccessor[] accessors) {
+        for (int i = 0; i < FIELDS; i++) {
+            accessors[i].set(vertex, values[i]);
+        }
+        return vertex;
+    }
+
+    /**
+     * A vertex with 15 string and 15 long properties.
+     */
+    public static class WideVertex {
+        private String p0 = "p0";
+        private Long p1 = 1L;
+        private String p2 = "p2";
+        private Long p3 = 3L;
+        private String p4 = "p4";
+        private Long p5 = 5L;
+        private String p6 = "p6";
+        private Long p7 = 7L;
+        private String p8 = "p8";
+        private Long p9 = 9L;
+        private String p10 = "p10";
+        private Long p11 = 11L;
+        private String p12 = "p12";
+        private Long p13 = 13L;
+        private String p14 = "p14";
+        private Long p15 = 15L;
+        private String p16 = "p16";
+        private Long p17 = 17L;
+        private String p18 = "p18";
+        private Long p19 = 19L;
+        private String p20 = "p20";
+        private Long p21 = 21L;
+        private String p22 = "p22";
+        private Long p23 = 23L;
+        private String p24 = "p24";
+        private Long p25 = 25L;
+        private String p26 = "p26";
+        private Long p27 = 27L;
+        private String p28 = "p28";
+        private Long p29 = 29L;
+    }
+}
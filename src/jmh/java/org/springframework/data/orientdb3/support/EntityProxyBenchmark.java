@@ -0,0 +1,107 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.orientdb3.benchmark.BenchmarkDatabase;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformationHolder;
+import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
+import org.springframework.data.orientdb3.repository.support.StringIdParser;
+import org.springframework.data.orientdb3.test.sample.QueryElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of {@link EntityProxy}s for loaded records and the interception of their getters. The
+ * records are loaded once, so only the proxying is measured.
+ *
+ * @author xxcxy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityProxyBenchmark {
+
+    private static final int RECORDS = 100_000;
+    private static final int COMMIT_SIZE = 1_000;
+
+    private ODatabaseSession session;
+    private OrientdbEntityInformation<QueryElement, String> entityInformation;
+    private List<OElement> elements;
+    private QueryElement proxy;
+
+    /**
+     * Saves and loads the records, the session stays open for the proxies.
+     *
+     * @param database
+     */
+    @Setup
+    public void setup(final BenchmarkDatabase database) {
+        entityInformation = new OrientdbEntityInformationHolder(new OrientdbIdParserHolder(new StringIdParser()))
+                .getEntityInformation(QueryElement.class);
+        session = database.getSessionFactory().openSession();
+        session.command("delete from QueryElement").close();
+        session.begin();
+        for (int i = 0; i < RECORDS; i++) {
+            OElement element = session.newElement("QueryElement");
+            element.setProperty("name", "name" + i);
+            element.setProperty("description", "description" + i);
+            element.setProperty("score", (double) i);
+            session.save(element);
+            if ((i + 1) % COMMIT_SIZE == 0) {
+                session.commit();
+                session.begin();
+            }
+        }
+        session.commit();
+        elements = new ArrayList<>();
+        try (OResultSet resultSet = session.query("select from QueryElement")) {
+            resultSet.elementStream().forEach(elements::add);
+        }
+        proxy = entityInformation.getEntityProxy(elements.get(0), new HashMap<>());
+        SessionListener.unbindEntityProxies();
+    }
+
+    /**
+     * Closes the session.
+     */
+    @TearDown
+    public void close() {
+        session.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void createProxy(final Blackhole blackhole) {
+        for (OElement element : elements) {
+            blackhole.consume(entityInformation.getEntityProxy(element, new HashMap<>()));
+        }
+        // A result is tracked until the transaction ends, the benchmark has no transaction
+        SessionListener.unbindEntityProxies();
+    }
+
+    @Benchmark
+    public String interceptGetter() {
+        return proxy.getName();
+    }
+}
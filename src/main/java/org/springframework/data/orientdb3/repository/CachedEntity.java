@@ -0,0 +1,26 @@
+package org.springframework.data.orientdb3.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity whose records are kept in the second-level cache of the
+ * {@link org.springframework.data.orientdb3.support.SessionFactory}, so finding an entity by id or resolving a link to
+ * it does not load the record again. Use it for data that is read often and changed rarely, the cache is only
+ * enabled if the entity cache size is configured.
+ * <p>
+ * The cached records are evicted when a transaction changing them is committed, and all records are evicted after a
+ * modifying query. The changes made by other applications are only seen after the records expire.
+ *
+ * @author xxcxy
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+@Documented
+public @interface CachedEntity {
+}
@@ -1,5 +1,7 @@
 package org.springframework.data.orientdb3.repository;
 
+import org.springframework.stereotype.Indexed;
+
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -14,6 +16,7 @@ import java.lang.annotation.Target;
 @Documented
 @Target({ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
+@Indexed
 public @interface ElementEntity {
     /**
      * Configures the entity name.
@@ -0,0 +1,31 @@
+package org.springframework.data.orientdb3.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the link and edge properties that are loaded together with the entities returned by a query method. Every
+ * path is a field name of the entity, nested properties are separated by dots, e.g. {@code "children.owner"}. The
+ * records of a level are loaded with one query for all returned entities instead of one load per entity, edges need
+ * one query for the edges and one for their vertices.
+ * <p>
+ * The records are kept by the session, so the prefetched properties can be read without loading as long as the
+ * session is open, e.g. in a transaction or a {@link org.springframework.data.orientdb3.transaction.SessionScope}.
+ *
+ * @author xxcxy
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface FetchPlan {
+
+    /**
+     * The paths of the properties to fetch.
+     *
+     * @return
+     */
+    String[] value();
+}
@@ -0,0 +1,213 @@
+package org.springframework.data.orientdb3.repository;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link Pageable} which seeks to the records after a continuation key instead of skipping the records of the
+ * previous pages. The records are ordered by the {@link Sort} and then by their record id, the continuation key holds
+ * the values of the sort properties and the record id of the last record of the previous slice. Records created in
+ * the current transaction have temporary record ids until it is committed, so they are not paged reliably.
+ *
+ * @author xxcxy
+ * @see KeysetSlice
+ */
+public class KeysetPageable implements Pageable {
+
+    private static final String RID = "@rid";
+
+    private final int page;
+    private final int size;
+    private final Sort sort;
+    @Nullable
+    private final Object[] continuationKey;
+
+    /**
+     * Creates a new {@link KeysetPageable}.
+     *
+     * @param page            zero-based page index, only informational.
+     * @param size            must be greater than 0.
+     * @param sort            must not be {@literal null}.
+     * @param continuationKey the key of the last record of the previous slice, {@literal null} for the first slice.
+     */
+    protected KeysetPageable(final int page, final int size, final Sort sort, @Nullable final Object[] continuationKey) {
+        Assert.isTrue(page >= 0, "Page index must not be less than zero!");
+        Assert.isTrue(size > 0, "Page size must not be less than one!");
+        Assert.notNull(sort, "Sort must not be null!");
+
+        this.page = page;
+        this.size = size;
+        this.sort = sort;
+        this.continuationKey = continuationKey;
+    }
+
+    /**
+     * Creates a {@link KeysetPageable} for the first slice ordered by record id.
+     *
+     * @param size
+     * @return
+     */
+    public static KeysetPageable of(final int size) {
+        return of(size, Sort.unsorted());
+    }
+
+    /**
+     * Creates a {@link KeysetPageable} for the first slice ordered by the given {@link Sort}.
+     *
+     * @param size
+     * @param sort
+     * @return
+     */
+    public static KeysetPageable of(final int size, final Sort sort) {
+        return new KeysetPageable(0, size, sort, null);
+    }
+
+    /**
+     * Creates a {@link KeysetPageable} for the slice after the given continuation key.
+     *
+     * @param size
+     * @param sort
+     * @param continuationKey
+     * @return
+     */
+    public static KeysetPageable of(final int size, final Sort sort, final Object[] continuationKey) {
+        return new KeysetPageable(0, size, sort, continuationKey);
+    }
+
+    /**
+     * Creates the {@link KeysetPageable} for the slice after the given continuation key.
+     *
+     * @param continuationKey
+     * @return
+     */
+    public KeysetPageable after(final Object[] continuationKey) {
+        return new KeysetPageable(page + 1, size, sort, continuationKey);
+    }
+
+    /**
+     * Gets the continuation key, {@literal null} for the first slice.
+     *
+     * @return
+     */
+    @Nullable
+    public Object[] getContinuationKey() {
+        return continuationKey;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.domain.Pageable#getPageNumber()
+     */
+    @Override
+    public int getPageNumber() {
+        return page;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.domain.Pageable#getPageSize()
+     */
+    @Override
+    public int getPageSize() {
+        return size;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.domain.Pageable#getOffset()
+     */
+    @Override
+    public long getOffset() {
+        return (long) page * (long) size;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.domain.Pageable#getSort()
+     */
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    /**
+     * Gets the offset based {@link PageRequest} of the next page in the same order, only the
+     * {@link KeysetSlice} knows the continuation key to seek to it.
+     *
+     * @return
+     * @see KeysetSlice#nextPageable()
+     */
+    @Override
+    public Pageable next() {
+        return PageRequest.of(page + 1, size, sort.and(Sort.by(RID)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.domain.Pageable#previousOrFirst()
+     */
+    @Override
+    public Pageable previousOrFirst() {
+        return first();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.domain.Pageable#first()
+     */
+    @Override
+    public Pageable first() {
+        return new KeysetPageable(0, size, sort, null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.domain.Pageable#hasPrevious()
+     */
+    @Override
+    public boolean hasPrevious() {
+        return continuationKey != null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetPageable)) {
+            return false;
+        }
+        KeysetPageable that = (KeysetPageable) o;
+        return page == that.page && size == that.size && sort.equals(that.sort)
+                && Arrays.equals(continuationKey, that.continuationKey);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(page, size, sort) + Arrays.hashCode(continuationKey);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return String.format("Keyset request [size: %d, sort: %s, after: %s]", size, sort,
+                Arrays.toString(continuationKey));
+    }
+}
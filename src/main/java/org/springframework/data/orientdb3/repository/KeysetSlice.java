@@ -0,0 +1,65 @@
+package org.springframework.data.orientdb3.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * A {@link org.springframework.data.domain.Slice} of a keyset pagination which carries the continuation key of its
+ * last record.
+ *
+ * @param <T>
+ * @author xxcxy
+ * @see KeysetPageable
+ */
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+    private final KeysetPageable keysetPageable;
+    @Nullable
+    private final Object[] continuationKey;
+
+    /**
+     * Creates a new {@link KeysetSlice}.
+     *
+     * @param content         must not be {@literal null}.
+     * @param pageable        must not be {@literal null}.
+     * @param hasNext
+     * @param continuationKey the key of the last record, {@literal null} if the slice is empty.
+     */
+    public KeysetSlice(final List<T> content, final KeysetPageable pageable, final boolean hasNext,
+                       @Nullable final Object[] continuationKey) {
+        super(content, pageable, hasNext);
+        this.keysetPageable = pageable;
+        this.continuationKey = continuationKey;
+    }
+
+    /**
+     * Gets the continuation key of the last record.
+     *
+     * @return
+     */
+    @Nullable
+    public Object[] getContinuationKey() {
+        return continuationKey;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#nextPageable()
+     */
+    @Override
+    public Pageable nextPageable() {
+        return hasNext() ? keysetPageable.after(continuationKey) : Pageable.unpaged();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.domain.Slice#previousPageable()
+     */
+    @Override
+    public Pageable previousPageable() {
+        return hasPrevious() ? keysetPageable.first() : Pageable.unpaged();
+    }
+}
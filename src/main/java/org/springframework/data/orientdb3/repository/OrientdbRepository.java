@@ -34,6 +34,43 @@ public interface OrientdbRepository<T, ID> extends PagingAndSortingRepository<T,
     @Override
     List<T> findAllById(Iterable<ID> ids);
 
+    /**
+     * Finds a {@link KeysetSlice} of entities which seeks to the records after the continuation key of the given
+     * {@link KeysetPageable} instead of skipping the records of the previous pages.
+     *
+     * @param pageable
+     * @return
+     */
+    KeysetSlice<T> findAll(KeysetPageable pageable);
+
+    /**
+     * Deletes the entities of the given ids without loading them. The records are deleted with one command per
+     * {@link org.springframework.data.orientdb3.support.OrientdbEntityManager#MODIFY_ALL_BY_ID_CHUNK_SIZE} ids, ids
+     * without a record are skipped.
+     *
+     * @param ids must not be {@literal null}.
+     */
+    void deleteAllById(Iterable<? extends ID> ids);
+
+    /**
+     * Updates all entities with one command, the entities are not loaded.
+     *
+     * @param update must not be {@literal null}.
+     * @return the number of updated entities.
+     */
+    long updateAll(Update update);
+
+    /**
+     * Updates the entities of the given ids without loading them. The records are updated with one command per
+     * {@link org.springframework.data.orientdb3.support.OrientdbEntityManager#MODIFY_ALL_BY_ID_CHUNK_SIZE} ids, ids
+     * without a record are skipped.
+     *
+     * @param ids    must not be {@literal null}.
+     * @param update must not be {@literal null}.
+     * @return the number of updated entities.
+     */
+    long updateAllById(Iterable<? extends ID> ids, Update update);
+
     /**
      * Find a designated cluster's all classes
      *
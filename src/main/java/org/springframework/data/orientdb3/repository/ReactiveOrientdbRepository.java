@@ -0,0 +1,34 @@
+package org.springframework.data.orientdb3.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Orientdb specific extension of {@link ReactiveSortingRepository}. The query results are emitted incrementally
+ * when they are requested, see {@link org.springframework.data.orientdb3.support.ReactiveOrientdbEntityManager}.
+ *
+ * @author xxcxy
+ */
+@NoRepositoryBean
+public interface ReactiveOrientdbRepository<T, ID> extends ReactiveSortingRepository<T, ID> {
+
+    /**
+     * Find a designated cluster's all classes
+     *
+     * @param clusterName
+     * @return
+     */
+    Flux<T> findAll(String clusterName);
+
+    /**
+     * Save entity to a designated cluster
+     *
+     * @param entity
+     * @param clusterName
+     * @param <S>
+     * @return
+     */
+    <S extends T> Mono<S> save(S entity, String clusterName);
+}
@@ -0,0 +1,149 @@
+package org.springframework.data.orientdb3.repository;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The changes of a bulk update, which sets the properties of all matched records with one command instead of loading
+ * and saving the entities. The properties are the names of the entity fields, they are mapped to the orientdb
+ * property names when the command is created.
+ *
+ * @author xxcxy
+ * @see OrientdbRepository#updateAll(Update)
+ */
+public class Update {
+
+    private final List<Assignment> assignments = new ArrayList<>();
+
+    /**
+     * Creates a new {@link Update} which sets the given property.
+     *
+     * @param property must not be {@literal null}.
+     * @param value    may be {@literal null}.
+     * @return
+     */
+    public static Update update(final String property, @Nullable final Object value) {
+        return new Update().set(property, value);
+    }
+
+    /**
+     * Sets a property to the given value.
+     *
+     * @param property must not be {@literal null}.
+     * @param value    may be {@literal null}.
+     * @return
+     */
+    public Update set(final String property, @Nullable final Object value) {
+        return add(property, false, value);
+    }
+
+    /**
+     * Increments a numeric property by the given value, a negative value decrements it.
+     *
+     * @param property must not be {@literal null}.
+     * @param value    must not be {@literal null}.
+     * @return
+     */
+    public Update inc(final String property, final Number value) {
+        Assert.notNull(value, "Value must not be null!");
+
+        return add(property, true, value);
+    }
+
+    /**
+     * Gets the assignments in the order they were added.
+     *
+     * @return
+     */
+    public List<Assignment> getAssignments() {
+        return Collections.unmodifiableList(assignments);
+    }
+
+    /**
+     * Adds a assignment.
+     *
+     * @param property
+     * @param increment
+     * @param value
+     * @return
+     */
+    private Update add(final String property, final boolean increment, @Nullable final Object value) {
+        Assert.hasText(property, "Property must not be empty!");
+
+        assignments.add(new Assignment(property, increment, value));
+        return this;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "Update " + assignments;
+    }
+
+    /**
+     * A property which is set or incremented by a {@link Update}.
+     */
+    public static final class Assignment {
+        private final String property;
+        private final boolean increment;
+        @Nullable
+        private final Object value;
+
+        /**
+         * Creates a new {@link Assignment}.
+         *
+         * @param property
+         * @param increment
+         * @param value
+         */
+        private Assignment(final String property, final boolean increment, @Nullable final Object value) {
+            this.property = property;
+            this.increment = increment;
+            this.value = value;
+        }
+
+        /**
+         * Gets the name of the entity field.
+         *
+         * @return
+         */
+        public String getProperty() {
+            return property;
+        }
+
+        /**
+         * Whether the value is added to the property instead of replacing it.
+         *
+         * @return
+         */
+        public boolean isIncrement() {
+            return increment;
+        }
+
+        /**
+         * Gets the value.
+         *
+         * @return
+         */
+        @Nullable
+        public Object getValue() {
+            return value;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            return property + (increment ? " += " : " = ") + value;
+        }
+    }
+}
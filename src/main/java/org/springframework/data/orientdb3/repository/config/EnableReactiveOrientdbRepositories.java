@@ -0,0 +1,101 @@
+package org.springframework.data.orientdb3.repository.config;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.orientdb3.repository.support.ReactiveOrientdbRepositoryFactoryBean;
+import org.springframework.data.repository.config.DefaultRepositoryBaseClass;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to enable reactive orientdb repositories. Will scan the package of the annotated configuration class for
+ * Spring Data repositories extending
+ * {@link org.springframework.data.orientdb3.repository.ReactiveOrientdbRepository} by default.
+ *
+ * @author xxcxy
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Import(ReactiveOrientdbRepositoriesRegistrar.class)
+public @interface EnableReactiveOrientdbRepositories {
+
+    /**
+     * Alias for the {@link #basePackages()} attribute. Allows for more concise annotation declarations e.g.:
+     * {@code @EnableReactiveOrientdbRepositories("org.my.pkg")} instead of
+     * {@code @EnableReactiveOrientdbRepositories(basePackages="org.my.pkg")}.
+     */
+    String[] value() default {};
+
+    /**
+     * Base packages to scan for annotated components. {@link #value()} is an alias for (and mutually exclusive with) this
+     * attribute. Use {@link #basePackageClasses()} for a type-safe alternative to String-based package names.
+     */
+    String[] basePackages() default {};
+
+    /**
+     * Type-safe alternative to {@link #basePackages()} for specifying the packages to scan for annotated components. The
+     * package of each class specified will be scanned. Consider creating a special no-op marker class or interface in
+     * each package that serves no purpose other than being referenced by this attribute.
+     */
+    Class<?>[] basePackageClasses() default {};
+
+    /**
+     * Specifies which types are eligible for component scanning. Further narrows the set of candidate components from
+     * everything in {@link #basePackages()} to everything in the base packages that matches the given filter or filters.
+     */
+    ComponentScan.Filter[] includeFilters() default {};
+
+    /**
+     * Specifies which types are not eligible for component scanning.
+     */
+    ComponentScan.Filter[] excludeFilters() default {};
+
+    /**
+     * Returns the postfix to be used when looking up custom repository implementations. Defaults to {@literal Impl}. So
+     * for a repository named {@code PersonRepository} the corresponding implementation class will be looked up scanning
+     * for {@code PersonRepositoryImpl}.
+     */
+    String repositoryImplementationPostfix() default "Impl";
+
+    /**
+     * Configures the location of where to find the Spring Data named queries properties file. Will default to
+     * {@code META-INFO/orientdb-named-queries.properties}.
+     */
+    String namedQueriesLocation() default "";
+
+    /**
+     * Returns the key of the {@link QueryLookupStrategy} to be used for lookup queries for query methods. Defaults to
+     * {@link org.springframework.data.repository.query.QueryLookupStrategy.Key#CREATE_IF_NOT_FOUND}.
+     */
+    QueryLookupStrategy.Key queryLookupStrategy() default QueryLookupStrategy.Key.CREATE_IF_NOT_FOUND;
+
+
+    Class<?> repositoryFactoryBeanClass() default ReactiveOrientdbRepositoryFactoryBean.class;
+
+    /**
+     * Configure the repository base class to be used to create repository proxies for this particular configuration.
+     *
+     * @return
+     */
+    Class<?> repositoryBaseClass() default DefaultRepositoryBaseClass.class;
+
+    /**
+     * Configures the name of the {@link org.springframework.data.orientdb3.support} bean definition
+     * to be used to create repositories discovered through this annotation. Defaults to {@code sessionFactory}.
+     */
+    String sessionFactoryRef() default "sessionFactory";
+
+    /**
+     * Configures whether nested repository-interfaces (e.g. defined as inner classes) should be discovered by the
+     * repositories infrastructure.
+     */
+    boolean considerNestedRepositories() default false;
+}
@@ -15,20 +15,16 @@
  */
 package org.springframework.data.orientdb3.repository.config;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.AbstractFactoryBean;
-import org.springframework.beans.factory.config.BeanDefinition;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.orientdb3.repository.QueryResult;
 import org.springframework.data.orientdb3.repository.mapping.OrientdbMappingContext;
+import org.springframework.data.orientdb3.support.EntityClassScanner;
 import org.springframework.data.orientdb3.support.IOrientdbConfig;
 import org.springframework.util.StringUtils;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -37,7 +33,6 @@ import java.util.Set;
  * @author xxcxy
  */
 public class OrientdbMappingContextFactoryBean extends AbstractFactoryBean<OrientdbMappingContext> {
-    private static final Logger LOG = LoggerFactory.getLogger(OrientdbMappingContextFactoryBean.class);
     private String projectionScanPackage;
 
     @Autowired
@@ -69,24 +64,12 @@ public class OrientdbMappingContextFactoryBean extends AbstractFactoryBean<Orien
     }
 
     /**
-     * Scans a package and find all specified classes.
+     * Finds the projection classes of a package, from the components index if the projections are indexed.
      *
      * @param scanPackage
      * @return
      */
     private Set<? extends Class<?>> getClasses(final String scanPackage) {
-        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
-        provider.addIncludeFilter(new AnnotationTypeFilter(QueryResult.class));
-        Set<BeanDefinition> beanDefinitionSet = provider.findCandidateComponents(scanPackage);
-        Set<Class<?>> entityClasses = new HashSet<>();
-        for (BeanDefinition beanDefinition : beanDefinitionSet) {
-            String beanClassName = beanDefinition.getBeanClassName();
-            try {
-                entityClasses.add(Class.forName(beanClassName));
-            } catch (ClassNotFoundException e) {
-                LOG.error("Create class: {}'s persistent info error: ", beanClassName, e);
-            }
-        }
-        return entityClasses;
+        return new LinkedHashSet<>(new EntityClassScanner(QueryResult.class).scan(scanPackage));
     }
 }
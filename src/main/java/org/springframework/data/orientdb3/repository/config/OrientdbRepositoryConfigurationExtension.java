@@ -14,6 +14,7 @@ import org.springframework.data.orientdb3.repository.EmbeddedEntity;
 import org.springframework.data.orientdb3.repository.OrientdbRepository;
 import org.springframework.data.orientdb3.repository.VertexEntity;
 import org.springframework.data.orientdb3.repository.support.CollectOrientdbIdParserPostProcessor;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformationHolder;
 import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
 import org.springframework.data.orientdb3.repository.support.OrientdbRepositoryFactoryBean;
 import org.springframework.data.orientdb3.repository.support.StringIdParser;
@@ -22,6 +23,7 @@ import org.springframework.data.repository.config.AnnotationRepositoryConfigurat
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.util.StringUtils;
 
 import java.lang.annotation.Annotation;
@@ -45,9 +47,10 @@ public class OrientdbRepositoryConfigurationExtension extends RepositoryConfigur
     /**
      * See {@link AbstractBeanDefinition#INFER_METHOD}.
      */
-    private static final String DEFAULT_SESSION_FACTORY_BEAN_NAME = "sessionFactory";
-    private static final String DEFAULT_MAPPING_CONTEXT_BEAN_NAME = "mappingContext";
-    private static final String DEFAULT_ID_PARSER_HOLDER = "orientdbIdParserHolder";
+    static final String DEFAULT_SESSION_FACTORY_BEAN_NAME = "sessionFactory";
+    static final String DEFAULT_MAPPING_CONTEXT_BEAN_NAME = "mappingContext";
+    static final String DEFAULT_ID_PARSER_HOLDER = "orientdbIdParserHolder";
+    static final String DEFAULT_ENTITY_INFORMATION_HOLDER = "orientdbEntityInformationHolder";
     private static final String DEFAULT_TRANSACTION_MANAGER_BEAN_NAME = "transactionManager";
     private static final String ENABLE_DEFAULT_TRANSACTIONS_ATTRIBUTE = "enableDefaultTransactions";
     private static final String DEFAULT_DB_CONFIG_BEAN_NAME = "orientdbConfig";
@@ -98,6 +101,15 @@ public class OrientdbRepositoryConfigurationExtension extends RepositoryConfigur
         return Collections.singleton(OrientdbRepository.class);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected boolean useRepositoryConfiguration(final RepositoryMetadata metadata) {
+        return !metadata.isReactiveRepository();
+    }
+
     /*
      * (non-Javadoc)
      * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#postProcess(org.springframework.beans.factory.support.BeanDefinitionBuilder, org.springframework.data.repository.config.RepositoryConfigurationSource)
@@ -110,6 +122,7 @@ public class OrientdbRepositoryConfigurationExtension extends RepositoryConfigur
         builder.addPropertyReference("sessionFactory", DEFAULT_SESSION_FACTORY_BEAN_NAME);
         builder.addPropertyReference("mappingContext", DEFAULT_MAPPING_CONTEXT_BEAN_NAME);
         builder.addPropertyReference("orientdbIdParserHolder", DEFAULT_ID_PARSER_HOLDER);
+        builder.addPropertyReference("orientdbEntityInformationHolder", DEFAULT_ENTITY_INFORMATION_HOLDER);
     }
 
     /*
@@ -159,6 +172,10 @@ public class OrientdbRepositoryConfigurationExtension extends RepositoryConfigur
                 .setAutowireMode(AUTOWIRE_BY_TYPE)
                 .addConstructorArgValue(new StringIdParser())
                 .getBeanDefinition(), registry, DEFAULT_ID_PARSER_HOLDER, source);
+        registerIfNotAlreadyRegistered(() -> BeanDefinitionBuilder
+                .rootBeanDefinition(OrientdbEntityInformationHolder.class)
+                .addConstructorArgReference(DEFAULT_ID_PARSER_HOLDER)
+                .getBeanDefinition(), registry, DEFAULT_ENTITY_INFORMATION_HOLDER, source);
         registerLazyIfNotAlreadyRegistered(
                 () -> new RootBeanDefinition(CollectOrientdbIdParserPostProcessor.class), registry,
                 "collectOrientdbIdParserPostProcessor", source);
@@ -0,0 +1,33 @@
+package org.springframework.data.orientdb3.repository.config;
+
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * {@link ImportBeanDefinitionRegistrar} to enable {@link EnableReactiveOrientdbRepositories} annotation.
+ *
+ * @author xxcxy
+ */
+public class ReactiveOrientdbRepositoriesRegistrar extends RepositoryBeanDefinitionRegistrarSupport {
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport#getAnnotation()
+     */
+    @Override
+    protected Class<? extends Annotation> getAnnotation() {
+        return EnableReactiveOrientdbRepositories.class;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport#getExtension()
+     */
+    @Override
+    protected RepositoryConfigurationExtension getExtension() {
+        return new ReactiveOrientdbRepositoryConfigurationExtension();
+    }
+}
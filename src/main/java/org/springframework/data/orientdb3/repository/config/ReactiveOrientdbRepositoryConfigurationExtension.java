@@ -0,0 +1,94 @@
+package org.springframework.data.orientdb3.repository.config;
+
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.data.orientdb3.repository.ReactiveOrientdbRepository;
+import org.springframework.data.orientdb3.repository.support.ReactiveOrientdbRepositoryFactoryBean;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.config.RepositoryConfigurationSource;
+import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Reactive Orientdb specific configuration extension parsing custom attributes from the
+ * {@link EnableReactiveOrientdbRepositories} annotation. The reactive repositories do not take part in transactions.
+ *
+ * @author xxcxy
+ */
+public class ReactiveOrientdbRepositoryConfigurationExtension extends OrientdbRepositoryConfigurationExtension {
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#getModuleName()
+     */
+    @Override
+    public String getModuleName() {
+        return "Reactive Orientdb";
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#getModulePrefix()
+     */
+    @Override
+    protected String getModulePrefix() {
+        return "orientdb";
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtension#getRepositoryFactoryBeanClassName()
+     */
+    @Override
+    public String getRepositoryFactoryBeanClassName() {
+        return ReactiveOrientdbRepositoryFactoryBean.class.getName();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#getIdentifyingTypes()
+     */
+    @Override
+    protected Collection<Class<?>> getIdentifyingTypes() {
+        return Collections.singleton(ReactiveOrientdbRepository.class);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected boolean useRepositoryConfiguration(final RepositoryMetadata metadata) {
+        return metadata.isReactiveRepository();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#postProcess(org.springframework.beans.factory.support.BeanDefinitionBuilder, org.springframework.data.repository.config.RepositoryConfigurationSource)
+     */
+    @Override
+    public void postProcess(BeanDefinitionBuilder builder, RepositoryConfigurationSource source) {
+        builder.addPropertyReference("sessionFactory", DEFAULT_SESSION_FACTORY_BEAN_NAME);
+        builder.addPropertyReference("mappingContext", DEFAULT_MAPPING_CONTEXT_BEAN_NAME);
+        builder.addPropertyReference("orientdbIdParserHolder", DEFAULT_ID_PARSER_HOLDER);
+        builder.addPropertyReference("orientdbEntityInformationHolder", DEFAULT_ENTITY_INFORMATION_HOLDER);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#postProcess(org.springframework.beans.factory.support.BeanDefinitionBuilder, org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource)
+     */
+    @Override
+    public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#postProcess(org.springframework.beans.factory.support.BeanDefinitionBuilder, org.springframework.data.repository.config.XmlRepositoryConfigurationSource)
+     */
+    @Override
+    public void postProcess(BeanDefinitionBuilder builder, XmlRepositoryConfigurationSource config) {
+    }
+}
@@ -20,8 +20,11 @@ import org.springframework.data.orientdb3.support.OrientdbEntityManager;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.concurrent.CompletableToListenableFutureAdapter;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import java.util.EmptyStackException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Abstract base class to implement {@link RepositoryQuery}s.
@@ -71,9 +74,29 @@ public abstract class AbstractOrientdbRepositoryQuery implements RepositoryQuery
             throw new IllegalArgumentException("Not enough arguments for stringQuery " + getQueryMethod().getName());
         }
 
+        if (queryMethod.isAsyncQuery()) {
+            return executeAsync(stringQuery, parameters);
+        }
         return doExecute(stringQuery, parameters, queryMethod.getEntityInformation());
     }
 
+    /**
+     * Executes a query with the {@link org.springframework.data.orientdb3.support.AsyncSessionExecutor} and returns
+     * the future declared by the method.
+     *
+     * @param stringQuery must not be {@literal null}.
+     * @param parameters  must not be {@literal null}.
+     * @return
+     */
+    private Object executeAsync(final StringQuery stringQuery, final Object[] parameters) {
+        CompletableFuture<Object> future = em.doAsync(() -> queryMethod.wrapAsyncResult(
+                doExecute(stringQuery, parameters, queryMethod.getEntityInformation())));
+        if (ListenableFuture.class.isAssignableFrom(queryMethod.getReturnType())) {
+            return new CompletableToListenableFutureAdapter<>(future);
+        }
+        return future;
+    }
+
     /**
      * Executes a query.
      *
@@ -101,8 +124,8 @@ public abstract class AbstractOrientdbRepositoryQuery implements RepositoryQuery
      * @return
      */
     protected OrientdbQueryExecution getExecution(ParameterAccessor accessor) {
-        if (queryMethod.isStreamQuery()) {
-            return new OrientdbQueryExecution.CollectionExecution(em, accessor);
+        if (queryMethod.isStreamQuery() || queryMethod.isReactiveCollectionQuery()) {
+            return new OrientdbQueryExecution.StreamExecution(em, accessor);
         }
         if (queryMethod.isModifyingQuery()) {
             return new OrientdbQueryExecution.ModifyingExecution(em, accessor);
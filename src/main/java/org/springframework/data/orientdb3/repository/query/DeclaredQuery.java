@@ -50,7 +50,7 @@ public class DeclaredQuery extends AbstractOrientdbRepositoryQuery {
                                final OrientdbEntityInformation<?, ?> entityInformation) {
         ParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
         ResultProcessor processor = queryMethod.getResultProcessor().withDynamicProjection(accessor);
-        Object results = getExecution(accessor).execute(params,
+        Object results = getExecution(accessor).withFetchPlan(queryMethod.getFetchPlan()).execute(params,
                 processor.getReturnedType().getReturnedType(), queryMethod.getEntityInformation());
         return processor.processResult(results);
     }
@@ -0,0 +1,213 @@
+package org.springframework.data.orientdb3.repository.query;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.OElement;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb3.repository.KeysetPageable;
+import org.springframework.data.orientdb3.repository.KeysetSlice;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.data.orientdb3.repository.support.PropertyHandler;
+import org.springframework.data.orientdb3.support.EntityProxyInterface;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The sql fragments of a {@link KeysetPageable}. The records are ordered by the sort properties and then by @rid, the
+ * condition selects the records after the continuation key.
+ *
+ * @author xxcxy
+ */
+public class KeysetQuery {
+
+    private static final String RID = "@rid";
+
+    private final KeysetPageable pageable;
+    private final List<String> properties = new ArrayList<>();
+    private final List<Sort.Direction> directions = new ArrayList<>();
+    private final List<Object> parameters = new ArrayList<>();
+    @Nullable
+    private final String condition;
+
+    /**
+     * Creates a new {@link KeysetQuery}.
+     *
+     * @param pageable          must not be {@literal null}.
+     * @param entityInformation must not be {@literal null}.
+     */
+    public KeysetQuery(final KeysetPageable pageable, final OrientdbEntityInformation<?, ?> entityInformation) {
+        this.pageable = pageable;
+        for (Sort.Order order : pageable.getSort()) {
+            PropertyHandler propertyHandler = entityInformation.getPropertyHandler(order.getProperty());
+            properties.add(propertyHandler == null ? order.getProperty() : propertyHandler.getPropertyName());
+            directions.add(order.getDirection());
+        }
+        properties.add(RID);
+        directions.add(Sort.Direction.ASC);
+        this.condition = createCondition(pageable.getContinuationKey());
+    }
+
+    /**
+     * Creates the condition which selects the records after the continuation key, e.g. for the order "a, @rid":
+     * (a > ?) or (a = ? and @rid > ?). Orientdb orders null before all values, so a null value of the key is
+     * compared by "is null" and "is not null".
+     *
+     * @param continuationKey
+     * @return
+     */
+    @Nullable
+    private String createCondition(@Nullable final Object[] continuationKey) {
+        if (continuationKey == null) {
+            return null;
+        }
+        if (continuationKey.length != properties.size()) {
+            throw new IllegalArgumentException(String.format("The continuation key must have %d values but has %d!",
+                    properties.size(), continuationKey.length));
+        }
+        List<String> orParts = new ArrayList<>();
+        for (int i = 0; i < properties.size(); i++) {
+            Object value = getKeyValue(continuationKey, i);
+            if (value == null && !directions.get(i).isAscending()) {
+                // Nothing is after null in a descending order
+                continue;
+            }
+            List<String> andParts = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                andParts.add(createEqualCondition(properties.get(j), getKeyValue(continuationKey, j)));
+            }
+            andParts.add(createAfterCondition(properties.get(i), directions.get(i), value));
+            orParts.add(andParts.stream().collect(joining(" and ", "(", ")")));
+        }
+        return orParts.stream().collect(joining(" or "));
+    }
+
+    /**
+     * Creates the condition which selects the records with the same value.
+     *
+     * @param property
+     * @param value
+     * @return
+     */
+    private String createEqualCondition(final String property, @Nullable final Object value) {
+        if (value == null) {
+            return property + " is null";
+        }
+        parameters.add(value);
+        return property + " = ?";
+    }
+
+    /**
+     * Creates the condition which selects the records after the value in the given direction, the value must not be
+     * {@literal null} in a descending order.
+     *
+     * @param property
+     * @param direction
+     * @param value
+     * @return
+     */
+    private String createAfterCondition(final String property, final Sort.Direction direction,
+                                        @Nullable final Object value) {
+        if (value == null) {
+            return property + " is not null";
+        }
+        parameters.add(value);
+        if (direction.isAscending()) {
+            return property + " > ?";
+        }
+        return "(" + property + " < ? or " + property + " is null)";
+    }
+
+    /**
+     * Gets a value of the continuation key, the record id can also be given as a string.
+     *
+     * @param continuationKey
+     * @param index
+     * @return
+     */
+    @Nullable
+    private Object getKeyValue(final Object[] continuationKey, final int index) {
+        Object value = continuationKey[index];
+        if (index == properties.size() - 1 && value instanceof String) {
+            return new ORecordId((String) value);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the condition which selects the records after the continuation key, {@literal null} for the first slice.
+     *
+     * @return
+     */
+    @Nullable
+    public String getCondition() {
+        return condition;
+    }
+
+    /**
+     * Gets the parameters of the condition.
+     *
+     * @return
+     */
+    public List<Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Gets the order by clause.
+     *
+     * @return
+     */
+    public String getOrderBy() {
+        List<String> orders = new ArrayList<>();
+        for (int i = 0; i < properties.size(); i++) {
+            orders.add(properties.get(i) + " " + directions.get(i));
+        }
+        return orders.stream().collect(joining(", ", " order by ", ""));
+    }
+
+    /**
+     * Gets the number of records to fetch, one more than the page size to know whether there is a next slice.
+     *
+     * @return
+     */
+    public int getLimit() {
+        return pageable.getPageSize() + 1;
+    }
+
+    /**
+     * Creates a {@link KeysetSlice} from the fetched records.
+     *
+     * @param content the fetched records, may have one more record than the page size.
+     * @param <T>
+     * @return
+     */
+    public <T> KeysetSlice<T> createSlice(final List<T> content) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        List<T> sliceContent = hasNext ? content.subList(0, pageable.getPageSize()) : content;
+        Object[] continuationKey = sliceContent.isEmpty() ? null
+                : getContinuationKey(sliceContent.get(sliceContent.size() - 1));
+        return new KeysetSlice<>(sliceContent, pageable, hasNext, continuationKey);
+    }
+
+    /**
+     * Gets the continuation key of a record.
+     *
+     * @param entity must be a loaded entity.
+     * @return
+     */
+    private Object[] getContinuationKey(final Object entity) {
+        if (!(entity instanceof EntityProxyInterface)) {
+            throw new IllegalArgumentException("Keyset pagination needs the query to return loaded entities!");
+        }
+        OElement oElement = ((EntityProxyInterface) entity).findOElement();
+        Object[] key = new Object[properties.size()];
+        for (int i = 0; i < properties.size() - 1; i++) {
+            key[i] = oElement.getProperty(properties.get(i));
+        }
+        key[properties.size() - 1] = oElement.getIdentity().copy();
+        return key;
+    }
+}
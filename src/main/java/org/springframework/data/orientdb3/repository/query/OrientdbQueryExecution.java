@@ -19,6 +19,7 @@ import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.orientdb3.repository.KeysetPageable;
 import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
 import org.springframework.data.orientdb3.support.OrientdbEntityManager;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -26,6 +27,7 @@ import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.util.Assert;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Classes intended to pilot query execution according to the type of the query. The type of the query is determined by
@@ -37,6 +39,7 @@ import java.util.List;
 public abstract class OrientdbQueryExecution {
     private final OrientdbEntityManager entityManager;
     private final ParameterAccessor accessor;
+    private String[] fetchPlan = new String[0];
 
     /**
      * Creates a new {@ling OrientdbQueryExecution}.
@@ -49,6 +52,17 @@ public abstract class OrientdbQueryExecution {
         this.accessor = accessor;
     }
 
+    /**
+     * Sets the property paths which are loaded with the queried entities.
+     *
+     * @param fetchPlan must not be {@literal null}.
+     * @return
+     */
+    public OrientdbQueryExecution withFetchPlan(final String[] fetchPlan) {
+        this.fetchPlan = fetchPlan;
+        return this;
+    }
+
     /**
      * Executes the given {@link StringQuery} with the given {@link OrientdbEntityManager}.
      *
@@ -74,12 +88,30 @@ public abstract class OrientdbQueryExecution {
     protected List<?> doQuery(final String sql, final Object[] parameters, final Class<?> type,
                               final OrientdbEntityInformation<?, ?> entityInformation) {
         if (type.equals(entityInformation.getJavaType())) {
-            return entityManager.doQuery(sql, parameters, entityInformation);
+            return entityManager.doQuery(sql, parameters, entityInformation, fetchPlan);
         } else {
             return entityManager.doQuery(sql, parameters, type);
         }
     }
 
+    /**
+     * Executes the given sql with the given {@link OrientdbEntityManager} and returns a lazy {@link Stream}.
+     *
+     * @param sql               must not be {@literal null}.
+     * @param parameters        must not be {@literal null}.
+     * @param type              must not be {@literal null}.
+     * @param entityInformation must not be {@literal null}.
+     * @return
+     */
+    protected Stream<?> doQueryStream(final String sql, final Object[] parameters, final Class<?> type,
+                                      final OrientdbEntityInformation<?, ?> entityInformation) {
+        if (type.equals(entityInformation.getJavaType())) {
+            return entityManager.doQueryStream(sql, parameters, entityInformation);
+        } else {
+            return entityManager.doQueryStream(sql, parameters, type);
+        }
+    }
+
     /**
      * Method to implement {@link OrientdbQueryExecution} executions by single enum values.
      *
@@ -155,6 +187,34 @@ public abstract class OrientdbQueryExecution {
         }
     }
 
+    /**
+     * Executes the query to return a {@link Stream} of entities which is backed by the open result set.
+     */
+    static final class StreamExecution extends OrientdbQueryExecution {
+
+        /**
+         * Creates a new {@link StreamExecution}.
+         *
+         * @param entityManager
+         * @param accessor
+         */
+        StreamExecution(OrientdbEntityManager entityManager, ParameterAccessor accessor) {
+            super(entityManager, accessor);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see OrientdbQueryExecution.doExecute()
+         */
+        @Override
+        protected Object doExecute(final OrientdbEntityManager em, final ParameterAccessor accessor,
+                                   final StringQuery stringQuery, final Class<?> type,
+                                   final OrientdbEntityInformation<?, ?> entityInformation) {
+            return doQueryStream(stringQuery.getSql(accessor.getSort()),
+                    stringQuery.getParameters(), type, entityInformation);
+        }
+    }
+
     /**
      * Executes the {@link OrientdbQueryExecution} to return a {@link org.springframework.data.domain.Page} of
      * entities.
@@ -178,15 +238,18 @@ public abstract class OrientdbQueryExecution {
         protected Object doExecute(final OrientdbEntityManager em, final ParameterAccessor accessor,
                                    final StringQuery stringQuery, final Class<?> type,
                                    final OrientdbEntityInformation<?, ?> entityInformation) {
+            // The paging adds the skip and limit parameters, the count must not use them.
+            Object[] countParameters = stringQuery.getParameters();
             return PageableExecutionUtils.getPage(doQuery(stringQuery.getSql(accessor.getPageable(), false),
                     stringQuery.getParameters(), type, entityInformation),
-                    accessor.getPageable(), () -> count(em, stringQuery));
+                    accessor.getPageable(), () -> count(em, stringQuery, countParameters));
         }
 
-        private Long count(final OrientdbEntityManager em, final StringQuery stringQuery) {
+        private Long count(final OrientdbEntityManager em, final StringQuery stringQuery,
+                           final Object[] countParameters) {
             Assert.hasText(stringQuery.getCountQuery(), "Must specify a count stringQuery to get pagination info.");
 
-            return em.doQueryCount(stringQuery.getCountQuery(), stringQuery.getParameters());
+            return em.doQueryCountCached(stringQuery.getCountQuery(), countParameters);
         }
     }
 
@@ -240,6 +303,11 @@ public abstract class OrientdbQueryExecution {
                                    final StringQuery stringQuery, final Class<?> type,
                                    final OrientdbEntityInformation<?, ?> entityInformation) {
             Pageable pageable = accessor.getPageable();
+            if (pageable instanceof KeysetPageable) {
+                KeysetQuery keysetQuery = new KeysetQuery((KeysetPageable) pageable, entityInformation);
+                return keysetQuery.createSlice(doQuery(stringQuery.getSql(keysetQuery),
+                        stringQuery.getParameters(), type, entityInformation));
+            }
 
             List<Object> resultList = (List<Object>) doQuery(stringQuery.getSql(pageable, true),
                     stringQuery.getParameters(), type, entityInformation);
@@ -251,6 +319,84 @@ public abstract class OrientdbQueryExecution {
         }
     }
 
+    /**
+     * Executes the query to check whether there is any result, the result is not converted to entities.
+     */
+    static final class ExistsExecution extends OrientdbQueryExecution {
+        /**
+         * Creates a new {@link ExistsExecution}.
+         *
+         * @param entityManager
+         * @param accessor
+         */
+        ExistsExecution(OrientdbEntityManager entityManager, ParameterAccessor accessor) {
+            super(entityManager, accessor);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see OrientdbQueryExecution.doExecute()
+         */
+        @Override
+        protected Object doExecute(final OrientdbEntityManager em, final ParameterAccessor accessor,
+                                   final StringQuery stringQuery, final Class<?> type,
+                                   final OrientdbEntityInformation<?, ?> entityInformation) {
+            return em.doQueryExists(stringQuery.getSql(), stringQuery.getParameters());
+        }
+    }
+
+    /**
+     * Executes a count query.
+     */
+    static final class CountExecution extends OrientdbQueryExecution {
+        /**
+         * Creates a new {@link CountExecution}.
+         *
+         * @param entityManager
+         * @param accessor
+         */
+        CountExecution(OrientdbEntityManager entityManager, ParameterAccessor accessor) {
+            super(entityManager, accessor);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see OrientdbQueryExecution.doExecute()
+         */
+        @Override
+        protected Object doExecute(final OrientdbEntityManager em, final ParameterAccessor accessor,
+                                   final StringQuery stringQuery, final Class<?> type,
+                                   final OrientdbEntityInformation<?, ?> entityInformation) {
+            return em.doQueryCount(stringQuery.getSql(), stringQuery.getParameters());
+        }
+    }
+
+    /**
+     * Executes a derived delete or update query with one command, the changed records are not loaded.
+     */
+    static final class CommandExecution extends OrientdbQueryExecution {
+        /**
+         * Creates a new {@link CommandExecution}.
+         *
+         * @param entityManager
+         * @param accessor
+         */
+        CommandExecution(OrientdbEntityManager entityManager, ParameterAccessor accessor) {
+            super(entityManager, accessor);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see OrientdbQueryExecution.doExecute()
+         */
+        @Override
+        protected Object doExecute(final OrientdbEntityManager em, final ParameterAccessor accessor,
+                                   final StringQuery stringQuery, final Class<?> type,
+                                   final OrientdbEntityInformation<?, ?> entityInformation) {
+            return em.doCommandCount(stringQuery.getSql(), stringQuery.getParameters());
+        }
+    }
+
     /**
      * Executes a modifying query such as an update, insert or delete.
      */
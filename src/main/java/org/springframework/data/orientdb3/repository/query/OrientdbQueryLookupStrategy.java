@@ -1,6 +1,7 @@
 package org.springframework.data.orientdb3.repository.query;
 
 import org.springframework.data.orientdb3.repository.Query;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformationHolder;
 import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
 import org.springframework.data.orientdb3.support.OrientdbEntityManager;
 import org.springframework.data.projection.ProjectionFactory;
@@ -35,17 +36,18 @@ public final class OrientdbQueryLookupStrategy {
     private abstract static class AbstractQueryLookupStrategy implements QueryLookupStrategy {
 
         private final OrientdbEntityManager em;
-        private final OrientdbIdParserHolder orientdbIdParserHolder;
+        private final OrientdbEntityInformationHolder entityInformationHolder;
 
         /**
          * Creates a new {@link AbstractQueryLookupStrategy}.
          *
          * @param em
+         * @param entityInformationHolder
          */
         public AbstractQueryLookupStrategy(final OrientdbEntityManager em,
-                                           final OrientdbIdParserHolder orientdbIdParserHolder) {
+                                           final OrientdbEntityInformationHolder entityInformationHolder) {
             this.em = em;
-            this.orientdbIdParserHolder = orientdbIdParserHolder;
+            this.entityInformationHolder = entityInformationHolder;
         }
 
         /*
@@ -55,7 +57,7 @@ public final class OrientdbQueryLookupStrategy {
         @Override
         public final RepositoryQuery resolveQuery(final Method method, final RepositoryMetadata metadata,
                                                   final ProjectionFactory factory, final NamedQueries namedQueries) {
-            return resolveQuery(new OrientdbQueryMethod(method, metadata, factory, orientdbIdParserHolder),
+            return resolveQuery(new OrientdbQueryMethod(method, metadata, factory, entityInformationHolder),
                     em, namedQueries);
         }
 
@@ -83,10 +85,11 @@ public final class OrientdbQueryLookupStrategy {
          * Creates a new {@link CreateQueryLookupStrategy}.
          *
          * @param em
-         * @param orientdbIdParserHolder
+         * @param entityInformationHolder
          */
-        public CreateQueryLookupStrategy(final OrientdbEntityManager em, final OrientdbIdParserHolder orientdbIdParserHolder) {
-            super(em, orientdbIdParserHolder);
+        public CreateQueryLookupStrategy(final OrientdbEntityManager em,
+                                         final OrientdbEntityInformationHolder entityInformationHolder) {
+            super(em, entityInformationHolder);
         }
 
         /*
@@ -110,11 +113,11 @@ public final class OrientdbQueryLookupStrategy {
          * Creates a new {@link DeclaredQueryLookupStrategy}.
          *
          * @param em
-         * @param orientdbIdParserHolder
+         * @param entityInformationHolder
          */
         public DeclaredQueryLookupStrategy(final OrientdbEntityManager em,
-                                           final OrientdbIdParserHolder orientdbIdParserHolder) {
-            super(em, orientdbIdParserHolder);
+                                           final OrientdbEntityInformationHolder entityInformationHolder) {
+            super(em, entityInformationHolder);
         }
 
         /*
@@ -143,14 +146,14 @@ public final class OrientdbQueryLookupStrategy {
          * Creates a new {@link CreateIfNotFoundQueryLookupStrategy}.
          *
          * @param em
-         * @param orientdbIdParserHolder
+         * @param entityInformationHolder
          */
         public CreateIfNotFoundQueryLookupStrategy(final OrientdbEntityManager em,
-                                                   final OrientdbIdParserHolder orientdbIdParserHolder) {
+                                                   final OrientdbEntityInformationHolder entityInformationHolder) {
 
-            super(em, orientdbIdParserHolder);
-            this.createStrategy = new CreateQueryLookupStrategy(em, orientdbIdParserHolder);
-            this.lookupStrategy = new DeclaredQueryLookupStrategy(em, orientdbIdParserHolder);
+            super(em, entityInformationHolder);
+            this.createStrategy = new CreateQueryLookupStrategy(em, entityInformationHolder);
+            this.lookupStrategy = new DeclaredQueryLookupStrategy(em, entityInformationHolder);
         }
 
         /*
@@ -175,22 +178,39 @@ public final class OrientdbQueryLookupStrategy {
      * @param em                        must not be {@literal null}.
      * @param key                       may be {@literal null}.
      * @param evaluationContextProvider must not be {@literal null}.
+     * @param orientdbIdParserHolder    must not be {@literal null}.
      * @return
      */
     public static QueryLookupStrategy create(final OrientdbEntityManager em, final Key key,
                                              final QueryMethodEvaluationContextProvider evaluationContextProvider,
                                              final OrientdbIdParserHolder orientdbIdParserHolder) {
+        return create(em, key, evaluationContextProvider, new OrientdbEntityInformationHolder(orientdbIdParserHolder));
+    }
+
+    /**
+     * Creates a {@link QueryLookupStrategy} for the given {@link OrientdbEntityManager} and {@link Key} which resolves
+     * the entity information from the given {@link OrientdbEntityInformationHolder}.
+     *
+     * @param em                        must not be {@literal null}.
+     * @param key                       may be {@literal null}.
+     * @param evaluationContextProvider must not be {@literal null}.
+     * @param entityInformationHolder   must not be {@literal null}.
+     * @return
+     */
+    public static QueryLookupStrategy create(final OrientdbEntityManager em, final Key key,
+                                             final QueryMethodEvaluationContextProvider evaluationContextProvider,
+                                             final OrientdbEntityInformationHolder entityInformationHolder) {
 
         Assert.notNull(em, "EntityManager must not be null!");
         Assert.notNull(evaluationContextProvider, "EvaluationContextProvider must not be null!");
 
         switch (key != null ? key : Key.CREATE_IF_NOT_FOUND) {
             case CREATE:
-                return new CreateQueryLookupStrategy(em, orientdbIdParserHolder);
+                return new CreateQueryLookupStrategy(em, entityInformationHolder);
             case USE_DECLARED_QUERY:
-                return new DeclaredQueryLookupStrategy(em, orientdbIdParserHolder);
+                return new DeclaredQueryLookupStrategy(em, entityInformationHolder);
             case CREATE_IF_NOT_FOUND:
-                return new CreateIfNotFoundQueryLookupStrategy(em, orientdbIdParserHolder);
+                return new CreateIfNotFoundQueryLookupStrategy(em, entityInformationHolder);
             default:
                 throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
         }
@@ -1,21 +1,28 @@
 package org.springframework.data.orientdb3.repository.query;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.orientdb3.repository.FetchPlan;
 import org.springframework.data.orientdb3.repository.Modifying;
 import org.springframework.data.orientdb3.repository.Query;
 import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformationHolder;
 import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
+import org.springframework.data.orientdb3.repository.support.PropertyHandler;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.util.ReactiveWrappers;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.Future;
 
 import static java.lang.String.format;
 
@@ -29,6 +36,7 @@ public class OrientdbQueryMethod extends QueryMethod {
     private final Method method;
 
     private final Modifying modifying;
+    private final String[] fetchPlan;
     private final OrientdbEntityInformation<?, ?> entityInformation;
 
     /**
@@ -41,17 +49,39 @@ public class OrientdbQueryMethod extends QueryMethod {
      */
     public OrientdbQueryMethod(final Method method, final RepositoryMetadata metadata,
                                final ProjectionFactory factory, final OrientdbIdParserHolder orientdbIdParserHolder) {
+        this(method, metadata, factory, new OrientdbEntityInformationHolder(orientdbIdParserHolder));
+    }
+
+    /**
+     * Creates a {@link OrientdbQueryMethod} which resolves the entity information from the given
+     * {@link OrientdbEntityInformationHolder}.
+     *
+     * @param method                  must not be {@literal null}
+     * @param metadata                must not be {@literal null}
+     * @param factory                 must not be {@literal null}
+     * @param entityInformationHolder must not be {@literal null}
+     */
+    public OrientdbQueryMethod(final Method method, final RepositoryMetadata metadata,
+                               final ProjectionFactory factory,
+                               final OrientdbEntityInformationHolder entityInformationHolder) {
 
         super(method, metadata, factory);
 
         Assert.notNull(method, "Method must not be null!");
 
         this.method = method;
-        this.entityInformation = new OrientdbEntityInformation<>(getDomainClass(), orientdbIdParserHolder);
+        this.entityInformation = entityInformationHolder.getEntityInformation(getDomainClass());
         this.modifying = AnnotatedElementUtils.findMergedAnnotation(method, Modifying.class);
+        FetchPlan fetchPlanAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, FetchPlan.class);
+        this.fetchPlan = fetchPlanAnnotation == null ? new String[0] : fetchPlanAnnotation.value();
+        for (String path : fetchPlan) {
+            assertFetchPath(entityInformation, path);
+        }
 
         Assert.isTrue(!(isModifyingQuery() && getParameters().hasSpecialParameter()),
                 format("Modifying method must not contain %s!", Parameters.TYPES));
+        Assert.isTrue(!(isAsyncQuery() && isStreamQuery()),
+                format("Asynchronous method %s must not return a Stream!", method.getName()));
     }
 
     /*
@@ -74,6 +104,91 @@ public class OrientdbQueryMethod extends QueryMethod {
         return modifying != null;
     }
 
+    /**
+     * Returns whether the method returns a {@link Future}, the query is executed asynchronously then.
+     *
+     * @return
+     */
+    public boolean isAsyncQuery() {
+        return Future.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Returns whether the method returns a reactive wrapper, e.g. a {@link reactor.core.publisher.Flux} or a
+     * {@link reactor.core.publisher.Mono}.
+     *
+     * @return
+     */
+    public boolean isReactiveQuery() {
+        return ReactiveWrappers.supports(method.getReturnType());
+    }
+
+    /**
+     * Returns whether the method returns a reactive wrapper of many elements, the result is emitted from a
+     * {@link java.util.stream.Stream} then.
+     *
+     * @return
+     */
+    boolean isReactiveCollectionQuery() {
+        return isReactiveQuery() && ReactiveWrappers.isMultiValueType(method.getReturnType());
+    }
+
+    /**
+     * Returns whether the finder will actually return a collection of entities. A {@link reactor.core.publisher.Mono}
+     * is decided here, because it is a {@link org.reactivestreams.Publisher} and may be taken for a collection.
+     *
+     * @return
+     */
+    @Override
+    public boolean isCollectionQuery() {
+        if (isReactiveQuery()) {
+            return isReactiveCollectionQuery();
+        }
+        return super.isCollectionQuery();
+    }
+
+    /**
+     * Wraps the result of a asynchronous query into a {@link Optional} if the future of the method is declared with
+     * a optional result.
+     *
+     * @param result
+     * @return
+     */
+    @Nullable
+    Object wrapAsyncResult(@Nullable final Object result) {
+        if (Optional.class.equals(ResolvableType.forMethodReturnType(method).getGeneric(0).resolve())) {
+            return Optional.ofNullable(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the property paths of the {@link FetchPlan}, empty if the method has no fetch plan.
+     *
+     * @return
+     */
+    public String[] getFetchPlan() {
+        return fetchPlan;
+    }
+
+    /**
+     * Asserts that every field of a fetch plan path exists.
+     *
+     * @param info
+     * @param path
+     */
+    private void assertFetchPath(final OrientdbEntityInformation<?, ?> info, final String path) {
+        int dot = path.indexOf('.');
+        String fieldName = dot < 0 ? path : path.substring(0, dot);
+        PropertyHandler propertyHandler = info.getPropertyHandler(fieldName);
+        Assert.notNull(propertyHandler, format("Fetch plan property %s not found in %s!", fieldName,
+                info.getJavaType().getName()));
+        if (dot >= 0) {
+            assertFetchPath(info.getRelatedEntityInformation(propertyHandler.getElementType()),
+                    path.substring(dot + 1));
+        }
+    }
+
     /**
      * Returns the actual return type of the method.
      *
@@ -16,7 +16,12 @@
 package org.springframework.data.orientdb3.repository.query;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.orientdb3.repository.Update;
 import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.data.orientdb3.repository.support.PropertyHandler;
+import org.springframework.data.orientdb3.repository.util.LruCache;
 import org.springframework.data.orientdb3.support.OrientdbEntityManager;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -25,11 +30,15 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static java.util.stream.Collectors.joining;
 
@@ -40,7 +49,20 @@ import static java.util.stream.Collectors.joining;
  */
 public class PartTreeOrientdbQuery extends AbstractOrientdbRepositoryQuery {
 
+    private static final int MAX_RENDERED_QUERIES = 32;
+    private static final Pattern UPDATE_PATTERN = Pattern.compile("^update(\\p{Lu}.*?By\\p{Lu}.*)$");
+    private static final Pattern UPDATE_BY_PATTERN = Pattern.compile("By(?=\\p{Lu})");
+    // The PartTree parses no limit of a delete, e.g. deleteFirstByName is a delete of all records with the name
+    private static final Pattern LIMITING_DELETE_PATTERN = Pattern.compile(
+            "^(delete|remove)(Distinct)?(First|Top)(\\d*)?(\\p{Lu}.*?)??By");
+
     private final PartTree tree;
+    @Nullable
+    private final Update update;
+    private final List<List<PartTemplate>> whereTemplate;
+    @Nullable
+    private final String[] invariantQueries;
+    private final LruCache<List<Object>, String[]> renderedQueries = new LruCache<>(MAX_RENDERED_QUERIES);
 
     /**
      * Creates a new {@link PartTreeOrientdbQuery}.
@@ -53,7 +75,29 @@ public class PartTreeOrientdbQuery extends AbstractOrientdbRepositoryQuery {
                                  final NamedQueries namedQueries) {
         super(method, em, namedQueries);
         Class<?> domainType = method.getEntityInformation().getJavaType();
-        this.tree = new PartTree(method.getName(), domainType);
+        Matcher updateMatcher = UPDATE_PATTERN.matcher(method.getName());
+        if (updateMatcher.matches()) {
+            // The properties before By are set, the criteria after By are parsed like a finder
+            String subject = updateMatcher.group(1);
+            int by = findUpdateBy(subject, domainType);
+            this.update = createUpdate(subject.substring(0, by), domainType);
+            this.tree = new PartTree("findBy".concat(subject.substring(by + 2)), domainType);
+        } else {
+            this.update = null;
+            this.tree = new PartTree(method.getName(), domainType);
+        }
+        if (isCommand() && !isCommandReturnType(method)) {
+            throw new IllegalArgumentException(String.format("Derived delete or update query %s must return void or "
+                    + "the number of changed records!", method.getName()));
+        }
+        if (isCommand() && (tree.isLimiting() || LIMITING_DELETE_PATTERN.matcher(method.getName()).find())) {
+            // The delete and update commands have no limit, they would change all matching records
+            throw new IllegalArgumentException(String.format("Derived delete or update query %s must not be "
+                    + "limited by First or Top!", method.getName()));
+        }
+        this.whereTemplate = createWhereTemplate(update == null ? 0 : update.getAssignments().size());
+        // Most queries render the same sql for all parameters, they don't need the cache
+        this.invariantQueries = isParameterDependent() ? null : renderQueries(new Object[0]);
     }
 
     /*
@@ -72,7 +116,7 @@ public class PartTreeOrientdbQuery extends AbstractOrientdbRepositoryQuery {
         }
 
         ResultProcessor processor = queryMethod.getResultProcessor().withDynamicProjection(accessor);
-        Object results = getExecution(accessor).execute(params,
+        Object results = getExecution(accessor).withFetchPlan(queryMethod.getFetchPlan()).execute(params,
                 processor.getReturnedType().getReturnedType(), queryMethod.getEntityInformation());
 
         return processor.processResult(results);
@@ -84,16 +128,74 @@ public class PartTreeOrientdbQuery extends AbstractOrientdbRepositoryQuery {
      */
     @Override
     protected StringQuery getQuery(final Object[] parameters) {
+        String[] queries = invariantQueries != null ? invariantQueries
+                : renderedQueries.computeIfAbsent(getVariant(parameters), v -> renderQueries(parameters));
+        // The where clause of a slice query is enclosed in parentheses, so keyset conditions can be appended
+        return new StringQuery(queries[0], queries[1], parameters, queryMethod.isSliceQuery());
+    }
+
+    /**
+     * Whether any condition of the where clause depends on the parameters.
+     *
+     * @return
+     */
+    private boolean isParameterDependent() {
+        return whereTemplate.stream().flatMap(List::stream).anyMatch(PartTemplate::isParameterDependent);
+    }
+
+    /**
+     * Gets the values of the parameter dependent fragments, the queries of the same variant are identical.
+     *
+     * @param parameters must not be {@literal null}.
+     * @return
+     */
+    private List<Object> getVariant(final Object[] parameters) {
+        List<Object> variant = new ArrayList<>();
+        for (List<PartTemplate> andParts : whereTemplate) {
+            for (PartTemplate partTemplate : andParts) {
+                if (partTemplate.isParameterDependent()) {
+                    variant.add(partTemplate.getVariant(parameters));
+                }
+            }
+        }
+        return variant;
+    }
+
+    /**
+     * Renders the sql and the count sql.
+     *
+     * @param parameters must not be {@literal null}.
+     * @return
+     */
+    private String[] renderQueries(final Object[] parameters) {
         String where = getWhereClause(parameters);
         String entityName = queryMethod.getEntityInformation().getEntityName();
 
         StringBuilder sql = new StringBuilder(createBaseSql(entityName));
         sql.append(" where ");
-        sql.append(where);
-        if (!queryMethod.isPageQuery() && !queryMethod.isSliceQuery()) {
+        sql.append(queryMethod.isSliceQuery() ? "(" + where + ")" : where);
+        if (!isCommand() && !queryMethod.isPageQuery() && !queryMethod.isSliceQuery()) {
             sql.append(" ").append(getSort()).append(getLimit());
         }
-        return new StringQuery(sql.toString(), createCountSql(entityName, where), parameters);
+        return new String[]{sql.toString(), createCountSql(entityName, where)};
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractOrientdbRepositoryQuery#getExecution(ParameterAccessor)
+     */
+    @Override
+    protected OrientdbQueryExecution getExecution(final ParameterAccessor accessor) {
+        if (isCommand()) {
+            return new OrientdbQueryExecution.CommandExecution(em, accessor);
+        }
+        if (tree.isExistsProjection()) {
+            return new OrientdbQueryExecution.ExistsExecution(em, accessor);
+        }
+        if (tree.isCountProjection()) {
+            return new OrientdbQueryExecution.CountExecution(em, accessor);
+        }
+        return super.getExecution(accessor);
     }
 
     /**
@@ -103,8 +205,11 @@ public class PartTreeOrientdbQuery extends AbstractOrientdbRepositoryQuery {
      * @return
      */
     private String createBaseSql(final String entityName) {
+        if (update != null) {
+            return QueryUtils.createUpdateQuery(entityName, update, queryMethod.getEntityInformation());
+        }
         if (tree.isDelete()) {
-            throw new UnsupportedOperationException("Deleting has not been supported");
+            return QueryUtils.createDeleteAllQuery(queryMethod.getEntityInformation().getEntityType(), entityName);
         }
         if (tree.isCountProjection()) {
             return "select count(*) as count from ".concat(entityName);
@@ -115,6 +220,73 @@ public class PartTreeOrientdbQuery extends AbstractOrientdbRepositoryQuery {
         return "select from ".concat(entityName);
     }
 
+    /**
+     * Whether the query is a delete or an update, which is executed by a command instead of loading the records.
+     *
+     * @return
+     */
+    private boolean isCommand() {
+        return update != null || tree.isDelete();
+    }
+
+    /**
+     * Whether a derived delete or update query method can return its type, the command only returns the number of
+     * changed records.
+     *
+     * @param method must not be {@literal null}.
+     * @return
+     */
+    private static boolean isCommandReturnType(final OrientdbQueryMethod method) {
+        if (method.getReturnType().equals(void.class)) {
+            return true;
+        }
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(method.getReturnedObjectType());
+        return type.equals(Void.class) || type.equals(Long.class) || type.equals(Integer.class);
+    }
+
+    /**
+     * Finds the By which splits the set properties from the criteria of a derived update query. A property may
+     * contain By, e.g. updateCreatedByByName sets createdBy, so the first By where both parts resolve to properties
+     * of the domain type is taken.
+     *
+     * @param subject    the method name without the leading update, must not be {@literal null}.
+     * @param domainType must not be {@literal null}.
+     * @return the index of the By in the subject.
+     */
+    private static int findUpdateBy(final String subject, final Class<?> domainType) {
+        RuntimeException failure = null;
+        Matcher matcher = UPDATE_BY_PATTERN.matcher(subject);
+        while (matcher.find()) {
+            if (matcher.start() == 0) {
+                continue;
+            }
+            try {
+                createUpdate(subject.substring(0, matcher.start()), domainType);
+                new PartTree("findBy".concat(subject.substring(matcher.end())), domainType);
+                return matcher.start();
+            } catch (PropertyReferenceException | IllegalArgumentException e) {
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Creates the {@link Update} of a derived update query, e.g. updatePriceAndStockByName sets the price and the
+     * stock to the first two parameters. The values are bound as parameters, so the {@link Update} holds none.
+     *
+     * @param properties must not be {@literal null}.
+     * @param domainType must not be {@literal null}.
+     * @return
+     */
+    private static Update createUpdate(final String properties, final Class<?> domainType) {
+        Update update = new Update();
+        for (String property : properties.split("And(?=\\p{Lu})")) {
+            update.set(PropertyPath.from(StringUtils.uncapitalize(property), domainType).toDotPath(), null);
+        }
+        return update;
+    }
+
     /**
      * Creates a count sql.
      *
@@ -127,104 +299,48 @@ public class PartTreeOrientdbQuery extends AbstractOrientdbRepositoryQuery {
     }
 
     /**
-     * Creates a where clause sql.
+     * Creates the template of the where clause, the property names are resolved only once.
      *
-     * @param parameters must not be {@literal null}.
+     * @param parameterOffset the number of parameters before the parameters of the where clause.
      * @return
      */
-    private String getWhereClause(final Object[] parameters) {
-        List<String> orParts = new ArrayList<>();
-        Iterator<PartTree.OrPart> orPartIterator = tree.iterator();
-        int parameterIndex = 0;
-        while (orPartIterator.hasNext()) {
-            parameterIndex = convertOrPart(orPartIterator.next(), orParts, parameterIndex, parameters);
+    private List<List<PartTemplate>> createWhereTemplate(final int parameterOffset) {
+        List<List<PartTemplate>> orParts = new ArrayList<>();
+        int parameterIndex = parameterOffset;
+        for (PartTree.OrPart orPart : tree) {
+            List<PartTemplate> andParts = new ArrayList<>();
+            for (Part part : orPart) {
+                andParts.add(new PartTemplate(part, getPropertyName(part), parameterIndex));
+                parameterIndex += part.getNumberOfArguments();
+            }
+            orParts.add(andParts);
         }
-        return orParts.stream().collect(joining(" or "));
+        return orParts;
     }
 
     /**
-     * Converts orPart to string sql.
+     * Gets the orientdb property name of a part.
      *
-     * @param orPart         must not be {@literal null}.
-     * @param orParts        must not be {@literal null}.
-     * @param parameterIndex must not be {@literal null}.
-     * @param parameters     must not be {@literal null}.
+     * @param part must not be {@literal null}.
      * @return
      */
-    private int convertOrPart(final PartTree.OrPart orPart, final List<String> orParts,
-                              final int parameterIndex, final Object[] parameters) {
-        int newIndex = parameterIndex;
-        List<String> andString = new ArrayList<>();
-        Iterator<Part> partIterator = orPart.iterator();
-        while (partIterator.hasNext()) {
-            newIndex = convertPart(partIterator.next(), andString, newIndex, parameters);
-        }
-        orParts.add(andString.stream().collect(joining(" and ", "(", ")")));
-        return newIndex;
+    private String getPropertyName(final Part part) {
+        String path = part.getProperty().toDotPath();
+        PropertyHandler propertyHandler = queryMethod.getEntityInformation().getPropertyHandler(path);
+        return propertyHandler == null ? path : propertyHandler.getPropertyName();
     }
 
     /**
-     * Converts part to string sql.
+     * Creates a where clause sql.
      *
-     * @param part           must not be {@literal null}.
-     * @param andString      must not be {@literal null}.
-     * @param parameterIndex must not be {@literal null}.
-     * @param parameters     must not be {@literal null}.
+     * @param parameters must not be {@literal null}.
      * @return
      */
-    private int convertPart(final Part part, final List<String> andString,
-                            final int parameterIndex, final Object[] parameters) {
-        Part.Type type = part.getType();
-        String key = queryMethod.getEntityInformation()
-                .getPropertyHandler(part.getProperty().toDotPath()).getPropertyName();
-        if (type == Part.Type.BETWEEN) {
-            andString.add(" " + key + " BETWEEN ? and ? ");
-        } else if (type == Part.Type.AFTER) {
-            andString.add(" " + key + " > ? ");
-        } else if (type == Part.Type.BEFORE) {
-            andString.add(" " + key + " < ? ");
-        } else if (type == Part.Type.CONTAINING) {
-            if (part.getProperty().getType().equals(String.class) && !part.getProperty().isCollection()) {
-                andString.add(" " + key + " containsText ? ");
-            } else if (parameters[parameterIndex] instanceof Collection) {
-                andString.add(" " + key + " containsAny( ? ) ");
-            } else {
-                andString.add(" " + key + " contains( ? ) ");
-            }
-        } else if (type == Part.Type.IN) {
-            andString.add(" " + key + " in ?");
-        } else if (type == Part.Type.STARTING_WITH) {
-            long length = parameters[parameterIndex].toString().length();
-            andString.add(" " + key + ".left(" + length + ") = ? ");
-        } else if (type == Part.Type.ENDING_WITH) {
-            long length = parameters[parameterIndex].toString().length();
-            andString.add(" " + key + ".right(" + length + ") = ? ");
-        } else if (type == Part.Type.EXISTS || type == Part.Type.IS_NOT_NULL) {
-            andString.add(" not(" + key + " is null) ");
-        } else if (type == Part.Type.TRUE) {
-            andString.add(" " + key + " = true ");
-        } else if (type == Part.Type.FALSE) {
-            andString.add(" " + key + " = false ");
-        } else if (type == Part.Type.SIMPLE_PROPERTY) {
-            andString.add(" " + key + " = ? ");
-        } else if (type == Part.Type.IS_NULL) {
-            andString.add(" " + key + " is null ");
-        } else if (type == Part.Type.GREATER_THAN) {
-            andString.add(" " + key + " > ? ");
-        } else if (type == Part.Type.GREATER_THAN_EQUAL) {
-            andString.add(" " + key + " >= ? ");
-        } else if (type == Part.Type.LESS_THAN) {
-            andString.add(" " + key + " < ? ");
-        } else if (type == Part.Type.LESS_THAN_EQUAL) {
-            andString.add(" " + key + " <= ? ");
-        } else if (type == Part.Type.LIKE) {
-            andString.add(" " + key + " like ? ");
-        } else if (type == Part.Type.NOT_LIKE) {
-            andString.add(" not(" + key + " like ?) ");
-        } else if (type == Part.Type.REGEX) {
-            andString.add(" " + key + " matches ? ");
-        }
-        return parameterIndex + part.getNumberOfArguments();
+    private String getWhereClause(final Object[] parameters) {
+        return whereTemplate.stream()
+                .map(andParts -> andParts.stream().map(p -> p.render(parameters)).filter(c -> !c.isEmpty())
+                        .collect(joining(" and ", "(", ")")))
+                .collect(joining(" or "));
     }
 
     /**
@@ -237,7 +353,7 @@ public class PartTreeOrientdbQuery extends AbstractOrientdbRepositoryQuery {
         if (sort != null && !sort.isUnsorted()) {
             return sort.stream()
                     .map(order -> order.getProperty() + " " + order.getDirection())
-                    .collect(joining(", "));
+                    .collect(joining(", ", "order by ", ""));
         }
         return "";
     }
@@ -248,10 +364,120 @@ public class PartTreeOrientdbQuery extends AbstractOrientdbRepositoryQuery {
      * @return
      */
     private String getLimit() {
+        if (tree.isExistsProjection()) {
+            // One record is enough to know it exists
+            return " limit 1";
+        }
         Integer limit = tree.getMaxResults();
         if (limit != null) {
             return " limit ".concat(limit.toString());
         }
         return "";
     }
+
+    /**
+     * A precomputed condition of a {@link Part}, only the STARTING_WITH/ENDING_WITH lengths and the CONTAINING
+     * collection detection depend on the parameters.
+     */
+    private static final class PartTemplate {
+        private final Part.Type type;
+        private final String key;
+        private final int parameterIndex;
+        private final boolean containsText;
+
+        /**
+         * Creates a new {@link PartTemplate}.
+         *
+         * @param part
+         * @param key
+         * @param parameterIndex
+         */
+        PartTemplate(final Part part, final String key, final int parameterIndex) {
+            this.type = part.getType();
+            this.key = key;
+            this.parameterIndex = parameterIndex;
+            this.containsText = part.getProperty().getType().equals(String.class)
+                    && !part.getProperty().isCollection();
+        }
+
+        /**
+         * Whether the rendered condition depends on the parameters.
+         *
+         * @return
+         */
+        boolean isParameterDependent() {
+            return type == Part.Type.STARTING_WITH || type == Part.Type.ENDING_WITH
+                    || (type == Part.Type.CONTAINING && !containsText);
+        }
+
+        /**
+         * Gets the parameter value which the rendered condition depends on.
+         *
+         * @param parameters
+         * @return
+         */
+        Object getVariant(final Object[] parameters) {
+            if (type == Part.Type.CONTAINING) {
+                return parameters[parameterIndex] instanceof Collection;
+            }
+            return parameters[parameterIndex].toString().length();
+        }
+
+        /**
+         * Renders the condition sql.
+         *
+         * @param parameters
+         * @return
+         */
+        String render(final Object[] parameters) {
+            if (type == Part.Type.BETWEEN) {
+                return " " + key + " BETWEEN ? and ? ";
+            } else if (type == Part.Type.AFTER) {
+                return " " + key + " > ? ";
+            } else if (type == Part.Type.BEFORE) {
+                return " " + key + " < ? ";
+            } else if (type == Part.Type.CONTAINING) {
+                if (containsText) {
+                    return " " + key + " containsText ? ";
+                } else if (parameters[parameterIndex] instanceof Collection) {
+                    return " " + key + " containsAny( ? ) ";
+                } else {
+                    return " " + key + " contains( ? ) ";
+                }
+            } else if (type == Part.Type.IN) {
+                return " " + key + " in ?";
+            } else if (type == Part.Type.STARTING_WITH) {
+                long length = parameters[parameterIndex].toString().length();
+                return " " + key + ".left(" + length + ") = ? ";
+            } else if (type == Part.Type.ENDING_WITH) {
+                long length = parameters[parameterIndex].toString().length();
+                return " " + key + ".right(" + length + ") = ? ";
+            } else if (type == Part.Type.EXISTS || type == Part.Type.IS_NOT_NULL) {
+                return " not(" + key + " is null) ";
+            } else if (type == Part.Type.TRUE) {
+                return " " + key + " = true ";
+            } else if (type == Part.Type.FALSE) {
+                return " " + key + " = false ";
+            } else if (type == Part.Type.SIMPLE_PROPERTY) {
+                return " " + key + " = ? ";
+            } else if (type == Part.Type.IS_NULL) {
+                return " " + key + " is null ";
+            } else if (type == Part.Type.GREATER_THAN) {
+                return " " + key + " > ? ";
+            } else if (type == Part.Type.GREATER_THAN_EQUAL) {
+                return " " + key + " >= ? ";
+            } else if (type == Part.Type.LESS_THAN) {
+                return " " + key + " < ? ";
+            } else if (type == Part.Type.LESS_THAN_EQUAL) {
+                return " " + key + " <= ? ";
+            } else if (type == Part.Type.LIKE) {
+                return " " + key + " like ? ";
+            } else if (type == Part.Type.NOT_LIKE) {
+                return " not(" + key + " like ?) ";
+            } else if (type == Part.Type.REGEX) {
+                return " " + key + " matches ? ";
+            }
+            return "";
+        }
+    }
 }
@@ -1,8 +1,18 @@
 package org.springframework.data.orientdb3.repository.query;
 
+import com.orientechnologies.orient.core.id.ORID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb3.repository.Update;
 import org.springframework.data.orientdb3.repository.support.EntityType;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.data.orientdb3.repository.support.PropertyHandler;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Simple utility class to create queries.
@@ -57,4 +67,77 @@ public abstract class QueryUtils {
             return "delete from ".concat(entityName);
         }
     }
+
+    /**
+     * Creates a command which deletes the records of the given {@link ORID}s.
+     *
+     * @param entityType
+     * @param rids
+     * @return
+     */
+    public static String createDeleteAllByIdQuery(final EntityType entityType, final Collection<ORID> rids) {
+        String ridList = rids.stream().map(ORID::toString).collect(Collectors.joining(", ", "[", "]"));
+        return createDeleteAllQuery(entityType, ridList);
+    }
+
+    /**
+     * Creates a command which updates the records of the target, e.g. a class name or a list of {@link ORID}s. The
+     * values of the {@link Update} are the parameters of the command, so the properties which hold entities, e.g.
+     * links, edges or embedded entities, can not be updated.
+     *
+     * @param target
+     * @param update
+     * @param entityInformation
+     * @return
+     */
+    public static String createUpdateQuery(final String target, final Update update,
+                                           final OrientdbEntityInformation<?, ?> entityInformation) {
+        Assert.notEmpty(update.getAssignments(), "Update must change at least one property!");
+
+        List<String> assignments = new ArrayList<>();
+        for (Update.Assignment assignment : update.getAssignments()) {
+            PropertyHandler propertyHandler = entityInformation.getPropertyHandler(assignment.getProperty());
+            if (propertyHandler == null) {
+                throw new IllegalArgumentException(String.format("No property %s found on %s!",
+                        assignment.getProperty(), entityInformation.getJavaType().getName()));
+            }
+            if (propertyHandler.isEntityValued()) {
+                // The values are bound unconverted, a entity would be written as a plain property
+                throw new IllegalArgumentException(String.format("Property %s of %s holds entities and can not be "
+                        + "updated by a command!", assignment.getProperty(),
+                        entityInformation.getJavaType().getName()));
+            }
+            String name = propertyHandler.getPropertyName();
+            assignments.add(assignment.isIncrement() ? name + " = " + name + " + ?" : name + " = ?");
+        }
+        return "update ".concat(target).concat(" set ").concat(String.join(", ", assignments));
+    }
+
+    /**
+     * Creates a query which selects the records of the given {@link ORID}s.
+     *
+     * @param rids
+     * @return
+     */
+    public static String createFindAllByIdQuery(final Collection<ORID> rids) {
+        return rids.stream().map(ORID::toString).collect(Collectors.joining(", ", "select from [", "]"));
+    }
+
+    /**
+     * Creates a query which seeks to the records after the continuation key of a {@link KeysetQuery}.
+     *
+     * @param keysetQuery
+     * @param entityName
+     * @return
+     */
+    public static String createKeysetQuery(final KeysetQuery keysetQuery, final String entityName) {
+        StringBuilder sb = new StringBuilder("select from ").append(entityName);
+        if (keysetQuery.getCondition() != null) {
+            sb.append(" where ").append(keysetQuery.getCondition());
+        }
+        return sb.append(keysetQuery.getOrderBy())
+                .append(" limit ")
+                .append(keysetQuery.getLimit())
+                .toString();
+    }
 }
@@ -0,0 +1,65 @@
+package org.springframework.data.orientdb3.repository.query;
+
+import org.springframework.data.orientdb3.support.ReactiveOrientdbEntityManager;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * {@link RepositoryQuery} of a reactive repository method which executes a query of the blocking repository
+ * infrastructure with a {@link ReactiveOrientdbEntityManager}. A method returning many elements, e.g. a
+ * {@link reactor.core.publisher.Flux}, emits the elements of the query {@link Stream} when they are requested, any
+ * other reactive method emits the result of the query.
+ *
+ * @author xxcxy
+ */
+public class ReactiveOrientdbQuery implements RepositoryQuery {
+
+    private final AbstractOrientdbRepositoryQuery query;
+    private final ReactiveOrientdbEntityManager em;
+
+    /**
+     * Creates a new {@link ReactiveOrientdbQuery}.
+     *
+     * @param query must not be {@literal null}.
+     * @param em    must not be {@literal null}.
+     */
+    public ReactiveOrientdbQuery(final AbstractOrientdbRepositoryQuery query, final ReactiveOrientdbEntityManager em) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(em, "EntityManager must not be null!");
+
+        OrientdbQueryMethod method = query.getQueryMethod();
+        Assert.isTrue(method.isReactiveQuery(),
+                format("Reactive repository method %s must return a Mono or a Flux!", method.getName()));
+        Assert.isTrue(!(method.isReactiveCollectionQuery() && method.getResultProcessor().getReturnedType()
+                .isProjecting()), format("Reactive method %s must not return a projection!", method.getName()));
+
+        this.query = query;
+        this.em = em;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object execute(final Object[] parameters) {
+        if (query.getQueryMethod().isReactiveCollectionQuery()) {
+            return em.stream(manager -> (Stream<Object>) query.execute(parameters));
+        }
+        return em.execute(manager -> query.execute(parameters));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
+     */
+    @Override
+    public OrientdbQueryMethod getQueryMethod() {
+        return query.getQueryMethod();
+    }
+}
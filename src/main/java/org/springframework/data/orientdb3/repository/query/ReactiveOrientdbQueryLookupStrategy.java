@@ -0,0 +1,68 @@
+package org.springframework.data.orientdb3.repository.query;
+
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformationHolder;
+import org.springframework.data.orientdb3.support.ReactiveOrientdbEntityManager;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link QueryLookupStrategy} of the reactive repositories. The queries are resolved by the strategies of
+ * {@link OrientdbQueryLookupStrategy} and executed by a {@link ReactiveOrientdbQuery}.
+ *
+ * @author xxcxy
+ */
+public final class ReactiveOrientdbQueryLookupStrategy implements QueryLookupStrategy {
+
+    private final QueryLookupStrategy lookupStrategy;
+    private final ReactiveOrientdbEntityManager em;
+
+    /**
+     * Creates a new {@link ReactiveOrientdbQueryLookupStrategy}.
+     *
+     * @param lookupStrategy
+     * @param em
+     */
+    private ReactiveOrientdbQueryLookupStrategy(final QueryLookupStrategy lookupStrategy,
+                                                final ReactiveOrientdbEntityManager em) {
+        this.lookupStrategy = lookupStrategy;
+        this.em = em;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.query.QueryLookupStrategy#resolveQuery(java.lang.reflect.Method, org.springframework.data.repository.core.RepositoryMetadata, org.springframework.data.projection.ProjectionFactory, org.springframework.data.repository.core.NamedQueries)
+     */
+    @Override
+    public RepositoryQuery resolveQuery(final Method method, final RepositoryMetadata metadata,
+                                        final ProjectionFactory factory, final NamedQueries namedQueries) {
+        return new ReactiveOrientdbQuery((AbstractOrientdbRepositoryQuery) lookupStrategy.resolveQuery(method,
+                metadata, factory, namedQueries), em);
+    }
+
+    /**
+     * Creates a {@link QueryLookupStrategy} for the given {@link ReactiveOrientdbEntityManager} and {@link Key}.
+     *
+     * @param em                        must not be {@literal null}.
+     * @param key                       may be {@literal null}.
+     * @param evaluationContextProvider must not be {@literal null}.
+     * @param entityInformationHolder   must not be {@literal null}.
+     * @return
+     */
+    public static QueryLookupStrategy create(final ReactiveOrientdbEntityManager em, final Key key,
+                                             final QueryMethodEvaluationContextProvider evaluationContextProvider,
+                                             final OrientdbEntityInformationHolder entityInformationHolder) {
+
+        Assert.notNull(em, "EntityManager must not be null!");
+
+        return new ReactiveOrientdbQueryLookupStrategy(OrientdbQueryLookupStrategy.create(em.getEntityManager(), key,
+                evaluationContextProvider, entityInformationHolder), em);
+    }
+}
@@ -40,6 +40,7 @@ public class StringQuery {
     private String sql;
     private List<Object> parameters;
     private String countQuery;
+    private boolean conditionAppendable;
 
     /**
      * Creates a new {@link StringQuery}.
@@ -56,6 +57,21 @@ public class StringQuery {
         this.parameters = new ArrayList<>(asList(parameters));
     }
 
+    /**
+     * Creates a new {@link StringQuery}.
+     *
+     * @param sql                 must not be {@literal null}.
+     * @param countQuery
+     * @param parameters          must not be {@literal null}.
+     * @param conditionAppendable whether the sql ends with a where clause which conditions can be appended to with
+     *                            "and".
+     */
+    public StringQuery(final String sql, @Nullable final String countQuery, final Object[] parameters,
+                       final boolean conditionAppendable) {
+        this(sql, countQuery, parameters);
+        this.conditionAppendable = conditionAppendable;
+    }
+
     /**
      * Gets the string sql.
      *
@@ -109,6 +125,34 @@ public class StringQuery {
         return addSorting(sql, sort);
     }
 
+    /**
+     * Gets a sql which seeks to the records after the continuation key of a {@link KeysetQuery}. If no condition can
+     * be appended to the sql, it is used as a sub query.
+     *
+     * @param keysetQuery must not be {@literal null}.
+     * @return
+     */
+    public String getSql(final KeysetQuery keysetQuery) {
+        String baseQuery = formatBaseQuery(sql);
+        String condition = keysetQuery.getCondition();
+        StringBuilder result = new StringBuilder();
+        if (conditionAppendable) {
+            result.append(baseQuery);
+            if (condition != null) {
+                result.append(" and (").append(condition).append(")");
+            }
+        } else {
+            result.append("select from (").append(baseQuery).append(")");
+            if (condition != null) {
+                result.append(" where ").append(condition);
+            }
+        }
+        int insertIndex = getParameterInsertIndex();
+        parameters.addAll(insertIndex, keysetQuery.getParameters());
+        parameters.add(insertIndex + keysetQuery.getParameters().size(), keysetQuery.getLimit());
+        return result.append(keysetQuery.getOrderBy()).append(" LIMIT ? ").toString();
+    }
+
     /**
      * Adds page sql to the source sql and new parameters.
      *
@@ -1,7 +1,9 @@
 package org.springframework.data.orientdb3.repository.support;
 
 import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ODirection;
 import com.orientechnologies.orient.core.record.OEdge;
 import com.orientechnologies.orient.core.record.OElement;
 import org.springframework.data.orientdb3.repository.FromVertex;
@@ -10,7 +12,10 @@ import org.springframework.data.orientdb3.repository.exception.EntityConvertExce
 import org.springframework.data.orientdb3.repository.exception.EntityInitException;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static com.orientechnologies.orient.core.metadata.schema.OType.EMBEDDED;
 import static com.orientechnologies.orient.core.metadata.schema.OType.EMBEDDEDMAP;
@@ -23,7 +28,7 @@ import static com.orientechnologies.orient.core.metadata.schema.OType.EMBEDDEDMA
 public class EdgePropertyHandler extends PropertyHandler {
 
     private final Field field;
-    private final OrientdbIdParserHolder parserHolder;
+    private final OrientdbEntityInformationHolder infoHolder;
     private final boolean isFrom;
     private final boolean isTo;
     private final OType oType;
@@ -32,12 +37,12 @@ public class EdgePropertyHandler extends PropertyHandler {
      * Creates a new {@link EdgePropertyHandler}
      *
      * @param field
-     * @param parserHolder
+     * @param infoHolder
      */
-    public EdgePropertyHandler(final Field field, final OrientdbIdParserHolder parserHolder) {
-        super(field);
+    public EdgePropertyHandler(final Field field, final OrientdbEntityInformationHolder infoHolder) {
+        super(field, infoHolder.getFieldAccessorFactory());
         this.field = field;
-        this.parserHolder = parserHolder;
+        this.infoHolder = infoHolder;
         this.oType = getOrientdbType();
 
         if (field.getAnnotation(FromVertex.class) != null) {
@@ -74,10 +79,10 @@ public class EdgePropertyHandler extends PropertyHandler {
         }
         if (oType == EMBEDDED) {
             oElement.setProperty(propertyName,
-                    convertToOrientdbProperty(field.getType(), value, session, parserHolder, converted), oType);
+                    convertToOrientdbProperty(field.getType(), value, session, infoHolder, converted), oType);
         } else if (oType == EMBEDDEDMAP) {
             Map<String, Object> map = convertMap((Map) value,
-                    (type, obj) -> convertToOrientdbProperty(type, obj, session, parserHolder, converted));
+                    (type, obj) -> convertToOrientdbProperty(type, obj, session, infoHolder, converted));
             oElement.setProperty(propertyName, map, oType);
         } else {
             oElement.setProperty(propertyName, value, oType);
@@ -92,23 +97,44 @@ public class EdgePropertyHandler extends PropertyHandler {
     public Object getPropertyInJavaType(final OElement oElement, final Map<OElement, Object> converted) {
         if (isFrom) {
             OEdge oEdge = oElement.asEdge().orElseThrow(() -> new EntityConvertException("Must be a OEdge"));
-            return convertToJavaProperty(parserHolder, field.getType(), oEdge.getFrom(), converted);
+            return convertToJavaProperty(infoHolder, field.getType(),
+                    getEdgeVertex(oEdge, ODirection.OUT, infoHolder), converted);
         }
         if (isTo) {
             OEdge oEdge = oElement.asEdge().orElseThrow(() -> new EntityConvertException("Must be a OEdge"));
-            return convertToJavaProperty(parserHolder, field.getType(), oEdge.getTo(), converted);
+            return convertToJavaProperty(infoHolder, field.getType(),
+                    getEdgeVertex(oEdge, ODirection.IN, infoHolder), converted);
         }
         if (oType == EMBEDDED) {
-            return convertToJavaProperty(parserHolder, field.getType(),
+            return convertToJavaProperty(infoHolder, field.getType(),
                     oElement.getProperty(getPropertyName()), converted);
         }
         if (oType == EMBEDDEDMAP) {
             return convertMap(oElement.getProperty(getPropertyName()),
-                    (type, obj) -> convertToJavaProperty(parserHolder, type, obj, converted));
+                    (type, obj) -> convertToJavaProperty(infoHolder, type, obj, converted));
         }
         return OType.convert(oElement.getProperty(getPropertyName()), field.getType());
     }
 
+    /**
+     * Loads the from or to vertices of all edges at once.
+     *
+     * @param oElements
+     * @param loader
+     * @return
+     */
+    @Override
+    public List<OElement> prefetch(final Collection<OElement> oElements,
+                                   final Function<Collection<ORID>, List<OElement>> loader) {
+        if (isFrom) {
+            return loader.apply(getLinkedIdentities(oElements, "out"));
+        }
+        if (isTo) {
+            return loader.apply(getLinkedIdentities(oElements, "in"));
+        }
+        return super.prefetch(oElements, loader);
+    }
+
     /*
      * (non-Javadoc)
      * @see PropertyHandler#isCascade
@@ -117,4 +143,13 @@ public class EdgePropertyHandler extends PropertyHandler {
     public boolean isCascade() {
         return false;
     }
+
+    /*
+     * (non-Javadoc)
+     * @see PropertyHandler#isReference
+     */
+    @Override
+    public boolean isReference() {
+        return isFrom || isTo;
+    }
 }
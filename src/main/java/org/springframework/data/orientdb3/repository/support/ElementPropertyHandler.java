@@ -29,16 +29,16 @@ import static org.springframework.data.orientdb3.repository.util.Constants.OBJEC
  */
 public class ElementPropertyHandler extends PropertyHandler {
     private final Field field;
-    private final OrientdbIdParserHolder parserHolder;
+    private final OrientdbEntityInformationHolder infoHolder;
     private final boolean isLink;
     private final boolean isEmbedded;
     private final boolean isCascade;
     private final OType oType;
 
-    ElementPropertyHandler(final Field field, final OrientdbIdParserHolder parserHolder) {
-        super(field);
+    ElementPropertyHandler(final Field field, final OrientdbEntityInformationHolder infoHolder) {
+        super(field, infoHolder.getFieldAccessorFactory());
         this.field = field;
-        this.parserHolder = parserHolder;
+        this.infoHolder = infoHolder;
         if (field.getAnnotation(Embedded.class) != null) {
             isEmbedded = true;
         } else {
@@ -75,18 +75,18 @@ public class ElementPropertyHandler extends PropertyHandler {
         }
         if (oType == EMBEDDED || oType == LINK) {
             oElement.setProperty(propertyName, convertToOrientdbProperty(field.getType(),
-                    value, session, parserHolder, converted));
+                    value, session, infoHolder, converted));
         } else if (oType == LINKLIST) {
             Collection list = convertCollection((Collection) value, new ArrayList<>(),
-                    (type, obj) -> convertToOrientdbProperty(type, obj, session, parserHolder, converted));
+                    (type, obj) -> convertToOrientdbProperty(type, obj, session, infoHolder, converted));
             oElement.setProperty(propertyName, list, oType);
         } else if (oType == LINKSET) {
             Collection set = convertCollection((Collection) value, new HashSet<>(),
-                    (type, obj) -> convertToOrientdbProperty(type, obj, session, parserHolder, converted));
+                    (type, obj) -> convertToOrientdbProperty(type, obj, session, infoHolder, converted));
             oElement.setProperty(propertyName, set, oType);
         } else if (oType == LINKMAP || oType == EMBEDDEDMAP) {
             Map<String, Object> map = convertMap((Map) value,
-                    (type, obj) -> convertToOrientdbProperty(type, obj, session, parserHolder, converted));
+                    (type, obj) -> convertToOrientdbProperty(type, obj, session, infoHolder, converted));
             oElement.setProperty(propertyName, map, oType);
         } else {
             oElement.setProperty(propertyName, value, oType);
@@ -118,22 +118,26 @@ public class ElementPropertyHandler extends PropertyHandler {
      * @see PropertyHandler#getPropertyInJavaType
      */
     public Object getPropertyInJavaType(final OElement oElement, final Map<OElement, Object> converted) {
-        if (oType == EMBEDDED || oType == LINK) {
-            return convertToJavaProperty(parserHolder, field.getType(),
+        if (oType == EMBEDDED) {
+            return convertToJavaProperty(infoHolder, field.getType(),
                     oElement.getProperty(getPropertyName()), converted);
         }
+        if (oType == LINK) {
+            return convertToJavaProperty(infoHolder, field.getType(), getLinkProperty(oElement, infoHolder),
+                    converted);
+        }
         // Every element has it's own converter so can't use OType.convert
         if (oType == LINKLIST) {
-            return convertCollection(oElement.getProperty(getPropertyName()), new ArrayList(),
-                    (type, obj) -> convertToJavaProperty(parserHolder, type, obj, converted));
+            return convertCollection((Iterable) getLinkProperty(oElement, infoHolder), new ArrayList(),
+                    (type, obj) -> convertToJavaProperty(infoHolder, type, obj, converted));
         }
         if (oType == LINKSET) {
-            return convertCollection(oElement.getProperty(getPropertyName()), new HashSet<>(),
-                    (type, obj) -> convertToJavaProperty(parserHolder, type, obj, converted));
+            return convertCollection((Iterable) getLinkProperty(oElement, infoHolder), new HashSet<>(),
+                    (type, obj) -> convertToJavaProperty(infoHolder, type, obj, converted));
         }
         if (oType == LINKMAP || oType == EMBEDDEDMAP) {
             return convertMap(oElement.getProperty(getPropertyName()),
-                    (type, obj) -> convertToJavaProperty(parserHolder, type, obj, converted));
+                    (type, obj) -> convertToJavaProperty(infoHolder, type, obj, converted));
         }
         return OType.convert(oElement.getProperty(getPropertyName()), field.getType());
     }
@@ -146,4 +150,13 @@ public class ElementPropertyHandler extends PropertyHandler {
     public boolean isCascade() {
         return isEmbedded || isCascade;
     }
+
+    /*
+     * (non-Javadoc)
+     * @see PropertyHandler#isReference
+     */
+    @Override
+    public boolean isReference() {
+        return isLink;
+    }
 }
@@ -0,0 +1,24 @@
+package org.springframework.data.orientdb3.repository.support;
+
+/**
+ * Reads and writes the value of a entity field.
+ *
+ * @author xxcxy
+ */
+public interface FieldAccessor {
+    /**
+     * Gets the field value of the given object.
+     *
+     * @param target
+     * @return
+     */
+    Object get(Object target);
+
+    /**
+     * Sets the field value of the given object.
+     *
+     * @param target
+     * @param value
+     */
+    void set(Object target, Object value);
+}
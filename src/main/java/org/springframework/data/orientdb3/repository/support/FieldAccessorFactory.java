@@ -0,0 +1,19 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import java.lang.reflect.Field;
+
+/**
+ * A strategy to create {@link FieldAccessor}s. It is called once for every field when the
+ * {@link OrientdbEntityInformation} is created.
+ *
+ * @author xxcxy
+ */
+public interface FieldAccessorFactory {
+    /**
+     * Creates a {@link FieldAccessor} for the given field.
+     *
+     * @param field must be accessible.
+     * @return
+     */
+    FieldAccessor getFieldAccessor(Field field);
+}
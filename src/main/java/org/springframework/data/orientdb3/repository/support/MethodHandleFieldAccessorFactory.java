@@ -0,0 +1,104 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link FieldAccessorFactory} that binds every field to a getter and a setter {@link MethodHandle} once, so
+ * the access checks of reflection are not repeated for every read and write. Falls back to
+ * {@link ReflectionFieldAccessorFactory} if the handles can not be created.
+ * <p>
+ * The handles are held in instance fields, so the JIT can't constant-fold them. On JDK 17 the
+ * {@code FieldAccessorBenchmark} measures them slower than reflection (11.4 vs 8.3 ns per read, 8.9 vs 6.9 ns
+ * per write), which is why {@link OrientdbEntityInformationHolder} uses reflection by default. Benchmark your
+ * own JVM before passing this factory to the holder.
+ *
+ * @author xxcxy
+ */
+public class MethodHandleFieldAccessorFactory implements FieldAccessorFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandleFieldAccessorFactory.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final FieldAccessorFactory fallback = new ReflectionFieldAccessorFactory();
+
+    /*
+     * (non-Javadoc)
+     * @see FieldAccessorFactory#getFieldAccessor()
+     */
+    @Override
+    public FieldAccessor getFieldAccessor(final Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            return fallback.getFieldAccessor(field);
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            return new MethodHandleFieldAccessor(field,
+                    lookup.unreflectGetter(field).asType(GETTER_TYPE),
+                    lookup.unreflectSetter(field).asType(SETTER_TYPE));
+        } catch (Exception e) {
+            LOG.debug("Can't create method handles for {}, use reflection instead.", field, e);
+            return fallback.getFieldAccessor(field);
+        }
+    }
+
+    /**
+     * A {@link FieldAccessor} that invokes a getter and a setter {@link MethodHandle}.
+     */
+    private static class MethodHandleFieldAccessor implements FieldAccessor {
+
+        private final Field field;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        /**
+         * Creates a new {@link MethodHandleFieldAccessor}.
+         *
+         * @param field
+         * @param getter
+         * @param setter
+         */
+        private MethodHandleFieldAccessor(final Field field, final MethodHandle getter, final MethodHandle setter) {
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see FieldAccessor#get()
+         */
+        @Override
+        public Object get(final Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Can't get field " + field.getName(), e);
+            }
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see FieldAccessor#set()
+         */
+        @Override
+        public void set(final Object target, final Object value) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Can't set field " + field.getName(), e);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.record.OVertex;
+import org.springframework.data.orientdb3.repository.CachedEntity;
 import org.springframework.data.orientdb3.repository.FromVertex;
 import org.springframework.data.orientdb3.repository.OrientdbId;
 import org.springframework.data.orientdb3.repository.ToVertex;
@@ -24,9 +25,6 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static org.springframework.util.ReflectionUtils.getField;
-import static org.springframework.util.ReflectionUtils.setField;
-
 /**
  * Implementation of {@link org.springframework.data.repository.core.EntityInformation}.
  *
@@ -36,12 +34,16 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
 
     private final Class<T> domainClass;
     private final EntityType entityType;
-    private final OrientdbIdParserHolder parserHolder;
+    private final OrientdbEntityInformationHolder infoHolder;
     private final String entityName;
+    private final boolean cached;
     private final Map<String, PropertyHandler> propertyHandlers;
     private Pair<Field, OrientdbIdParser<ID>> idInfo;
+    private FieldAccessor idAccessor;
     private Field fromField;
     private Field toField;
+    private FieldAccessor fromAccessor;
+    private FieldAccessor toAccessor;
 
     /**
      * Creates a new {@link OrientdbEntityInformation} for the given domain class and {@link OrientdbIdParserHolder}.
@@ -50,16 +52,28 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
      * @param parserHolder
      */
     public OrientdbEntityInformation(final Class<T> domainClass, final OrientdbIdParserHolder parserHolder) {
+        this(domainClass, new OrientdbEntityInformationHolder(parserHolder));
+    }
+
+    /**
+     * Creates a new {@link OrientdbEntityInformation} for the given domain class and
+     * {@link OrientdbEntityInformationHolder}. The related entities' information will be resolved from the holder.
+     *
+     * @param domainClass
+     * @param infoHolder
+     */
+    public OrientdbEntityInformation(final Class<T> domainClass, final OrientdbEntityInformationHolder infoHolder) {
         this.domainClass = domainClass;
         this.propertyHandlers = new HashMap<>();
-        this.parserHolder = parserHolder;
+        this.infoHolder = infoHolder;
         this.entityType = EntityType.getEntityType(domainClass).orElseThrow(() ->
                 new EntityInitException(domainClass.getName() + " class must have one of the " +
                         "annotation(ElementEntity, EmbeddedEntity, VertexEntity, EdgeEntity)"));
         this.entityName = getEntityName(domainClass);
+        this.cached = domainClass.isAnnotationPresent(CachedEntity.class);
 
         // Get a propertyHandler according to the class annotation
-        Function<Field, PropertyHandler> handlerGenerator = getHandlerGenerator(parserHolder);
+        Function<Field, PropertyHandler> handlerGenerator = getHandlerGenerator(infoHolder);
 
         // doWithFields will get All fields including fields of superClass
         ReflectionUtils.doWithFields(domainClass, field -> {
@@ -73,6 +87,7 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
                     throw new EntityInitException("entity can't have two id properties");
                 }
                 idInfo = Pair.of(field, getIdParser(field, orientdbId));
+                idAccessor = infoHolder.getFieldAccessorFactory().getFieldAccessor(field);
             } else {
                 if (!Modifier.isTransient(field.getModifiers())) {
                     propertyHandlers.put(field.getName(), handlerGenerator.apply(field));
@@ -89,27 +104,29 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
     private void setFromToField(final Field field) {
         if (field.getAnnotation(FromVertex.class) != null) {
             this.fromField = field;
+            this.fromAccessor = infoHolder.getFieldAccessorFactory().getFieldAccessor(field);
         } else if (field.getAnnotation(ToVertex.class) != null) {
             this.toField = field;
+            this.toAccessor = infoHolder.getFieldAccessorFactory().getFieldAccessor(field);
         }
     }
 
     /**
      * Gets a handlerGenerator for the entityType.
      *
-     * @param parserHolder
+     * @param infoHolder
      * @return
      */
-    private Function<Field, PropertyHandler> getHandlerGenerator(final OrientdbIdParserHolder parserHolder) {
+    private Function<Field, PropertyHandler> getHandlerGenerator(final OrientdbEntityInformationHolder infoHolder) {
         switch (entityType) {
             case ELEMENT:
-                return field -> new ElementPropertyHandler(field, parserHolder);
+                return field -> new ElementPropertyHandler(field, infoHolder);
             case VERTEX:
-                return field -> new VertexPropertyHandler(field, parserHolder);
+                return field -> new VertexPropertyHandler(field, infoHolder);
             case EDGE:
-                return field -> new EdgePropertyHandler(field, parserHolder);
+                return field -> new EdgePropertyHandler(field, infoHolder);
             case EMBEDDED:
-                return field -> new ElementPropertyHandler(field, parserHolder);
+                return field -> new ElementPropertyHandler(field, infoHolder);
             default:
                 throw new EntityInitException("can't be here");
         }
@@ -123,6 +140,7 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
      * @return
      */
     private OrientdbIdParser getIdParser(final Field field, final OrientdbId orientdbId) {
+        OrientdbIdParserHolder parserHolder = infoHolder.getParserHolder();
         if (orientdbId.parseBy().length == 0) {
             return parserHolder.getIdParser(field.getType())
                     .orElseThrow(() -> new EntityInitException(String.format("cant find a idParser for %s",
@@ -149,7 +167,7 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
      */
     @Override
     public boolean isNew(final T t) {
-        return !(t instanceof EntityProxyInterface) && (idInfo == null || getField(idInfo.getFirst(), t) == null);
+        return !(t instanceof EntityProxyInterface) && (idInfo == null || idAccessor.get(t) == null);
     }
 
     /*
@@ -158,7 +176,7 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
      */
     @Override
     public ID getId(final T t) {
-        return (ID) getField(idInfo.getFirst(), t);
+        return (ID) idAccessor.get(t);
     }
 
     /*
@@ -198,10 +216,11 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
             return oElement;
         } else {
             OElement oElement = newOElement(entity, session, converted);
+            converted.put(entity, oElement);
             converted.put(new EntityProxy(entity, oElement, this, converted).getProxyInstance(), oElement);
             for (PropertyHandler propertyHandler : propertyHandlers.values()) {
                 propertyHandler.setOElementProperty(oElement,
-                        getField(propertyHandler.getPropertyField(), entity), session, converted);
+                        propertyHandler.getFieldValue(entity), session, converted);
             }
             return oElement;
         }
@@ -222,7 +241,7 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
         converted.put(entity, oElement);
         for (PropertyHandler propertyHandler : propertyHandlers.values()) {
             propertyHandler.setOElementProperty(oElement,
-                    getField(propertyHandler.getPropertyField(), entity), session, converted);
+                    propertyHandler.getFieldValue(entity), session, converted);
         }
         if (cluster != null) {
             session.save(oElement, cluster);
@@ -306,8 +325,8 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
         if (fromField == null) {
             throw new EntityConvertException("EdgeEntity must have fromFiled.");
         }
-        return (OVertex) new OrientdbEntityInformation(fromField.getType(), parserHolder)
-                .convertToORecord(getField(fromField, entity), session, converted);
+        OrientdbEntityInformation fromInfo = infoHolder.getEntityInformation(fromField.getType());
+        return (OVertex) fromInfo.convertToORecord(fromAccessor.get(entity), session, converted);
     }
 
     /**
@@ -323,8 +342,8 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
         if (toField == null) {
             throw new EntityConvertException("EdgeEntity must have toField.");
         }
-        return (OVertex) new OrientdbEntityInformation(toField.getType(), parserHolder)
-                .convertToORecord(getField(toField, entity), session, converted);
+        OrientdbEntityInformation toInfo = infoHolder.getEntityInformation(toField.getType());
+        return (OVertex) toInfo.convertToORecord(toAccessor.get(entity), session, converted);
     }
 
     /**
@@ -344,7 +363,7 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
      * @return
      */
     private ORID getORID(final T t) {
-        return convertToORID((ID) getField(idInfo.getFirst(), t));
+        return convertToORID((ID) idAccessor.get(t));
     }
 
     /**
@@ -356,6 +375,15 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
         return entityName;
     }
 
+    /**
+     * Determines if the records of the entity are kept in the second-level cache.
+     *
+     * @return
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
     /**
      * Determines if this field exists
      *
@@ -385,6 +413,18 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
         return entityType;
     }
 
+    /**
+     * Gets the {@link OrientdbEntityInformation} of a related entity class.
+     *
+     * @param domainClass
+     * @param <S>
+     * @param <SID>
+     * @return
+     */
+    public <S, SID> OrientdbEntityInformation<S, SID> getRelatedEntityInformation(final Class<S> domainClass) {
+        return infoHolder.getEntityInformation(domainClass);
+    }
+
     /**
      * Gets a java id from the given {@link OElement}.
      *
@@ -413,7 +453,7 @@ public class OrientdbEntityInformation<T, ID> implements EntityInformation<T, ID
      */
     public void setId(final T t, final OElement oElement) {
         if (idInfo != null) {
-            setField(idInfo.getFirst(), t, getId(oElement));
+            idAccessor.set(t, getId(oElement));
         }
     }
 
@@ -0,0 +1,157 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import org.springframework.data.orientdb3.support.EntityCache;
+import org.springframework.data.orientdb3.support.QueryResultMappers;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe {@link OrientdbEntityInformation} Holder that builds the metadata of a domain class only once.
+ *
+ * @author xxcxy
+ */
+public class OrientdbEntityInformationHolder {
+    private final Map<Class, OrientdbEntityInformation> entityInformationMap = new ConcurrentHashMap<>();
+    private final OrientdbIdParserHolder parserHolder;
+    private final FieldAccessorFactory fieldAccessorFactory;
+    private final QueryResultMappers queryResultMappers;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    @Nullable
+    private volatile EntityCache entityCache;
+
+    /**
+     * Creates a new {@link OrientdbEntityInformationHolder} that accesses fields by reflection.
+     *
+     * @param parserHolder must not be {@literal null}.
+     */
+    public OrientdbEntityInformationHolder(final OrientdbIdParserHolder parserHolder) {
+        this(parserHolder, new ReflectionFieldAccessorFactory());
+    }
+
+    /**
+     * Creates a new {@link OrientdbEntityInformationHolder} with a given {@link FieldAccessorFactory}.
+     *
+     * @param parserHolder         must not be {@literal null}.
+     * @param fieldAccessorFactory must not be {@literal null}.
+     */
+    public OrientdbEntityInformationHolder(final OrientdbIdParserHolder parserHolder,
+                                           final FieldAccessorFactory fieldAccessorFactory) {
+        Assert.notNull(parserHolder, "OrientdbIdParserHolder must not be null!");
+        Assert.notNull(fieldAccessorFactory, "FieldAccessorFactory must not be null!");
+
+        this.parserHolder = parserHolder;
+        this.fieldAccessorFactory = fieldAccessorFactory;
+        this.queryResultMappers = new QueryResultMappers(fieldAccessorFactory);
+    }
+
+    /**
+     * Gets the {@link OrientdbEntityInformation} for a given domain class, creates it if it does not exist.
+     *
+     * @param domainClass
+     * @param <T>
+     * @param <ID>
+     * @return
+     */
+    public <T, ID> OrientdbEntityInformation<T, ID> getEntityInformation(final Class<T> domainClass) {
+        OrientdbEntityInformation<T, ID> info = entityInformationMap.get(domainClass);
+        if (info != null) {
+            hitCount.increment();
+            return info;
+        }
+        missCount.increment();
+
+        // Do not use computeIfAbsent, the creation must not block the map.
+        OrientdbEntityInformation<T, ID> created = new OrientdbEntityInformation<>(domainClass, this);
+        OrientdbEntityInformation<T, ID> existed = entityInformationMap.putIfAbsent(domainClass, created);
+        return existed != null ? existed : created;
+    }
+
+    /**
+     * Gets the {@link OrientdbIdParserHolder}.
+     *
+     * @return
+     */
+    public OrientdbIdParserHolder getParserHolder() {
+        return parserHolder;
+    }
+
+    /**
+     * Gets the {@link FieldAccessorFactory}.
+     *
+     * @return
+     */
+    public FieldAccessorFactory getFieldAccessorFactory() {
+        return fieldAccessorFactory;
+    }
+
+    /**
+     * Gets the {@link QueryResultMappers} which map the query results with the {@link FieldAccessorFactory}.
+     *
+     * @return
+     */
+    public QueryResultMappers getQueryResultMappers() {
+        return queryResultMappers;
+    }
+
+    /**
+     * Gets the {@link EntityCache} used to resolve the links to cached entities.
+     *
+     * @return the cache, {@literal null} if the cache is disabled.
+     */
+    @Nullable
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Sets the {@link EntityCache} used to resolve the links to cached entities.
+     *
+     * @param entityCache
+     */
+    public void setEntityCache(@Nullable final EntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    /**
+     * Gets the number of the domain classes which have been resolved.
+     *
+     * @return
+     */
+    public int size() {
+        return entityInformationMap.size();
+    }
+
+    /**
+     * Gets the number of lookups that found a resolved {@link OrientdbEntityInformation}.
+     *
+     * @return
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to create a {@link OrientdbEntityInformation}.
+     *
+     * @return
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the ratio of hits to all lookups, returns 1.0 if there is no lookup.
+     *
+     * @return
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+}
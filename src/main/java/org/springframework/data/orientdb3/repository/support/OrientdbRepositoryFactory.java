@@ -21,7 +21,7 @@ import java.util.Optional;
 public class OrientdbRepositoryFactory extends RepositoryFactorySupport {
 
     private final OrientdbEntityManager entityManager;
-    private final OrientdbIdParserHolder orientdbIdParserHolder;
+    private final OrientdbEntityInformationHolder entityInformationHolder;
 
     /**
      * Creates a new {@link OrientdbRepositoryFactory}.
@@ -31,10 +31,24 @@ public class OrientdbRepositoryFactory extends RepositoryFactorySupport {
      */
     public OrientdbRepositoryFactory(final OrientdbEntityManager entityManager,
                                      final OrientdbIdParserHolder orientdbIdParserHolder) {
+        this(entityManager, new OrientdbEntityInformationHolder(orientdbIdParserHolder));
+    }
+
+    /**
+     * Creates a new {@link OrientdbRepositoryFactory} that shares the given {@link OrientdbEntityInformationHolder}.
+     *
+     * @param entityManager
+     * @param entityInformationHolder
+     */
+    public OrientdbRepositoryFactory(final OrientdbEntityManager entityManager,
+                                     final OrientdbEntityInformationHolder entityInformationHolder) {
         Assert.notNull(entityManager, "EntityManager must not be null!");
+        Assert.notNull(entityInformationHolder, "EntityInformationHolder must not be null!");
 
         this.entityManager = entityManager;
-        this.orientdbIdParserHolder = orientdbIdParserHolder;
+        this.entityInformationHolder = entityInformationHolder;
+        entityInformationHolder.setEntityCache(entityManager.getEntityCache());
+        entityManager.setQueryResultMappers(entityInformationHolder.getQueryResultMappers());
     }
 
     /*
@@ -69,7 +83,7 @@ public class OrientdbRepositoryFactory extends RepositoryFactorySupport {
                                                                    QueryMethodEvaluationContextProvider evaluationContextProvider) {
         return Optional
                 .of(OrientdbQueryLookupStrategy.create(entityManager, key,
-                        evaluationContextProvider, orientdbIdParserHolder));
+                        evaluationContextProvider, entityInformationHolder));
     }
 
     /*
@@ -79,7 +93,16 @@ public class OrientdbRepositoryFactory extends RepositoryFactorySupport {
     @Override
     @SuppressWarnings("unchecked")
     public <T, ID> OrientdbEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
-        return new OrientdbEntityInformation<>(domainClass, orientdbIdParserHolder);
+        return entityInformationHolder.getEntityInformation(domainClass);
+    }
+
+    /**
+     * Gets the {@link OrientdbEntityInformationHolder} used by this factory.
+     *
+     * @return
+     */
+    public OrientdbEntityInformationHolder getEntityInformationHolder() {
+        return entityInformationHolder;
     }
 
 }
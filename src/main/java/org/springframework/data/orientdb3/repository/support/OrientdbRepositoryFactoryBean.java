@@ -20,6 +20,7 @@ public class OrientdbRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
     private SessionFactory sessionFactory;
     private OrientdbIdParserHolder orientdbIdParserHolder;
+    private OrientdbEntityInformationHolder orientdbEntityInformationHolder;
 
     /**
      * Creates a new {@link OrientdbRepositoryFactoryBean} for the given repository interface.
@@ -48,6 +49,16 @@ public class OrientdbRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
         this.orientdbIdParserHolder = orientdbIdParserHolder;
     }
 
+    /**
+     * Sets the orientdbEntityInformationHolder, a new one will be created if it is not set.
+     *
+     * @param orientdbEntityInformationHolder
+     */
+    public void setOrientdbEntityInformationHolder(
+            final OrientdbEntityInformationHolder orientdbEntityInformationHolder) {
+        this.orientdbEntityInformationHolder = orientdbEntityInformationHolder;
+    }
+
     /*
      * (non-Javadoc)
      * @see org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport#doCreateRepositoryFactory()
@@ -73,6 +84,10 @@ public class OrientdbRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
      * Returns a {@link RepositoryFactorySupport}.
      */
     protected RepositoryFactorySupport createRepositoryFactory(final SessionFactory sessionFactory) {
-        return new OrientdbRepositoryFactory(new OrientdbEntityManager(sessionFactory), orientdbIdParserHolder);
+        if (orientdbEntityInformationHolder == null) {
+            orientdbEntityInformationHolder = new OrientdbEntityInformationHolder(orientdbIdParserHolder);
+        }
+        return new OrientdbRepositoryFactory(new OrientdbEntityManager(sessionFactory),
+                orientdbEntityInformationHolder);
     }
 }
@@ -1,19 +1,31 @@
 package org.springframework.data.orientdb3.repository.support;
 
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordLazyMultiValue;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
 import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import org.springframework.data.orientdb3.repository.EntityProperty;
+import org.springframework.data.orientdb3.support.EntityCache;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static org.springframework.data.orientdb3.repository.util.Constants.TYPES_BY_CLASS;
 
@@ -24,6 +36,7 @@ import static org.springframework.data.orientdb3.repository.util.Constants.TYPES
  */
 public abstract class PropertyHandler {
     private final Field field;
+    private final FieldAccessor fieldAccessor;
     private final String propertyName;
 
     /**
@@ -32,7 +45,19 @@ public abstract class PropertyHandler {
      * @param field
      */
     public PropertyHandler(final Field field) {
+        this(field, new ReflectionFieldAccessorFactory());
+    }
+
+    /**
+     * Creates a {@link PropertyHandler} that reads and writes the field by a {@link FieldAccessor} created by the
+     * given {@link FieldAccessorFactory}.
+     *
+     * @param field
+     * @param fieldAccessorFactory
+     */
+    public PropertyHandler(final Field field, final FieldAccessorFactory fieldAccessorFactory) {
         this.field = field;
+        this.fieldAccessor = fieldAccessorFactory.getFieldAccessor(field);
 
         EntityProperty orientdbProperty = field.getAnnotation(EntityProperty.class);
         if (orientdbProperty != null && !StringUtils.isEmpty(orientdbProperty.name())) {
@@ -48,12 +73,12 @@ public abstract class PropertyHandler {
      * @param clazz
      * @param value
      * @param session
-     * @param parserHolder
+     * @param infoHolder
      * @param converted
      * @return
      */
     protected Object convertToOrientdbProperty(final Class clazz, final Object value, final ODatabaseSession session,
-                                               final OrientdbIdParserHolder parserHolder,
+                                               final OrientdbEntityInformationHolder infoHolder,
                                                final Map<Object, OElement> converted) {
         if (converted.containsKey(value)) {
             return converted.get(value);
@@ -61,9 +86,9 @@ public abstract class PropertyHandler {
         OType type = getOrientdbType(clazz);
         if (type == OType.EMBEDDED) {
             if (isCascade()) {
-                return new OrientdbEntityInformation(clazz, parserHolder).convertToORecord(value, session, converted);
+                return infoHolder.getEntityInformation(clazz).convertToORecord(value, session, converted);
             } else {
-                return new OrientdbEntityInformation(clazz, parserHolder).getElement(value, session, converted);
+                return infoHolder.getEntityInformation(clazz).getElement(value, session, converted);
             }
         }
         return value;
@@ -72,20 +97,20 @@ public abstract class PropertyHandler {
     /**
      * Converts a orientdb type to a java Object.
      *
-     * @param parserHolder
+     * @param infoHolder
      * @param clazz
      * @param value
      * @param converted
      * @return
      */
-    protected Object convertToJavaProperty(final OrientdbIdParserHolder parserHolder,
+    protected Object convertToJavaProperty(final OrientdbEntityInformationHolder infoHolder,
                                            final Class clazz, final Object value,
                                            final Map<OElement, Object> converted) {
-        return convertToOElement(value).map(oe -> {
+        return convertToOElement(infoHolder, clazz, value).map(oe -> {
             if (converted.containsKey(oe)) {
                 return converted.get(oe);
             } else {
-                Object obj = new OrientdbEntityInformation(clazz, parserHolder)
+                Object obj = infoHolder.getEntityInformation(clazz)
                         .getEntityProxy(oe, converted);
                 converted.put(oe, obj);
                 return obj;
@@ -94,20 +119,68 @@ public abstract class PropertyHandler {
     }
 
     /**
-     * Converts orientdb type to a {@link OElement}.
+     * Converts orientdb type to a {@link OElement}. The links to cached entities are loaded by the
+     * {@link EntityCache}.
      *
+     * @param infoHolder
+     * @param clazz
      * @param value
      * @return
      */
-    private Optional<OElement> convertToOElement(final Object value) {
+    private Optional<OElement> convertToOElement(final OrientdbEntityInformationHolder infoHolder,
+                                                 final Class clazz, final Object value) {
         if (value instanceof OElement) {
             return Optional.of((OElement) value);
         } else if (value instanceof ORecordId) {
+            EntityCache entityCache = infoHolder.getEntityCache();
+            ODatabaseSession session = ODatabaseRecordThreadLocal.instance().getIfDefined();
+            if (entityCache != null && session != null) {
+                OrientdbEntityInformation info = infoHolder.getEntityInformation(clazz);
+                if (info.isCached()) {
+                    return Optional.ofNullable(entityCache.load(session, (ORecordId) value, info.getEntityName()));
+                }
+            }
             return Optional.of(((ORecordId) value).getRecord());
         }
         return Optional.empty();
     }
 
+    /**
+     * Gets the value of a link property. If the {@link EntityCache} is enabled, the links are read without loading
+     * the records, so the records of the cached entities can be taken from the cache.
+     *
+     * @param oElement
+     * @param infoHolder
+     * @return
+     */
+    protected Object getLinkProperty(final OElement oElement, final OrientdbEntityInformationHolder infoHolder) {
+        if (infoHolder.getEntityCache() == null) {
+            return oElement.getProperty(propertyName);
+        }
+        Object value = ((ODocument) oElement.getRecord()).rawField(propertyName);
+        if (value instanceof ORecordLazyMultiValue && value instanceof Collection) {
+            ORecordLazyMultiValue links = (ORecordLazyMultiValue) value;
+            return (Iterable<OIdentifiable>) links::rawIterator;
+        }
+        return value;
+    }
+
+    /**
+     * Gets a vertex of a edge. If the {@link EntityCache} is enabled, the vertex is read without loading the record.
+     *
+     * @param oEdge
+     * @param direction
+     * @param infoHolder
+     * @return
+     */
+    protected Object getEdgeVertex(final OEdge oEdge, final ODirection direction,
+                                   final OrientdbEntityInformationHolder infoHolder) {
+        if (infoHolder.getEntityCache() == null) {
+            return oEdge.getVertex(direction);
+        }
+        return ((ODocument) oEdge.getRecord()).rawField(direction == ODirection.OUT ? "out" : "in");
+    }
+
     /**
      * Gets the field's {@link OType}.
      *
@@ -160,6 +233,26 @@ public abstract class PropertyHandler {
         return field;
     }
 
+    /**
+     * Gets the field value of a given entity.
+     *
+     * @param entity
+     * @return
+     */
+    public Object getFieldValue(final Object entity) {
+        return fieldAccessor.get(entity);
+    }
+
+    /**
+     * Sets the field value of a given entity.
+     *
+     * @param entity
+     * @param value
+     */
+    public void setFieldValue(final Object entity, final Object value) {
+        fieldAccessor.set(entity, value);
+    }
+
     /**
      * Get the propertyName
      *
@@ -179,6 +272,9 @@ public abstract class PropertyHandler {
     protected Map<String, Object> convertMap(final Map<String, Object> source,
                                              final BiFunction<Class, Object, Object> converter) {
         Map<String, Object> map = new HashMap<>();
+        if (source == null) {
+            return map;
+        }
         Class type = (Class) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[1];
         for (Map.Entry<String, Object> entry : source.entrySet()) {
             map.put(entry.getKey(), converter.apply(type, entry.getValue()));
@@ -214,4 +310,93 @@ public abstract class PropertyHandler {
      * @return
      */
     public abstract boolean isCascade();
+
+    /**
+     * Determines the property references records saved on their own, e.g. a link or a edge, so a changed reference
+     * can be detected by the identity of the referenced entities.
+     *
+     * @return
+     */
+    public boolean isReference() {
+        return false;
+    }
+
+    /**
+     * Determines the values of the property are entities, e.g. a link, a edge or a embedded entity, which have to be
+     * converted to records and can not be set by a command parameter.
+     *
+     * @return
+     */
+    public boolean isEntityValued() {
+        if (isReference()) {
+            return true;
+        }
+        Class<?> elementType = getElementType();
+        return !elementType.isEnum() && OType.getTypeByClass(elementType) == null;
+    }
+
+    /**
+     * Loads the linked records of this property of all given elements at once.
+     *
+     * @param oElements
+     * @param loader    loads the records of the given ids with one query.
+     * @return the loaded records.
+     */
+    public List<OElement> prefetch(final Collection<OElement> oElements,
+                                   final Function<Collection<ORID>, List<OElement>> loader) {
+        return loader.apply(getLinkedIdentities(oElements, getPropertyName()));
+    }
+
+    /**
+     * Gets the ids of the records linked by a property of the given elements, the links are read without loading
+     * the records.
+     *
+     * @param oElements
+     * @param propertyName
+     * @return
+     */
+    protected Set<ORID> getLinkedIdentities(final Collection<OElement> oElements, final String propertyName) {
+        Set<ORID> rids = new LinkedHashSet<>();
+        for (OElement oElement : oElements) {
+            collectIdentities(((ODocument) oElement.getRecord()).rawField(propertyName), rids);
+        }
+        return rids;
+    }
+
+    /**
+     * Collects the persistent record ids of a raw property value.
+     *
+     * @param value
+     * @param rids
+     */
+    private void collectIdentities(final Object value, final Set<ORID> rids) {
+        if (value instanceof OIdentifiable) {
+            // Embedded documents have no persistent id and need not to be loaded
+            ORID rid = ((OIdentifiable) value).getIdentity();
+            if (rid.isPersistent()) {
+                rids.add(rid);
+            }
+        } else if (value instanceof ORecordLazyMultiValue) {
+            ((ORecordLazyMultiValue) value).rawIterator().forEachRemaining(v -> collectIdentities(v, rids));
+        } else if (value instanceof Collection) {
+            ((Collection<?>) value).forEach(v -> collectIdentities(v, rids));
+        } else if (value instanceof Map) {
+            ((Map<?, ?>) value).values().forEach(v -> collectIdentities(v, rids));
+        }
+    }
+
+    /**
+     * Gets the entity type of the field, the element type of a collection or the value type of a map.
+     *
+     * @return
+     */
+    public Class<?> getElementType() {
+        if (Collection.class.isAssignableFrom(field.getType())) {
+            return (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+        }
+        if (Map.class.isAssignableFrom(field.getType())) {
+            return (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[1];
+        }
+        return field.getType();
+    }
 }
@@ -0,0 +1,87 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import org.springframework.data.orientdb3.repository.ReactiveOrientdbRepository;
+import org.springframework.data.orientdb3.repository.query.ReactiveOrientdbQueryLookupStrategy;
+import org.springframework.data.orientdb3.support.ReactiveOrientdbEntityManager;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Optional;
+
+/**
+ * Orientdb specific generic reactive repository factory.
+ *
+ * @author xxcxy
+ */
+public class ReactiveOrientdbRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+    private final ReactiveOrientdbEntityManager entityManager;
+    private final OrientdbEntityInformationHolder entityInformationHolder;
+
+    /**
+     * Creates a new {@link ReactiveOrientdbRepositoryFactory} that shares the given
+     * {@link OrientdbEntityInformationHolder}.
+     *
+     * @param entityManager
+     * @param entityInformationHolder
+     */
+    public ReactiveOrientdbRepositoryFactory(final ReactiveOrientdbEntityManager entityManager,
+                                             final OrientdbEntityInformationHolder entityInformationHolder) {
+        Assert.notNull(entityManager, "EntityManager must not be null!");
+        Assert.notNull(entityInformationHolder, "EntityInformationHolder must not be null!");
+
+        this.entityManager = entityManager;
+        this.entityInformationHolder = entityInformationHolder;
+        entityInformationHolder.setEntityCache(entityManager.getEntityManager().getEntityCache());
+        entityManager.getEntityManager().setQueryResultMappers(entityInformationHolder.getQueryResultMappers());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getTargetRepository(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected final ReactiveOrientdbRepository<?, ?> getTargetRepository(RepositoryInformation information) {
+        OrientdbEntityInformation entityInformation = getEntityInformation(information.getDomainType());
+        Object repository = getTargetRepositoryViaReflection(information, entityInformation, entityManager);
+
+        Assert.isInstanceOf(ReactiveOrientdbRepository.class, repository);
+
+        return (ReactiveOrientdbRepository<?, ?>) repository;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+        return SimpleReactiveOrientdbRepository.class;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getQueryLookupStrategy(org.springframework.data.repository.query.QueryLookupStrategy.Key, org.springframework.data.repository.query.EvaluationContextProvider)
+     */
+    @Override
+    protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable QueryLookupStrategy.Key key,
+                                                                   QueryMethodEvaluationContextProvider evaluationContextProvider) {
+        return Optional.of(ReactiveOrientdbQueryLookupStrategy.create(entityManager, key,
+                evaluationContextProvider, entityInformationHolder));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getEntityInformation(java.lang.Class)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, ID> OrientdbEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+        return entityInformationHolder.getEntityInformation(domainClass);
+    }
+}
@@ -0,0 +1,86 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.orientdb3.support.ReactiveOrientdbEntityManager;
+import org.springframework.data.orientdb3.support.SessionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.util.Assert;
+
+/**
+ * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
+ * reactive repository factories via Spring configuration.
+ *
+ * @param <T> the type of the repository
+ * @author xxcxy
+ */
+public class ReactiveOrientdbRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
+        extends RepositoryFactoryBeanSupport<T, S, ID> {
+
+    private SessionFactory sessionFactory;
+    private OrientdbIdParserHolder orientdbIdParserHolder;
+    private OrientdbEntityInformationHolder orientdbEntityInformationHolder;
+
+    /**
+     * Creates a new {@link ReactiveOrientdbRepositoryFactoryBean} for the given repository interface.
+     *
+     * @param repositoryInterface must not be {@literal null}.
+     */
+    public ReactiveOrientdbRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    /**
+     * Sets the sessionFactory.
+     *
+     * @param sessionFactory must not be {@literal null}.
+     */
+    public void setSessionFactory(final SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * Sets the orientdbIdParserHolder.
+     *
+     * @param orientdbIdParserHolder must not be {@literal null}.
+     */
+    public void setOrientdbIdParserHolder(final OrientdbIdParserHolder orientdbIdParserHolder) {
+        this.orientdbIdParserHolder = orientdbIdParserHolder;
+    }
+
+    /**
+     * Sets the orientdbEntityInformationHolder, a new one will be created if it is not set.
+     *
+     * @param orientdbEntityInformationHolder
+     */
+    public void setOrientdbEntityInformationHolder(
+            final OrientdbEntityInformationHolder orientdbEntityInformationHolder) {
+        this.orientdbEntityInformationHolder = orientdbEntityInformationHolder;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
+     */
+    @Override
+    public void setMappingContext(final MappingContext<?, ?> mappingContext) {
+        super.setMappingContext(mappingContext);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#createRepositoryFactory()
+     */
+    @Override
+    protected RepositoryFactorySupport createRepositoryFactory() {
+
+        Assert.state(sessionFactory != null, "SessionFactory must not be null!");
+
+        if (orientdbEntityInformationHolder == null) {
+            orientdbEntityInformationHolder = new OrientdbEntityInformationHolder(orientdbIdParserHolder);
+        }
+        return new ReactiveOrientdbRepositoryFactory(new ReactiveOrientdbEntityManager(sessionFactory),
+                orientdbEntityInformationHolder);
+    }
+}
@@ -0,0 +1,58 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import java.lang.reflect.Field;
+
+import static org.springframework.util.ReflectionUtils.getField;
+import static org.springframework.util.ReflectionUtils.setField;
+
+/**
+ * A {@link FieldAccessorFactory} that accesses fields by java reflection.
+ *
+ * @author xxcxy
+ */
+public class ReflectionFieldAccessorFactory implements FieldAccessorFactory {
+
+    /*
+     * (non-Javadoc)
+     * @see FieldAccessorFactory#getFieldAccessor()
+     */
+    @Override
+    public FieldAccessor getFieldAccessor(final Field field) {
+        return new ReflectionFieldAccessor(field);
+    }
+
+    /**
+     * A {@link FieldAccessor} that delegates to {@link Field}.
+     */
+    private static class ReflectionFieldAccessor implements FieldAccessor {
+
+        private final Field field;
+
+        /**
+         * Creates a new {@link ReflectionFieldAccessor}.
+         *
+         * @param field
+         */
+        private ReflectionFieldAccessor(final Field field) {
+            this.field = field;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see FieldAccessor#get()
+         */
+        @Override
+        public Object get(final Object target) {
+            return getField(field, target);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see FieldAccessor#set()
+         */
+        @Override
+        public void set(final Object target, final Object value) {
+            setField(field, target, value);
+        }
+    }
+}
@@ -5,15 +5,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb3.repository.KeysetPageable;
+import org.springframework.data.orientdb3.repository.KeysetSlice;
 import org.springframework.data.orientdb3.repository.OrientdbRepository;
+import org.springframework.data.orientdb3.repository.Update;
+import org.springframework.data.orientdb3.repository.query.KeysetQuery;
 import org.springframework.data.orientdb3.repository.query.QueryUtils;
 import org.springframework.data.orientdb3.support.OrientdbEntityManager;
 import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,6 +63,10 @@ public class SimpleOrientdbRepository<T, ID> implements OrientdbRepository<T, ID
      */
     @Override
     public Page<T> findAll(final Pageable pageable) {
+        if (pageable instanceof KeysetPageable) {
+            KeysetSlice<T> slice = findAll((KeysetPageable) pageable);
+            return new PageImpl<>(slice.getContent(), pageable, em.count(entityInformation));
+        }
         List<T> pageContent = em.doQuery(QueryUtils.createPageQuery(pageable, entityInformation.getEntityName()),
                 new Object[0], entityInformation);
         if (pageable.isPaged()) {
@@ -66,6 +75,19 @@ public class SimpleOrientdbRepository<T, ID> implements OrientdbRepository<T, ID
         return new PageImpl<>(pageContent);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see OrientdbRepository#findAll(KeysetPageable)
+     */
+    @Override
+    public KeysetSlice<T> findAll(final KeysetPageable pageable) {
+        Assert.notNull(pageable, "Pageable must not be null!");
+
+        KeysetQuery keysetQuery = new KeysetQuery(pageable, entityInformation);
+        return keysetQuery.createSlice(em.doQuery(QueryUtils.createKeysetQuery(keysetQuery,
+                entityInformation.getEntityName()), keysetQuery.getParameters().toArray(), entityInformation));
+    }
+
     /*
      * (non-Javadoc)
      * @see org.springframework.data.repository.CrudRepository#save(Object)
@@ -80,16 +102,12 @@ public class SimpleOrientdbRepository<T, ID> implements OrientdbRepository<T, ID
      * (non-Javadoc)
      * @see org.springframework.data.repository.CrudRepository#saveAll(Iterable)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Override
     public <S extends T> Iterable<S> saveAll(final Iterable<S> entities) {
         Assert.notNull(entities, "entities must not be null!");
 
-        List<S> result = new ArrayList<>();
-        for (S entity : entities) {
-            result.add((S) em.persist(entity, entityInformation));
-        }
-        return result;
+        return em.persistAll(entities, null, entityInformation);
     }
 
     /*
@@ -106,16 +124,12 @@ public class SimpleOrientdbRepository<T, ID> implements OrientdbRepository<T, ID
      * (non-Javadoc)
      * @see OrientdbRepository#saveAll(List,String)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Override
     public <S extends T> List<S> saveAll(final List<S> entities, final String clusterName) {
         Assert.notNull(entities, "entities must not be null!");
 
-        List<S> result = new ArrayList<>();
-        for (S entity : entities) {
-            result.add((S) em.persist(entity, clusterName, entityInformation));
-        }
-        return result;
+        return em.persistAll(entities, clusterName, entityInformation);
     }
 
     /*
@@ -146,7 +160,7 @@ public class SimpleOrientdbRepository<T, ID> implements OrientdbRepository<T, ID
     public boolean existsById(final ID id) {
         Assert.notNull(id, "Id must not be null!");
 
-        return findById(id).isPresent();
+        return em.exists(id, entityInformation);
     }
 
     /*
@@ -166,11 +180,7 @@ public class SimpleOrientdbRepository<T, ID> implements OrientdbRepository<T, ID
     public List<T> findAllById(final Iterable<ID> ids) {
         Assert.notNull(ids, "Ids must not be null!");
 
-        List<T> result = new ArrayList<>();
-        for (ID id : ids) {
-            findById(id).ifPresent(result::add);
-        }
-        return result;
+        return em.findAllById(ids, entityInformation);
     }
 
     /*
@@ -191,8 +201,47 @@ public class SimpleOrientdbRepository<T, ID> implements OrientdbRepository<T, ID
     public void deleteById(final ID id) {
         Assert.notNull(id, "Id must not be null!");
 
-        delete(findById(id).orElseThrow(() -> new EmptyResultDataAccessException(
-                String.format("No %s entity with id %s exists!", entityInformation.getJavaType(), id), 1)));
+        if (em.removeAllById(Collections.singletonList(id), entityInformation) == 0) {
+            throw new EmptyResultDataAccessException(String.format("No %s entity with id %s exists!",
+                    entityInformation.getJavaType(), id), 1);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see OrientdbRepository#deleteAllById(Iterable)
+     */
+    @Transactional
+    @Override
+    public void deleteAllById(final Iterable<? extends ID> ids) {
+        Assert.notNull(ids, "Ids must not be null!");
+
+        em.removeAllById(ids, entityInformation);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see OrientdbRepository#updateAll(Update)
+     */
+    @Transactional
+    @Override
+    public long updateAll(final Update update) {
+        Assert.notNull(update, "Update must not be null!");
+
+        return em.updateAll(update, entityInformation);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see OrientdbRepository#updateAllById(Iterable,Update)
+     */
+    @Transactional
+    @Override
+    public long updateAllById(final Iterable<? extends ID> ids, final Update update) {
+        Assert.notNull(ids, "Ids must not be null!");
+        Assert.notNull(update, "Update must not be null!");
+
+        return em.updateAllById(ids, update, entityInformation);
     }
 
     /*
@@ -216,9 +265,7 @@ public class SimpleOrientdbRepository<T, ID> implements OrientdbRepository<T, ID
     public void deleteAll(final Iterable<? extends T> entities) {
         Assert.notNull(entities, "Entities must not be null!");
 
-        for (T t : entities) {
-            delete(t);
-        }
+        em.removeAll(entities, entityInformation);
     }
 
     /*
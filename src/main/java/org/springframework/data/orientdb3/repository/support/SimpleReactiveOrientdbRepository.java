@@ -0,0 +1,264 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb3.repository.ReactiveOrientdbRepository;
+import org.springframework.data.orientdb3.repository.query.QueryUtils;
+import org.springframework.data.orientdb3.support.OrientdbEntityManager;
+import org.springframework.data.orientdb3.support.ReactiveOrientdbEntityManager;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Default implementation of the {@link org.springframework.data.repository.reactive.ReactiveCrudRepository}
+ * interface.
+ *
+ * @param <T>  the type of the entity to handle
+ * @param <ID> the type of the entity's identifier
+ * @author xxcxy
+ */
+public class SimpleReactiveOrientdbRepository<T, ID> implements ReactiveOrientdbRepository<T, ID> {
+    private final OrientdbEntityInformation<T, ID> entityInformation;
+    private final ReactiveOrientdbEntityManager em;
+
+    /**
+     * Creates a new {@link SimpleReactiveOrientdbRepository}.
+     *
+     * @param entityInformation must not be {@literal null}.
+     * @param em                must not be {@literal null}.
+     */
+    public SimpleReactiveOrientdbRepository(final OrientdbEntityInformation<T, ID> entityInformation,
+                                            final ReactiveOrientdbEntityManager em) {
+        this.entityInformation = entityInformation;
+        this.em = em;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveSortingRepository#findAll(Sort)
+     */
+    @Override
+    public Flux<T> findAll(final Sort sort) {
+        Assert.notNull(sort, "Sort must not be null!");
+
+        if (sort.isUnsorted()) {
+            return findAll();
+        }
+        String sql = QueryUtils.createSortQuery(sort, entityInformation.getEntityName());
+        return em.stream(manager -> manager.doQueryStream(sql, new Object[0], entityInformation));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#save(Object)
+     */
+    @Override
+    public <S extends T> Mono<S> save(final S entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+
+        return em.execute(manager -> (S) manager.persist(entity, entityInformation));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveOrientdbRepository#save(Object,String)
+     */
+    @Override
+    public <S extends T> Mono<S> save(final S entity, final String clusterName) {
+        Assert.notNull(entity, "Entity must not be null!");
+
+        return em.execute(manager -> (S) manager.persist(entity, clusterName, entityInformation));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#saveAll(Iterable)
+     */
+    @Override
+    public <S extends T> Flux<S> saveAll(final Iterable<S> entities) {
+        Assert.notNull(entities, "Entities must not be null!");
+
+        return em.execute(manager -> manager.persistAll(entities, null, entityInformation)).flatMapIterable(s -> s);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#saveAll(Publisher)
+     */
+    @Override
+    public <S extends T> Flux<S> saveAll(final Publisher<S> entityStream) {
+        Assert.notNull(entityStream, "EntityStream must not be null!");
+
+        return Flux.from(entityStream).concatMap(this::save);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveOrientdbRepository#findAll(String)
+     */
+    @Override
+    public Flux<T> findAll(final String clusterName) {
+        return em.execute(manager -> manager.findAll(clusterName, entityInformation)).flatMapIterable(all -> all);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findById(ID)
+     */
+    @Override
+    public Mono<T> findById(final ID id) {
+        Assert.notNull(id, "Id must not be null!");
+
+        return em.execute(manager -> manager.find(id, entityInformation));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findById(Publisher)
+     */
+    @Override
+    public Mono<T> findById(final Publisher<ID> publisher) {
+        Assert.notNull(publisher, "Id must not be null!");
+
+        return Mono.from(publisher).flatMap(this::findById);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#existsById(ID)
+     */
+    @Override
+    public Mono<Boolean> existsById(final ID id) {
+        Assert.notNull(id, "Id must not be null!");
+
+        return em.execute(manager -> manager.exists(id, entityInformation));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#existsById(Publisher)
+     */
+    @Override
+    public Mono<Boolean> existsById(final Publisher<ID> publisher) {
+        Assert.notNull(publisher, "Id must not be null!");
+
+        return Mono.from(publisher).flatMap(this::existsById);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAll()
+     */
+    @Override
+    public Flux<T> findAll() {
+        return em.stream(manager -> manager.doQueryStream("select from " + entityInformation.getEntityName(),
+                new Object[0], entityInformation));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAllById(Iterable)
+     */
+    @Override
+    public Flux<T> findAllById(final Iterable<ID> ids) {
+        Assert.notNull(ids, "Ids must not be null!");
+
+        return em.execute(manager -> manager.findAllById(ids, entityInformation)).flatMapIterable(all -> all);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAllById(Publisher)
+     */
+    @Override
+    public Flux<T> findAllById(final Publisher<ID> idStream) {
+        Assert.notNull(idStream, "IdStream must not be null!");
+
+        return Flux.from(idStream).buffer(OrientdbEntityManager.FIND_ALL_BY_ID_CHUNK_SIZE)
+                .concatMap((List<ID> ids) -> findAllById(ids));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#count()
+     */
+    @Override
+    public Mono<Long> count() {
+        return em.execute(manager -> manager.count(entityInformation));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteById(ID)
+     */
+    @Override
+    public Mono<Void> deleteById(final ID id) {
+        Assert.notNull(id, "Id must not be null!");
+
+        return em.run(manager -> {
+            if (manager.removeAllById(Collections.singletonList(id), entityInformation) == 0) {
+                throw new EmptyResultDataAccessException(String.format("No %s entity with id %s exists!",
+                        entityInformation.getJavaType(), id), 1);
+            }
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteById(Publisher)
+     */
+    @Override
+    public Mono<Void> deleteById(final Publisher<ID> publisher) {
+        Assert.notNull(publisher, "Id must not be null!");
+
+        return Mono.from(publisher).flatMap(this::deleteById);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#delete(Object)
+     */
+    @Override
+    public Mono<Void> delete(final T entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+
+        return em.run(manager -> manager.remove(entity));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll(Iterable)
+     */
+    @Override
+    public Mono<Void> deleteAll(final Iterable<? extends T> entities) {
+        Assert.notNull(entities, "Entities must not be null!");
+
+        return em.run(manager -> manager.removeAll(entities, entityInformation));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll(Publisher)
+     */
+    @Override
+    public Mono<Void> deleteAll(final Publisher<? extends T> entityStream) {
+        Assert.notNull(entityStream, "EntityStream must not be null!");
+
+        return Flux.from(entityStream).concatMap(this::delete).then();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll()
+     */
+    @Override
+    public Mono<Void> deleteAll() {
+        return em.run(manager -> manager.doCommand(QueryUtils.createDeleteAllQuery(entityInformation.getEntityType(),
+                entityInformation.getEntityName()), new Object[0]));
+    }
+}
@@ -1,11 +1,14 @@
 package org.springframework.data.orientdb3.repository.support;
 
 import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.ODirection;
 import com.orientechnologies.orient.core.record.OEdge;
 import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import org.springframework.data.orientdb3.repository.Edge;
 import org.springframework.data.orientdb3.repository.Embedded;
 import org.springframework.data.orientdb3.repository.exception.EntityConvertException;
@@ -16,15 +19,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.orientechnologies.orient.core.metadata.schema.OType.EMBEDDED;
 import static com.orientechnologies.orient.core.metadata.schema.OType.EMBEDDEDLIST;
 import static com.orientechnologies.orient.core.metadata.schema.OType.EMBEDDEDMAP;
 import static com.orientechnologies.orient.core.metadata.schema.OType.EMBEDDEDSET;
+import static java.util.Collections.singletonList;
 import static org.springframework.data.orientdb3.repository.util.Constants.OBJECT_TYPE;
 
 /**
@@ -35,7 +41,7 @@ import static org.springframework.data.orientdb3.repository.util.Constants.OBJEC
 public class VertexPropertyHandler extends PropertyHandler {
 
     private final Field field;
-    private final OrientdbIdParserHolder parserHolder;
+    private final OrientdbEntityInformationHolder infoHolder;
     private final boolean isEdge;
     private final boolean isEmbedded;
     private final boolean isCascade;
@@ -45,12 +51,12 @@ public class VertexPropertyHandler extends PropertyHandler {
      * Creates a new {@link VertexPropertyHandler}.
      *
      * @param field
-     * @param parserHolder
+     * @param infoHolder
      */
-    public VertexPropertyHandler(final Field field, final OrientdbIdParserHolder parserHolder) {
-        super(field);
+    public VertexPropertyHandler(final Field field, final OrientdbEntityInformationHolder infoHolder) {
+        super(field, infoHolder.getFieldAccessorFactory());
         this.field = field;
-        this.parserHolder = parserHolder;
+        this.infoHolder = infoHolder;
         this.oType = getOrientdbType();
 
         if (field.getAnnotation(Embedded.class) != null) {
@@ -89,10 +95,10 @@ public class VertexPropertyHandler extends PropertyHandler {
                 return;
             } else if (oType == EMBEDDED) {
                 oVertex.setProperty(propertyName,
-                        convertToOrientdbProperty(field.getType(), value, session, parserHolder, converted), oType);
+                        convertToOrientdbProperty(field.getType(), value, session, infoHolder, converted), oType);
             } else if (oType == EMBEDDEDMAP) {
                 Map<String, Object> map = convertMap((Map) value,
-                        (type, obj) -> convertToOrientdbProperty(type, obj, session, parserHolder, converted));
+                        (type, obj) -> convertToOrientdbProperty(type, obj, session, infoHolder, converted));
                 oVertex.setProperty(propertyName, map, oType);
             } else {
                 oVertex.setProperty(propertyName, value, oType);
@@ -103,7 +109,8 @@ public class VertexPropertyHandler extends PropertyHandler {
     }
 
     /**
-     * Add a edge to the vertex.
+     * Synchronizes the edges of the vertex with the given value. The edges to unchanged vertices are kept, the other
+     * edges are deleted and the edges to new vertices are added.
      *
      * @param oVertex
      * @param value
@@ -112,34 +119,72 @@ public class VertexPropertyHandler extends PropertyHandler {
      */
     private void setEdgeProperty(final OVertex oVertex, final Object value, final ODatabaseSession session,
                                  final Map<Object, OElement> converted) {
-        String edgeName = getEdgeName();
-        ODirection edgeDirection = getEdgeDirection();
+        List<OVertex> vertices;
         if (oType == EMBEDDED) {
-            for (OEdge old : oVertex.getEdges(edgeDirection, edgeName)) {
-                old.delete();
-            }
-            if (value != null) {
-                OVertex diaNode = (OVertex) convertToOrientdbProperty(field.getType(),
-                        value, session, parserHolder, converted);
-                addEdge(oVertex, diaNode, edgeName, edgeDirection);
-            }
+            vertices = value == null ? new ArrayList<>() : singletonList((OVertex) convertToOrientdbProperty(
+                    field.getType(), value, session, infoHolder, converted));
         } else if (oType == EMBEDDEDLIST || oType == EMBEDDEDSET) {
-            List<OVertex> newEdge = getNewEdge(value, session, converted);
-            for (OEdge old : oVertex.getEdges(edgeDirection, edgeName)) {
-                if (newEdge.contains(old.getVertex(edgeDirection.opposite()))) {
-                    newEdge.remove(old.getVertex(edgeDirection.opposite()));
-                } else {
-                    old.delete();
+            vertices = getNewEdge(value, session, converted);
+        } else {
+            throw new EntityConvertException(oType.name() + " type is not support for edge");
+        }
+        String edgeName = getEdgeName();
+        ODirection edgeDirection = getEdgeDirection();
+
+        // The vertices are keyed by identity, a vertex which is not saved yet can not have a edge
+        Map<ORID, Integer> pending = new HashMap<>(vertices.size() * 4 / 3 + 1);
+        List<OVertex> added = new ArrayList<>();
+        for (OVertex vertex : vertices) {
+            ORID rid = vertex.getIdentity();
+            if (rid.isValid()) {
+                if (pending.merge(rid, 1, Integer::sum) == 1) {
+                    added.add(vertex);
                 }
+            } else {
+                added.add(vertex);
             }
-            for (OVertex to : newEdge) {
+        }
+
+        List<OEdge> deleted = new ArrayList<>();
+        for (OEdge old : oVertex.getEdges(edgeDirection, edgeName)) {
+            ORID rid = getVertexIdentity(old, edgeDirection.opposite());
+            Integer count = pending.get(rid);
+            if (count == null) {
+                deleted.add(old);
+            } else if (count == 1) {
+                pending.remove(rid);
+            } else {
+                pending.put(rid, count - 1);
+            }
+        }
+        for (OEdge old : deleted) {
+            old.delete();
+        }
+        for (OVertex to : added) {
+            ORID rid = to.getIdentity();
+            for (int i = rid.isValid() ? pending.getOrDefault(rid, 0) : 1; i > 0; i--) {
                 addEdge(oVertex, to, edgeName, edgeDirection);
             }
-        } else {
-            throw new EntityConvertException(oType.name() + " type is not support for edge");
         }
     }
 
+    /**
+     * Gets the identity of a vertex of a edge without loading the vertex.
+     *
+     * @param oEdge
+     * @param direction
+     * @return
+     */
+    private ORID getVertexIdentity(final OEdge oEdge, final ODirection direction) {
+        if (oEdge.getRecord() instanceof ODocument) {
+            Object vertex = ((ODocument) oEdge.getRecord()).rawField(direction == ODirection.OUT ? "out" : "in");
+            if (vertex instanceof OIdentifiable) {
+                return ((OIdentifiable) vertex).getIdentity();
+            }
+        }
+        return oEdge.getVertex(direction).getIdentity();
+    }
+
     /**
      * Converts a object collection to a {@link OVertex} list.
      *
@@ -155,7 +200,7 @@ public class VertexPropertyHandler extends PropertyHandler {
         }
         Class gType = (Class) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
         return ((Collection<Object>) value).stream()
-                .map(obj -> (OVertex) convertToOrientdbProperty(gType, obj, session, parserHolder, converted))
+                .map(obj -> (OVertex) convertToOrientdbProperty(gType, obj, session, infoHolder, converted))
                 .collect(Collectors.toList());
     }
 
@@ -217,30 +262,49 @@ public class VertexPropertyHandler extends PropertyHandler {
 
             if (oType == EMBEDDED) {
                 for (OEdge oEdge : edges) {
-                    return convertToJavaProperty(parserHolder, field.getType(),
-                            oEdge.getVertex(direction.opposite()), converted);
+                    return convertToJavaProperty(infoHolder, field.getType(),
+                            getEdgeVertex(oEdge, direction.opposite(), infoHolder), converted);
                 }
             } else if (oType == EMBEDDEDLIST) {
                 return convertCollection(edges, new ArrayList<>(),
-                        (type, obj) -> convertToJavaProperty(parserHolder, type,
-                                ((OEdge) obj).getVertex(direction.opposite()), converted));
+                        (type, obj) -> convertToJavaProperty(infoHolder, type,
+                                getEdgeVertex((OEdge) obj, direction.opposite(), infoHolder), converted));
             } else if (oType == EMBEDDEDSET) {
                 return convertCollection(edges, new HashSet<>(),
-                        (type, obj) -> convertToJavaProperty(parserHolder, type,
-                                ((OEdge) obj).getVertex(direction.opposite()), converted));
+                        (type, obj) -> convertToJavaProperty(infoHolder, type,
+                                getEdgeVertex((OEdge) obj, direction.opposite(), infoHolder), converted));
             }
         }
         if (oType == EMBEDDED) {
-            return convertToJavaProperty(parserHolder, field.getType(), oElement.getProperty(getPropertyName()),
+            return convertToJavaProperty(infoHolder, field.getType(), oElement.getProperty(getPropertyName()),
                     converted);
         }
         if (oType == EMBEDDEDMAP) {
             return convertMap(oElement.getProperty(getPropertyName()),
-                    (type, obj) -> convertToJavaProperty(parserHolder, type, obj, converted));
+                    (type, obj) -> convertToJavaProperty(infoHolder, type, obj, converted));
         }
         return OType.convert(oElement.getProperty(getPropertyName()), field.getType());
     }
 
+    /**
+     * Loads the vertices of the edges at once, the edges are loaded first because the vertex only links the edges.
+     *
+     * @param oElements
+     * @param loader
+     * @return
+     */
+    @Override
+    public List<OElement> prefetch(final Collection<OElement> oElements,
+                                   final Function<Collection<ORID>, List<OElement>> loader) {
+        if (!isEdge) {
+            return super.prefetch(oElements, loader);
+        }
+        ODirection direction = getEdgeDirection();
+        String edgeField = (direction == ODirection.OUT ? "out_" : "in_") + getEdgeName();
+        List<OElement> edges = loader.apply(getLinkedIdentities(oElements, edgeField));
+        return loader.apply(getLinkedIdentities(edges, direction == ODirection.OUT ? "in" : "out"));
+    }
+
     /*
      * (non-Javadoc)
      * @see PropertyHandler#isCascade
@@ -249,4 +313,13 @@ public class VertexPropertyHandler extends PropertyHandler {
     public boolean isCascade() {
         return isEmbedded || isCascade;
     }
+
+    /*
+     * (non-Javadoc)
+     * @see PropertyHandler#isReference
+     */
+    @Override
+    public boolean isReference() {
+        return isEdge;
+    }
 }
@@ -0,0 +1,133 @@
+package org.springframework.data.orientdb3.repository.util;
+
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A small thread-safe cache that evicts the least recently used entry when it is full. Reads don't take a lock,
+ * the recency is recorded in buffers which are drained in batches.
+ *
+ * @param <K>
+ * @param <V>
+ * @author xxcxy
+ */
+public class LruCache<K, V> {
+
+    private final ConcurrentMap<K, V> cache;
+
+    /**
+     * Creates a new {@link LruCache}.
+     *
+     * @param maxSize must be greater than 0.
+     */
+    public LruCache(final int maxSize) {
+        Assert.isTrue(maxSize > 0, "MaxSize must be greater than 0!");
+
+        this.cache = new ConcurrentLinkedHashMap.Builder<K, V>().maximumWeightedCapacity(maxSize).build();
+    }
+
+    /**
+     * Gets the value for a given key, computes it if it does not exist. The function may be called more than once
+     * for the same key by concurrent callers, only one value is kept.
+     *
+     * @param key
+     * @param function
+     * @return
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> function) {
+        V value = cache.get(key);
+        if (value == null) {
+            V newValue = function.apply(key);
+            if (newValue == null) {
+                return null;
+            }
+            value = cache.putIfAbsent(key, newValue);
+            if (value == null) {
+                value = newValue;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value for a given key.
+     *
+     * @param key
+     * @return
+     */
+    public V get(final K key) {
+        return cache.get(key);
+    }
+
+    /**
+     * Puts a value for a given key.
+     *
+     * @param key
+     * @param value
+     */
+    public void put(final K key, final V value) {
+        cache.put(key, value);
+    }
+
+    /**
+     * Removes the value of a given key.
+     *
+     * @param key
+     */
+    public void remove(final K key) {
+        cache.remove(key);
+    }
+
+    /**
+     * Puts a value for a given key if there is none.
+     *
+     * @param key
+     * @param value
+     * @return the current value, {@literal null} if the value was put.
+     */
+    public V putIfAbsent(final K key, final V value) {
+        return cache.putIfAbsent(key, value);
+    }
+
+    /**
+     * Replaces the value of a given key only if it is still the expected value.
+     *
+     * @param key
+     * @param expected
+     * @param value
+     * @return whether the value was replaced.
+     */
+    public boolean replace(final K key, final V expected, final V value) {
+        return cache.replace(key, expected, value);
+    }
+
+    /**
+     * Removes the value of a given key only if it is still the expected value.
+     *
+     * @param key
+     * @param expected
+     * @return whether the value was removed.
+     */
+    public boolean remove(final K key, final V expected) {
+        return cache.remove(key, expected);
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Gets the number of cached values.
+     *
+     * @return
+     */
+    public int size() {
+        return cache.size();
+    }
+}
@@ -1,9 +1,13 @@
 package org.springframework.data.orientdb3.springboot.autoconfigure;
 
+import com.orientechnologies.orient.core.db.ODatabaseType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.orientdb3.support.IOrientdbConfig;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Special adapter for Springboot.
  *
@@ -19,9 +23,22 @@ public class OrientdbProperties implements IOrientdbConfig {
     private String databaseUsername;
     private String databasePassword;
     private String databaseName;
+    private ODatabaseType createDatabaseType;
     private boolean autoGenerateSchema;
+    private boolean backgroundIndexBuild;
     private String entityScanPackage;
     private String projectionScanPackage;
+    private int batchSize;
+    private long countCacheTtl;
+    private int entityCacheSize;
+    private long entityCacheTtl;
+    private int poolMin;
+    private int poolMax;
+    private long poolAcquireTimeout;
+    private int asyncPoolSize;
+    private int asyncQueueCapacity;
+    private boolean asyncVirtualThreads;
+    private Map<String, Object> orientdbConfig = new HashMap<>();
 
     /*
      * (non-Javadoc)
@@ -86,6 +103,15 @@ public class OrientdbProperties implements IOrientdbConfig {
         return hosts;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getCreateDatabaseType()
+     */
+    @Override
+    public ODatabaseType getCreateDatabaseType() {
+        return createDatabaseType;
+    }
+
     /*
      * (non-Javadoc)
      * @see IOrientdbConfig#getAutoGenerateSchema()
@@ -95,6 +121,15 @@ public class OrientdbProperties implements IOrientdbConfig {
         return autoGenerateSchema;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getBackgroundIndexBuild()
+     */
+    @Override
+    public boolean getBackgroundIndexBuild() {
+        return backgroundIndexBuild;
+    }
+
     /*
      * (non-Javadoc)
      * @see IOrientdbConfig#getProjectionScanPackage()
@@ -104,6 +139,105 @@ public class OrientdbProperties implements IOrientdbConfig {
         return projectionScanPackage;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getBatchSize()
+     */
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getCountCacheTtl()
+     */
+    @Override
+    public long getCountCacheTtl() {
+        return countCacheTtl;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getEntityCacheSize()
+     */
+    @Override
+    public int getEntityCacheSize() {
+        return entityCacheSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getEntityCacheTtl()
+     */
+    @Override
+    public long getEntityCacheTtl() {
+        return entityCacheTtl;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getPoolMin()
+     */
+    @Override
+    public int getPoolMin() {
+        return poolMin;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getPoolMax()
+     */
+    @Override
+    public int getPoolMax() {
+        return poolMax;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getPoolAcquireTimeout()
+     */
+    @Override
+    public long getPoolAcquireTimeout() {
+        return poolAcquireTimeout;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getAsyncPoolSize()
+     */
+    @Override
+    public int getAsyncPoolSize() {
+        return asyncPoolSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getAsyncQueueCapacity()
+     */
+    @Override
+    public int getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getAsyncVirtualThreads()
+     */
+    @Override
+    public boolean getAsyncVirtualThreads() {
+        return asyncVirtualThreads;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see IOrientdbConfig#getOrientdbConfig()
+     */
+    @Override
+    public Map<String, Object> getOrientdbConfig() {
+        return orientdbConfig;
+    }
+
     /**
      * Sets hosts.
      *
@@ -158,6 +292,15 @@ public class OrientdbProperties implements IOrientdbConfig {
         this.databaseName = databaseName;
     }
 
+    /**
+     * Sets create database type.
+     *
+     * @param createDatabaseType
+     */
+    public void setCreateDatabaseType(final ODatabaseType createDatabaseType) {
+        this.createDatabaseType = createDatabaseType;
+    }
+
     /**
      * Sets autoGenerateSchema.
      *
@@ -167,6 +310,15 @@ public class OrientdbProperties implements IOrientdbConfig {
         this.autoGenerateSchema = autoGenerateSchema;
     }
 
+    /**
+     * Sets background index build.
+     *
+     * @param backgroundIndexBuild
+     */
+    public void setBackgroundIndexBuild(final boolean backgroundIndexBuild) {
+        this.backgroundIndexBuild = backgroundIndexBuild;
+    }
+
     /**
      * Sets entity scan package.
      *
@@ -184,4 +336,103 @@ public class OrientdbProperties implements IOrientdbConfig {
     public void setProjectionScanPackage(final String projectionScanPackage) {
         this.projectionScanPackage = projectionScanPackage;
     }
+
+    /**
+     * Sets batch size.
+     *
+     * @param batchSize
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets count cache ttl.
+     *
+     * @param countCacheTtl
+     */
+    public void setCountCacheTtl(final long countCacheTtl) {
+        this.countCacheTtl = countCacheTtl;
+    }
+
+    /**
+     * Sets entity cache size.
+     *
+     * @param entityCacheSize
+     */
+    public void setEntityCacheSize(final int entityCacheSize) {
+        this.entityCacheSize = entityCacheSize;
+    }
+
+    /**
+     * Sets entity cache ttl.
+     *
+     * @param entityCacheTtl
+     */
+    public void setEntityCacheTtl(final long entityCacheTtl) {
+        this.entityCacheTtl = entityCacheTtl;
+    }
+
+    /**
+     * Sets pool min.
+     *
+     * @param poolMin
+     */
+    public void setPoolMin(final int poolMin) {
+        this.poolMin = poolMin;
+    }
+
+    /**
+     * Sets pool max.
+     *
+     * @param poolMax
+     */
+    public void setPoolMax(final int poolMax) {
+        this.poolMax = poolMax;
+    }
+
+    /**
+     * Sets pool acquire timeout.
+     *
+     * @param poolAcquireTimeout
+     */
+    public void setPoolAcquireTimeout(final long poolAcquireTimeout) {
+        this.poolAcquireTimeout = poolAcquireTimeout;
+    }
+
+    /**
+     * Sets async pool size.
+     *
+     * @param asyncPoolSize
+     */
+    public void setAsyncPoolSize(final int asyncPoolSize) {
+        this.asyncPoolSize = asyncPoolSize;
+    }
+
+    /**
+     * Sets async queue capacity.
+     *
+     * @param asyncQueueCapacity
+     */
+    public void setAsyncQueueCapacity(final int asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
+
+    /**
+     * Sets async virtual threads.
+     *
+     * @param asyncVirtualThreads
+     */
+    public void setAsyncVirtualThreads(final boolean asyncVirtualThreads) {
+        this.asyncVirtualThreads = asyncVirtualThreads;
+    }
+
+    /**
+     * Sets orientdb config.
+     *
+     * @param orientdbConfig
+     */
+    public void setOrientdbConfig(final Map<String, Object> orientdbConfig) {
+        this.orientdbConfig = orientdbConfig;
+    }
 }
@@ -0,0 +1,134 @@
+package org.springframework.data.orientdb3.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.orientdb3.transaction.SessionScope;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Executes the asynchronous repository calls of a {@link SessionFactory}. Every task is executed in a
+ * {@link SessionScope} of its own, so the tasks do not share a session with the caller or with each other, and the
+ * entity proxies bound by a task are released when it ends.
+ * <p>
+ * The number of concurrent tasks is bounded, by default by the maximum number of pooled sessions. The tasks are
+ * executed by virtual threads if they are enabled and the JDK supports them, otherwise by a fixed thread pool.
+ *
+ * @author xxcxy
+ */
+public class AsyncSessionExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncSessionExecutor.class);
+    private static final String THREAD_NAME_PREFIX = "orientdb-async-";
+
+    private final SessionScope sessionScope;
+    private final ExecutorService executor;
+    @Nullable
+    private final Semaphore permits;
+
+    /**
+     * Creates a new {@link AsyncSessionExecutor}.
+     *
+     * @param sessionFactory must not be {@literal null}.
+     * @param poolSize       the maximum number of concurrent tasks, must be greater than 0.
+     * @param queueCapacity  the maximum number of waiting tasks, a value less than 1 means no limit. Virtual threads
+     *                       do not queue the tasks, they wait for a permit instead.
+     * @param virtualThreads whether to use virtual threads if the JDK supports them.
+     */
+    public AsyncSessionExecutor(final SessionFactory sessionFactory, final int poolSize, final int queueCapacity,
+                                final boolean virtualThreads) {
+        Assert.isTrue(poolSize > 0, "PoolSize must be greater than 0!");
+
+        this.sessionScope = new SessionScope(sessionFactory);
+        ExecutorService virtualThreadExecutor = virtualThreads ? newVirtualThreadExecutor() : null;
+        if (virtualThreadExecutor != null) {
+            this.executor = virtualThreadExecutor;
+            this.permits = new Semaphore(poolSize);
+        } else {
+            BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity)
+                    : new LinkedBlockingQueue<>();
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+            threadFactory.setDaemon(true);
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, queue,
+                    threadFactory);
+            threadPool.allowCoreThreadTimeOut(true);
+            this.executor = threadPool;
+            this.permits = null;
+        }
+    }
+
+    /**
+     * Creates a executor that starts a virtual thread per task.
+     *
+     * @return the executor, {@literal null} if the JDK does not support virtual threads.
+     */
+    @Nullable
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.info("Virtual threads are not supported by this JDK, asynchronous calls use a thread pool.");
+            return null;
+        }
+    }
+
+    /**
+     * Submits a task which is executed with a session of its own.
+     *
+     * @param task must not be {@literal null}.
+     * @param <T>
+     * @return the future of the task result.
+     * @throws TaskRejectedException if the queue of waiting tasks is full or the executor is shut down.
+     */
+    public <T> CompletableFuture<T> submit(final Supplier<T> task) {
+        Assert.notNull(task, "Task must not be null!");
+
+        try {
+            return CompletableFuture.supplyAsync(() -> execute(task), executor);
+        } catch (RejectedExecutionException e) {
+            throw new TaskRejectedException("Asynchronous orientdb task rejected by " + executor, e);
+        }
+    }
+
+    /**
+     * Executes a task in a {@link SessionScope}.
+     *
+     * @param task
+     * @param <T>
+     * @return
+     */
+    private <T> T execute(final Supplier<T> task) {
+        if (permits != null) {
+            permits.acquireUninterruptibly();
+        }
+        try {
+            return sessionScope.execute(task);
+        } finally {
+            SessionListener.unbindEntityProxies();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Shuts the executor down, the submitted tasks are still executed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
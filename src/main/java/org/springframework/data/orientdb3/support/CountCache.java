@@ -0,0 +1,99 @@
+package org.springframework.data.orientdb3.support;
+
+import org.springframework.data.orientdb3.repository.util.LruCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * A cache of the total counts of paged queries, shared by all {@link OrientdbEntityManager}s of a
+ * {@link SessionFactory}. A change of any record may change any count, so every save, delete and command clears the
+ * whole cache.
+ *
+ * @author xxcxy
+ */
+public class CountCache {
+
+    private static final int MAX_CACHED_COUNTS = 1024;
+
+    private final LruCache<List<Object>, CachedCount> counts = new LruCache<>(MAX_CACHED_COUNTS);
+    private final long ttl;
+
+    /**
+     * Creates a new {@link CountCache}.
+     *
+     * @param ttl the milliseconds a count is cached, must be greater than 0.
+     */
+    public CountCache(final long ttl) {
+        Assert.isTrue(ttl > 0, "Ttl must be greater than 0!");
+
+        this.ttl = ttl;
+    }
+
+    /**
+     * Gets a cached count.
+     *
+     * @param key the count sql and its parameters.
+     * @return the count, {@literal null} if it is not cached or expired.
+     */
+    @Nullable
+    public Long get(final List<Object> key) {
+        CachedCount cached = counts.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expireAt <= System.currentTimeMillis()) {
+            counts.remove(key, cached);
+            return null;
+        }
+        return cached.count;
+    }
+
+    /**
+     * Caches a count for the time to live.
+     *
+     * @param key   the count sql and its parameters.
+     * @param count
+     */
+    public void put(final List<Object> key, final Long count) {
+        counts.put(key, new CachedCount(count, System.currentTimeMillis() + ttl));
+    }
+
+    /**
+     * Clears all cached counts.
+     */
+    public void clear() {
+        if (counts.size() > 0) {
+            counts.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached counts.
+     *
+     * @return
+     */
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * A count with its expiration time.
+     */
+    private static final class CachedCount {
+        private final Long count;
+        private final long expireAt;
+
+        /**
+         * Creates a new {@link CachedCount}.
+         *
+         * @param count
+         * @param expireAt
+         */
+        CachedCount(final Long count, final long expireAt) {
+            this.count = count;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.cache.OLocalRecordCache;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.OEdgeDocument;
+import com.orientechnologies.orient.core.record.impl.OVertexDocument;
+import org.springframework.data.orientdb3.repository.CachedEntity;
+import org.springframework.data.orientdb3.repository.util.LruCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A second-level cache of the records of the {@link CachedEntity} entities, shared by all sessions of a
+ * {@link SessionFactory}. The records are keyed by their {@link ORID}, every session gets its own copy of a cached
+ * record, and a cached record never replaces a newer version.
+ * <p>
+ * Reads don't take a lock: a record is cached as its immutable serialized content, and every copy deserializes its
+ * own content. A copy of a version which was changed out of this cache is rejected when it is saved, by the
+ * version check of the orientdb commit.
+ * <p>
+ * The least recently used records are evicted when the cache is full, and the records expire after the configured
+ * time to live. The records changed by a transaction are evicted when the transaction is committed.
+ *
+ * @author xxcxy
+ */
+public class EntityCache {
+
+    private final LruCache<ORID, CachedRecord> records;
+    private final int maxSize;
+    private final long ttl;
+    private final Set<String> classNames = ConcurrentHashMap.newKeySet();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates a new {@link EntityCache}.
+     *
+     * @param maxSize the maximum number of cached records, must be greater than 0.
+     * @param ttl     the milliseconds a record is cached, a value less than 1 means the records do not expire.
+     */
+    public EntityCache(final int maxSize, final long ttl) {
+        Assert.isTrue(maxSize > 0, "MaxSize must be greater than 0!");
+
+        this.records = new LruCache<>(maxSize);
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Loads a record of a cached entity, the record is cached if it is not cached yet.
+     *
+     * @param session
+     * @param rid
+     * @param entityName the class name of the record.
+     * @return the record, {@literal null} if it does not exist.
+     */
+    @Nullable
+    public OElement load(final ODatabaseSession session, final ORID rid, final String entityName) {
+        OElement cached = get(session, rid, entityName);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = getGeneration();
+        OElement loaded = session.load(rid);
+        if (loaded != null) {
+            put(session, loaded, loadGeneration);
+        }
+        return loaded;
+    }
+
+    /**
+     * Gets a copy of a cached record for a session. The records known by the session and the records changed by the
+     * current transaction are not read from the cache, the session has to load them.
+     *
+     * @param session
+     * @param rid
+     * @param entityName the class name of the record.
+     * @return the copy, {@literal null} if the session has to load the record.
+     */
+    @Nullable
+    public OElement get(final ODatabaseSession session, final ORID rid, final String entityName) {
+        OLocalRecordCache localCache = session.getLocalCache();
+        if (!rid.isPersistent() || localCache.findRecord(rid) != null
+                || session.getTransaction().getRecordEntry(rid) != null) {
+            return null;
+        }
+        classNames.add(entityName);
+        CachedRecord cached = records.get(rid);
+        if (cached != null && cached.isExpired()) {
+            // Only this expired record is removed, not a newer one put meanwhile
+            records.remove(rid, cached);
+            cached = null;
+        }
+        if (cached == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        ODocument copy = cached.newCopy(rid);
+        localCache.updateRecord(copy);
+        return copy;
+    }
+
+    /**
+     * Caches a record loaded by a session. The record is not cached if it is changed by the current transaction, or
+     * if records were evicted since the load started, because a committed transaction may have changed it.
+     *
+     * @param session
+     * @param oElement
+     * @param loadGeneration the {@link #getGeneration()} before the load started.
+     */
+    public void put(final ODatabaseSession session, final OElement oElement, final long loadGeneration) {
+        ODocument record = (ODocument) oElement.getRecord();
+        if (record.isDirty() || !record.getIdentity().isPersistent()
+                || session.getTransaction().getRecordEntry(record.getIdentity()) != null) {
+            return;
+        }
+        // A record of a class unknown until now may have been changed while it was loaded
+        if (loadGeneration != generation.get() || classNames.add(record.getClassName())) {
+            return;
+        }
+        ORID rid = record.getIdentity().copy();
+        CachedRecord newRecord = new CachedRecord(record, ttl > 0 ? System.currentTimeMillis() + ttl : 0);
+        while (true) {
+            CachedRecord cached = records.get(rid);
+            if (cached == null) {
+                if (records.putIfAbsent(rid, newRecord) == null) {
+                    break;
+                }
+            } else if (cached.version > newRecord.version) {
+                return;
+            } else if (records.replace(rid, cached, newRecord)) {
+                break;
+            }
+        }
+        // An eviction which started after the check above may have missed the new record
+        if (loadGeneration != generation.get()) {
+            records.remove(rid, newRecord);
+        }
+    }
+
+    /**
+     * Gets the current generation, it is increased by every eviction. A load must get the generation before it
+     * starts and pass it to {@link #put(ODatabaseSession, OElement, long)}.
+     *
+     * @return
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Checks whether the records of a class may be cached.
+     *
+     * @param className
+     * @return
+     */
+    boolean isCachedClass(final String className) {
+        return classNames.contains(className);
+    }
+
+    /**
+     * Evicts the given records.
+     *
+     * @param rids
+     */
+    public void evict(final Collection<ORID> rids) {
+        generation.incrementAndGet();
+        for (ORID rid : rids) {
+            records.remove(rid);
+        }
+        evictionCount.add(rids.size());
+    }
+
+    /**
+     * Evicts all records, e.g. after a sql command that may change any record.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        evictionCount.add(records.size());
+        records.clear();
+    }
+
+    /**
+     * Gets the number of cached records.
+     *
+     * @return
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Gets the maximum number of cached records.
+     *
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of loads that found a cached record.
+     *
+     * @return
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of loads that had to load the record from the database.
+     *
+     * @return
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the number of records evicted because they were changed.
+     *
+     * @return
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Gets the ratio of hits to all cached loads, returns 1.0 if there is no load.
+     *
+     * @return
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return String.format("Entity cache [size: %d, max: %d, hits: %d, misses: %d, evictions: %d]", size(),
+                maxSize, getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    /**
+     * The serialized content of a cached record with its version and expiration time.
+     */
+    private static final class CachedRecord {
+        private final Class<? extends ODocument> type;
+        private final byte[] content;
+        private final int version;
+        private final long expireAt;
+
+        /**
+         * Creates a new {@link CachedRecord}.
+         *
+         * @param record   must not be dirty.
+         * @param expireAt 0 if the record does not expire.
+         */
+        CachedRecord(final ODocument record, final long expireAt) {
+            this.type = record.getClass();
+            // The content of the loaded record may be replaced, but never changed in place
+            this.content = record.toStream().clone();
+            this.version = record.getVersion();
+            this.expireAt = expireAt;
+        }
+
+        /**
+         * Creates a copy of the record, the copy deserializes the content only when its fields are read.
+         *
+         * @param rid
+         * @return
+         */
+        ODocument newCopy(final ORID rid) {
+            ODocument copy;
+            if (OVertexDocument.class.isAssignableFrom(type)) {
+                copy = new OVertexDocument();
+            } else if (OEdgeDocument.class.isAssignableFrom(type)) {
+                copy = new OEdgeDocument();
+            } else {
+                copy = new ODocument();
+            }
+            return (ODocument) ORecordInternal.fill(copy, rid.copy(), version, content, false);
+        }
+
+        /**
+         * Checks whether the record is expired.
+         *
+         * @return
+         */
+        boolean isExpired() {
+            return expireAt > 0 && System.currentTimeMillis() > expireAt;
+        }
+    }
+}
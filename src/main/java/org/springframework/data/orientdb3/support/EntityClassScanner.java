@@ -0,0 +1,121 @@
+package org.springframework.data.orientdb3.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.index.CandidateComponentsIndex;
+import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Finds the classes of a package which are annotated with one of the given annotations, e.g. the entities.
+ * <p>
+ * The classes are read from the candidate components index ({@code META-INF/spring.components}) which the
+ * {@code spring-context-indexer} annotation processor generates at build time, because the entity annotations are
+ * {@link org.springframework.stereotype.Indexed}. The classpath is only scanned if the index lists no class of the
+ * package, so every jar with classes of a indexed package must be indexed.
+ *
+ * @author xxcxy
+ */
+public class EntityClassScanner {
+    private static final Logger LOG = LoggerFactory.getLogger(EntityClassScanner.class);
+
+    private final ClassLoader classLoader;
+    private final List<Class<? extends Annotation>> annotationTypes;
+
+    /**
+     * Creates a new {@link EntityClassScanner} which uses the default class loader.
+     *
+     * @param annotationTypes
+     */
+    @SafeVarargs
+    public EntityClassScanner(final Class<? extends Annotation>... annotationTypes) {
+        this(ClassUtils.getDefaultClassLoader(), annotationTypes);
+    }
+
+    /**
+     * Creates a new {@link EntityClassScanner}.
+     *
+     * @param classLoader
+     * @param annotationTypes
+     */
+    @SafeVarargs
+    public EntityClassScanner(@Nullable final ClassLoader classLoader,
+                              final Class<? extends Annotation>... annotationTypes) {
+        this.classLoader = classLoader;
+        this.annotationTypes = Arrays.asList(annotationTypes);
+    }
+
+    /**
+     * Finds the annotated classes of a package and its sub packages.
+     *
+     * @param basePackage
+     * @return
+     */
+    public List<Class<?>> scan(final String basePackage) {
+        Set<String> classNames = getIndexedClassNames(basePackage);
+        if (classNames.isEmpty()) {
+            classNames = scanClassNames(basePackage);
+        } else {
+            LOG.debug("Read {} classes of package {} from the components index", classNames.size(), basePackage);
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : classNames) {
+            try {
+                classes.add(ClassUtils.forName(className, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOG.error("Load class: {} error: ", className, e);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Gets the names of the annotated classes listed in the components index.
+     *
+     * @param basePackage
+     * @return
+     */
+    private Set<String> getIndexedClassNames(final String basePackage) {
+        Set<String> classNames = new TreeSet<>();
+        CandidateComponentsIndex index = CandidateComponentsIndexLoader.loadIndex(classLoader);
+        if (index != null) {
+            for (Class<? extends Annotation> annotationType : annotationTypes) {
+                classNames.addAll(index.getCandidateTypes(basePackage, annotationType.getName()));
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * Scans the classpath for the names of the annotated classes.
+     *
+     * @param basePackage
+     * @return
+     */
+    private Set<String> scanClassNames(final String basePackage) {
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
+        provider.setResourceLoader(new DefaultResourceLoader(classLoader));
+        for (Class<? extends Annotation> annotationType : annotationTypes) {
+            AnnotationTypeFilter filter = new AnnotationTypeFilter(annotationType);
+            // A plain type filter makes the provider scan, it would use the components index for a annotation filter
+            provider.addIncludeFilter((reader, factory) -> filter.match(reader, factory));
+        }
+        Set<String> classNames = new TreeSet<>();
+        for (BeanDefinition beanDefinition : provider.findCandidateComponents(basePackage)) {
+            classNames.add(beanDefinition.getBeanClassName());
+        }
+        return classNames;
+    }
+}
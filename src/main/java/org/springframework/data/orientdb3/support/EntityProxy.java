@@ -3,21 +3,17 @@ package org.springframework.data.orientdb3.support;
 
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.record.OElement;
-import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.MethodInterceptor;
 import org.springframework.cglib.proxy.MethodProxy;
 import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
 import org.springframework.data.orientdb3.repository.support.PropertyHandler;
-import org.springframework.util.StringUtils;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.springframework.data.orientdb3.support.SessionListener.bindEntityProxy;
-import static org.springframework.util.ReflectionUtils.setField;
 
 /**
  * A entity proxy that intercepting access to the target object and get or set a {@link OElement} property.
@@ -32,8 +28,10 @@ public class EntityProxy<T> implements MethodInterceptor {
     private final OrientdbEntityInformation<T, ?> info;
     private final Map<String, Object> updateField;
     private final Map<OElement, Object> gotObjects;
+    private final Map<String, Object> snapshots;
     private boolean inSaving;
     private boolean isLoaded;
+    private EntityProxyFactory proxyFactory;
 
     /**
      * Creates a new {@link EntityProxy}.
@@ -50,6 +48,7 @@ public class EntityProxy<T> implements MethodInterceptor {
         this.info = info;
         this.updateField = new HashMap<>();
         this.gotObjects = gotObjects;
+        this.snapshots = new HashMap<>();
         this.inSaving = false;
         this.isLoaded = false;
     }
@@ -60,11 +59,8 @@ public class EntityProxy<T> implements MethodInterceptor {
      * @return
      */
     public T getProxyInstance() {
-        Enhancer en = new Enhancer();
-        en.setSuperclass(target.getClass());
-        en.setCallback(this);
-        en.setInterfaces(new Class[]{EntityProxyInterface.class});
-        T t = (T) en.create();
+        proxyFactory = EntityProxyFactory.getFactory(target.getClass());
+        T t = (T) proxyFactory.newInstance(this);
         bindEntityProxy((EntityProxyInterface) t);
         return t;
     }
@@ -76,41 +72,42 @@ public class EntityProxy<T> implements MethodInterceptor {
     @Override
     public Object intercept(final Object o, final Method method, final Object[] objects,
                             final MethodProxy methodProxy) throws Throwable {
-        String methodName = method.getName();
-        if (methodName.equals("saveOElement") && objects[0] instanceof ODatabaseSession) {
-            return saveOElement((ODatabaseSession) objects[0], (String) objects[1]);
-        } else if (methodName.equals("deleteOElement")) {
-            deleteOElement();
-        } else if (methodName.equals("findOElement")) {
-            return oElement;
-        } else if (methodName.equals("loadId")) {
-            loadId();
-        } else if (methodName.equals("loadStable")) {
-            if (!isLoaded) {
-                load();
-            }
-        } else if (isLoaded) {
-            return method.invoke(target, objects);
-        } else if (methodName.startsWith("get")) {
-            String fieldName = getFieldName(methodName);
-            if (info.isId(fieldName)) {
-                return info.getId(oElement);
-            } else if (info.hasFieldName(fieldName)) {
-                if (updateField.containsKey(fieldName)) {
-                    return updateField.get(fieldName);
-                } else {
-                    return getPropertyValue(o, info.getPropertyHandler(fieldName), fieldName);
+        ProxyMethod proxyMethod = proxyFactory.getProxyMethod(method, info);
+        switch (proxyMethod.getKind()) {
+            case SAVE_OELEMENT:
+                return saveOElement((ODatabaseSession) objects[0], (String) objects[1]);
+            case DELETE_OELEMENT:
+                deleteOElement();
+                return null;
+            case FIND_OELEMENT:
+                return oElement;
+            case LOAD_ID:
+                loadId();
+                return null;
+            case LOAD_STABLE:
+                if (!isLoaded) {
+                    load();
                 }
-            }
-        } else if (methodName.startsWith("set")) {
-            String fieldName = getFieldName(methodName);
-            if (info.hasFieldName(fieldName)) {
-                updateField.put(fieldName, objects[0]);
-            }
-        } else {
-            return method.invoke(target, objects);
+                return null;
+            default:
+                break;
+        }
+        if (isLoaded) {
+            return methodProxy.invoke(target, objects);
+        }
+        switch (proxyMethod.getKind()) {
+            case ID_GETTER:
+                return info.getId(oElement);
+            case GETTER:
+                return getPropertyValue(o, proxyMethod.getPropertyHandler(), proxyMethod.getFieldName());
+            case SETTER:
+                updateField.put(proxyMethod.getFieldName(), objects[0]);
+                return null;
+            case IGNORED:
+                return null;
+            default:
+                return methodProxy.invoke(target, objects);
         }
-        return null;
     }
 
     /**
@@ -120,13 +117,14 @@ public class EntityProxy<T> implements MethodInterceptor {
         isLoaded = true;
         loadId();
         for (PropertyHandler ph : info.getAllPropertyHandlers()) {
-            Field field = ph.getPropertyField();
-            Object value = updateField.get(field.getName());
+            String fieldName = ph.getPropertyField().getName();
+            Object value = updateField.get(fieldName);
             if (value == null) {
                 value = ph.getPropertyInJavaType(oElement, gotObjects);
+                takeSnapshot(ph, fieldName, value);
             }
             if (value != null) {
-                setField(field, target, value);
+                ph.setFieldValue(target, value);
                 setPropertyLoad(value);
             }
         }
@@ -170,6 +168,7 @@ public class EntityProxy<T> implements MethodInterceptor {
                 gotObjects.put(oElement, entityProxy);
             }
             Object obj = ph.getPropertyInJavaType(oElement, gotObjects);
+            takeSnapshot(ph, fieldName, obj);
             // If a collection be got, we can not listen its changed but we can assume that it will be changed.
             if (obj instanceof Collection || obj instanceof Map || ph.isCascade()) {
                 updateField.put(fieldName, obj);
@@ -179,7 +178,21 @@ public class EntityProxy<T> implements MethodInterceptor {
     }
 
     /**
-     * Saves the {@link OElement}.
+     * Takes a snapshot of a property value read from the {@link OElement}, unless the property already has one.
+     *
+     * @param ph
+     * @param fieldName
+     * @param value
+     */
+    private void takeSnapshot(final PropertyHandler ph, final String fieldName, final Object value) {
+        if (!snapshots.containsKey(fieldName)) {
+            snapshots.put(fieldName, PropertySnapshot.of(value, ph.isReference()));
+        }
+    }
+
+    /**
+     * Saves the {@link OElement}. Only the properties changed since they were read are written to the
+     * {@link OElement}.
      *
      * @param session
      * @param cluster
@@ -189,44 +202,85 @@ public class EntityProxy<T> implements MethodInterceptor {
         if (inSaving) {
             return oElement;
         }
-        if (isLoaded) {
-            return ((EntityProxyInterface) info.save(target, session, cluster, new HashMap<>())).findOElement();
-        }
         inSaving = true;
+        try {
+            Map<Object, OElement> converted = new HashMap<>();
+            converted.put(target, oElement);
+
+            if (isLoaded) {
+                for (PropertyHandler ph : info.getAllPropertyHandlers()) {
+                    Object value = ph.getFieldValue(target);
+                    writeProperty(ph, ph.getPropertyField().getName(), value, session, converted);
 
-        for (Map.Entry<String, Object> field : updateField.entrySet()) {
-            PropertyHandler ph = info.getPropertyHandler(field.getKey());
-            ph.setOElementProperty(oElement, field.getValue(), session, new HashMap<>());
+                    // An unchanged reference is not written, but the referenced entity may have been changed
+                    if (ph.isCascade()) {
+                        cascadeSave(value, session);
+                    }
+                }
+            } else {
+                for (Map.Entry<String, Object> field : updateField.entrySet()) {
+                    PropertyHandler ph = info.getPropertyHandler(field.getKey());
+                    writeProperty(ph, field.getKey(), field.getValue(), session, converted);
 
-            // Saves cascade property
-            if (ph.isCascade() && field.getValue() instanceof EntityProxyInterface) {
-                ((EntityProxyInterface) field.getValue()).saveOElement(session, null);
+                    // Saves cascade property
+                    if (ph.isCascade()) {
+                        cascadeSave(field.getValue(), session);
+                    }
+                }
             }
-        }
 
-        if (cluster != null) {
-            oElement.save(cluster);
-        } else {
-            oElement.save();
+            if (cluster != null) {
+                oElement.save(cluster);
+            } else {
+                oElement.save();
+            }
+            if (isLoaded) {
+                loadId();
+            }
+        } finally {
+            inSaving = false;
         }
-        inSaving = false;
         return oElement;
     }
 
     /**
-     * Deletes the {@link OElement}.
+     * Saves the loaded entities of a cascade property, including those held by a collection or a map.
+     *
+     * @param property
+     * @param session
      */
-    private void deleteOElement() {
-        oElement.delete();
+    private void cascadeSave(final Object property, final ODatabaseSession session) {
+        if (property instanceof EntityProxyInterface) {
+            ((EntityProxyInterface) property).saveOElement(session, null);
+        } else if (property instanceof Collection) {
+            ((Collection<?>) property).forEach(p -> cascadeSave(p, session));
+        } else if (property instanceof Map) {
+            ((Map<?, ?>) property).values().forEach(p -> cascadeSave(p, session));
+        }
     }
 
     /**
-     * Gets the field name for a given method name.
+     * Writes a property value to the {@link OElement} if it was changed since its snapshot was taken.
      *
-     * @param methodName
-     * @return
+     * @param ph
+     * @param fieldName
+     * @param value
+     * @param session
+     * @param converted
+     */
+    private void writeProperty(final PropertyHandler ph, final String fieldName, final Object value,
+                               final ODatabaseSession session, final Map<Object, OElement> converted) {
+        if (snapshots.containsKey(fieldName) && !PropertySnapshot.isChanged(snapshots.get(fieldName), value)) {
+            return;
+        }
+        ph.setOElementProperty(oElement, value, session, converted);
+        snapshots.put(fieldName, PropertySnapshot.of(value, ph.isReference()));
+    }
+
+    /**
+     * Deletes the {@link OElement}.
      */
-    private String getFieldName(final String methodName) {
-        return StringUtils.uncapitalize(methodName.substring(3));
+    private void deleteOElement() {
+        oElement.delete();
     }
 }
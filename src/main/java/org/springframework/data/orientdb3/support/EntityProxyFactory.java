@@ -0,0 +1,107 @@
+package org.springframework.data.orientdb3.support;
+
+import org.springframework.cglib.proxy.Callback;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the proxy instances of a entity class. The proxy class is generated only once per entity class, every
+ * instance is bound to its own {@link MethodInterceptor}. The {@link ProxyMethod}s of the class are also resolved only
+ * once per {@link OrientdbEntityInformation}.
+ *
+ * @author xxcxy
+ */
+final class EntityProxyFactory {
+    private static final Map<Class<?>, EntityProxyFactory> FACTORIES = new ConcurrentHashMap<>();
+
+    private final Class<?> proxyClass;
+    private final Constructor<?> constructor;
+    private final Map<OrientdbEntityInformation<?, ?>, Map<Method, ProxyMethod>> proxyMethods =
+            new ConcurrentReferenceHashMap<>();
+
+    /**
+     * Creates a new {@link EntityProxyFactory}.
+     *
+     * @param entityClass
+     */
+    private EntityProxyFactory(final Class<?> entityClass) {
+        Enhancer en = new Enhancer();
+        en.setSuperclass(entityClass);
+        en.setInterfaces(new Class[]{EntityProxyInterface.class});
+        en.setCallbackType(MethodInterceptor.class);
+        this.proxyClass = en.createClass();
+        try {
+            this.constructor = proxyClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(String.format("Entity class %s must have a no-arg constructor!",
+                    entityClass.getName()), e);
+        }
+        ReflectionUtils.makeAccessible(constructor);
+    }
+
+    /**
+     * Gets the {@link EntityProxyFactory} for a given entity class.
+     *
+     * @param entityClass
+     * @return
+     */
+    static EntityProxyFactory getFactory(final Class<?> entityClass) {
+        EntityProxyFactory factory = FACTORIES.get(entityClass);
+        if (factory != null) {
+            return factory;
+        }
+        return FACTORIES.computeIfAbsent(entityClass, EntityProxyFactory::new);
+    }
+
+    /**
+     * Gets the {@link ProxyMethod} of a proxied method resolved with the given {@link OrientdbEntityInformation}.
+     * The methods are resolved once per {@link OrientdbEntityInformation}, several ones of the same class don't
+     * replace each other's methods. The {@link OrientdbEntityInformation}s are softly referenced, so the factory
+     * does not keep them alive.
+     *
+     * @param method
+     * @param entityInformation
+     * @return
+     */
+    ProxyMethod getProxyMethod(final Method method, final OrientdbEntityInformation<?, ?> entityInformation) {
+        Map<Method, ProxyMethod> methods = proxyMethods.get(entityInformation);
+        if (methods == null) {
+            methods = proxyMethods.computeIfAbsent(entityInformation, info -> new ConcurrentHashMap<>());
+        }
+        ProxyMethod proxyMethod = methods.get(method);
+        if (proxyMethod == null) {
+            proxyMethod = methods.computeIfAbsent(method, m -> ProxyMethod.resolve(m, entityInformation));
+        }
+        return proxyMethod;
+    }
+
+    /**
+     * Creates a proxy instance. The interceptor is registered before the constructor is called, so the methods
+     * called by the constructor are also intercepted.
+     *
+     * @param interceptor
+     * @return
+     */
+    Object newInstance(final MethodInterceptor interceptor) {
+        Enhancer.registerCallbacks(proxyClass, new Callback[]{interceptor});
+        try {
+            return constructor.newInstance();
+        } catch (InvocationTargetException e) {
+            ReflectionUtils.rethrowRuntimeException(e.getTargetException());
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create proxy of " + proxyClass.getSuperclass().getName(), e);
+        } finally {
+            Enhancer.registerCallbacks(proxyClass, null);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package org.springframework.data.orientdb3.support;
 
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * The orientdb config properties.
  *
@@ -68,4 +74,133 @@ public interface IOrientdbConfig {
      * @return
      */
     String getProjectionScanPackage();
+
+    /**
+     * Gets the type of the database created if it does not exist, {@literal null} means the database must exist. A
+     * {@link ODatabaseType#MEMORY} database is only visible to the factory which created it.
+     *
+     * @return
+     */
+    @Nullable
+    default ODatabaseType getCreateDatabaseType() {
+        return null;
+    }
+
+    /**
+     * Gets whether the indexes of a generated schema are built in the background, so the startup does not wait for
+     * the indexes of classes with many records. The unique indexes are constraints and are always built before the
+     * startup finishes, otherwise duplicates written before the index exists would fail its build. A failed build is
+     * reported by {@link SessionFactory#getIndexBuild()}.
+     *
+     * @return
+     */
+    default boolean getBackgroundIndexBuild() {
+        return false;
+    }
+
+    /**
+     * Gets the number of records saved between two commits of a bulk save, a value less than 1 means the bulk save
+     * is committed only once.
+     *
+     * @return
+     */
+    default int getBatchSize() {
+        return 0;
+    }
+
+    /**
+     * Gets the milliseconds the total count of a paged query is cached, a value less than 1 disables the cache. The
+     * cache is shared by all repositories of a {@link SessionFactory}, it is bypassed in read-write transactions and
+     * cleared by every save, delete and command of any repository.
+     *
+     * @return
+     */
+    default long getCountCacheTtl() {
+        return 0;
+    }
+
+    /**
+     * Gets the maximum number of records kept in the {@link EntityCache}, a value less than 1 disables the cache.
+     *
+     * @return
+     */
+    default int getEntityCacheSize() {
+        return 0;
+    }
+
+    /**
+     * Gets the milliseconds a record is kept in the {@link EntityCache}, a value less than 1 means the records only
+     * leave the cache when they are changed or evicted by newer records.
+     *
+     * @return
+     */
+    default long getEntityCacheTtl() {
+        return 0;
+    }
+
+    /**
+     * Gets the minimum number of pooled sessions, a value less than 1 uses the orientdb default.
+     *
+     * @return
+     */
+    default int getPoolMin() {
+        return 0;
+    }
+
+    /**
+     * Gets the maximum number of pooled sessions, a value less than 1 uses the orientdb default.
+     *
+     * @return
+     */
+    default int getPoolMax() {
+        return 0;
+    }
+
+    /**
+     * Gets the milliseconds to wait for a pooled session, a value less than 1 uses the orientdb default.
+     *
+     * @return
+     */
+    default long getPoolAcquireTimeout() {
+        return 0;
+    }
+
+    /**
+     * Gets the maximum number of concurrent asynchronous repository calls, a value less than 1 uses the maximum
+     * number of pooled sessions.
+     *
+     * @return
+     */
+    default int getAsyncPoolSize() {
+        return 0;
+    }
+
+    /**
+     * Gets the maximum number of asynchronous repository calls waiting for a thread, a value less than 1 means no
+     * limit.
+     *
+     * @return
+     */
+    default int getAsyncQueueCapacity() {
+        return 0;
+    }
+
+    /**
+     * Gets whether the asynchronous repository calls are executed by virtual threads if the JDK supports them.
+     *
+     * @return
+     */
+    default boolean getAsyncVirtualThreads() {
+        return false;
+    }
+
+    /**
+     * Gets additional orientdb configurations keyed by the {@link com.orientechnologies.orient.core.config
+     * .OGlobalConfiguration} key, e.g. "db.pool.idleTimeout".
+     *
+     * @return
+     */
+    default Map<String, Object> getOrientdbConfig() {
+        return Collections.emptyMap();
+    }
 }
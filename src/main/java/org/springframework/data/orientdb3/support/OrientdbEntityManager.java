@@ -1,35 +1,51 @@
 package org.springframework.data.orientdb3.support;
 
+import com.orientechnologies.orient.core.cache.OLocalRecordCache;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.iterator.ORecordIteratorClass;
-import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.orientdb3.repository.QueryResult;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb3.repository.FetchPlan;
+import org.springframework.data.orientdb3.repository.Update;
+import org.springframework.data.orientdb3.repository.query.QueryUtils;
 import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.data.orientdb3.repository.support.PropertyHandler;
+import org.springframework.data.orientdb3.repository.support.ReflectionFieldAccessorFactory;
 import org.springframework.data.orientdb3.transaction.SessionHolder;
+import org.springframework.data.orientdb3.transaction.SessionScope;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
-import static org.springframework.util.ReflectionUtils.doWithFields;
-import static org.springframework.util.ReflectionUtils.setField;
+import static java.util.Collections.singletonList;
 
 /**
  * A orientdb entity manager.
@@ -39,9 +55,22 @@ import static org.springframework.util.ReflectionUtils.setField;
 public class OrientdbEntityManager {
 
     private static final Logger SQL_LOG = LoggerFactory.getLogger("orientdb.query.sql");
+    private static final Logger BATCH_LOG = LoggerFactory.getLogger("orientdb.batch");
     private static final Logger LOG = LoggerFactory.getLogger(OrientdbEntityManager.class);
 
+    /**
+     * The maximum number of record ids in one findAllById query.
+     */
+    public static final int FIND_ALL_BY_ID_CHUNK_SIZE = 500;
+
+    /**
+     * The maximum number of record ids in one delete or update command of removeAll and updateAllById.
+     */
+    public static final int MODIFY_ALL_BY_ID_CHUNK_SIZE = 500;
+
     private final SessionFactory sessionFactory;
+    private volatile QueryResultMappers queryResultMappers = new QueryResultMappers(
+            new ReflectionFieldAccessorFactory());
 
     /**
      * Creates a new {@link OrientdbEntityManager}.
@@ -52,6 +81,39 @@ public class OrientdbEntityManager {
         this.sessionFactory = sessionFactory;
     }
 
+    /**
+     * Gets the second-level {@link EntityCache} of the {@link SessionFactory}.
+     *
+     * @return the cache, {@literal null} if the cache is disabled.
+     */
+    @Nullable
+    public EntityCache getEntityCache() {
+        return sessionFactory.getEntityCache();
+    }
+
+    /**
+     * Sets the {@link QueryResultMappers} which map the query results to the projection classes.
+     *
+     * @param queryResultMappers must not be {@literal null}.
+     */
+    public void setQueryResultMappers(final QueryResultMappers queryResultMappers) {
+        Assert.notNull(queryResultMappers, "QueryResultMappers must not be null!");
+
+        this.queryResultMappers = queryResultMappers;
+    }
+
+    /**
+     * Executes a call asynchronously with a session of its own, see {@link AsyncSessionExecutor}. The call does not
+     * take part in the transaction of the caller, so it does not see the changes the caller has not committed.
+     *
+     * @param call
+     * @param <R>
+     * @return
+     */
+    public <R> CompletableFuture<R> doAsync(final Supplier<R> call) {
+        return sessionFactory.getAsyncExecutor().submit(call);
+    }
+
     /**
      * Saves an entity.
      *
@@ -62,14 +124,7 @@ public class OrientdbEntityManager {
      * @return
      */
     public <T, ID> T persist(final T entity, final OrientdbEntityInformation<T, ID> entityInformation) {
-        return doWithSession(session -> {
-            if (entity instanceof EntityProxyInterface) {
-                ((EntityProxyInterface) entity).saveOElement(session, null);
-                return entity;
-            } else {
-                return entityInformation.save(entity, session, null, new HashMap<>());
-            }
-        });
+        return doWithSession(session -> save(entity, null, entityInformation, session, new HashMap<>()));
     }
 
     /**
@@ -84,14 +139,114 @@ public class OrientdbEntityManager {
      */
     public <T, ID> T persist(final T entity, final String cluster,
                              final OrientdbEntityInformation<T, ID> entityInformation) {
-        return doWithSession(session -> {
-            if (entity instanceof EntityProxyInterface) {
-                ((EntityProxyInterface) entity).saveOElement(session, cluster);
-                return entity;
-            } else {
-                return entityInformation.save(entity, session, cluster, new HashMap<>());
+        return doWithSession(session -> save(entity, cluster, entityInformation, session, new HashMap<>()));
+    }
+
+    /**
+     * Saves all entities with one session. Out of a transaction, the session commits every
+     * {@link SessionFactory#getBatchSize()} records, or only once if the batch size is less than 1.
+     *
+     * @param entities
+     * @param cluster
+     * @param entityInformation
+     * @param <T>
+     * @param <S>
+     * @return
+     */
+    public <T, S extends T> List<S> persistAll(final Iterable<S> entities, @Nullable final String cluster,
+                                               final OrientdbEntityInformation<T, ?> entityInformation) {
+        ODatabaseSession boundSession = getBoundSession();
+        if (boundSession != null) {
+            // The surrounding transaction decides when the records are committed
+            boolean inTransaction = boundSession.getTransaction().isActive();
+            return persistAll(entities, cluster, entityInformation, boundSession, !inTransaction);
+        }
+        ODatabaseSession session = sessionFactory.openSession();
+        try {
+            return persistAll(entities, cluster, entityInformation, session, true);
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Saves all entities with a given session and shares the converted map between them, so a linked entity is
+     * saved only once.
+     *
+     * @param entities
+     * @param cluster
+     * @param entityInformation
+     * @param session
+     * @param commit
+     * @param <T>
+     * @param <S>
+     * @return
+     */
+    private <T, S extends T> List<S> persistAll(final Iterable<S> entities, @Nullable final String cluster,
+                                                final OrientdbEntityInformation<T, ?> entityInformation,
+                                                final ODatabaseSession session, final boolean commit) {
+        int batchSize = sessionFactory.getBatchSize();
+        Map<Object, OElement> converted = new HashMap<>();
+        List<S> result = new ArrayList<>();
+        int batch = 0;
+        int batchCount = 0;
+        long start = System.nanoTime();
+        if (commit) {
+            session.begin();
+        }
+        try {
+            for (S entity : entities) {
+                result.add(save(entity, cluster, entityInformation, session, converted));
+                if (batchSize > 0 && ++batch == batchSize) {
+                    if (commit) {
+                        session.commit();
+                        session.begin();
+                    }
+                    showBatch(entityInformation, ++batchCount, batch, start);
+                    batch = 0;
+                    start = System.nanoTime();
+                }
             }
-        });
+            if (commit) {
+                session.commit();
+            }
+        } catch (RuntimeException e) {
+            if (commit && session.getTransaction().isActive()) {
+                session.rollback();
+            }
+            throw e;
+        }
+        if (batchSize < 1 || batch > 0) {
+            showBatch(entityInformation, ++batchCount, batchSize < 1 ? result.size() : batch, start);
+        }
+        return result;
+    }
+
+    /**
+     * Saves an entity with a given session.
+     *
+     * @param entity
+     * @param cluster
+     * @param entityInformation
+     * @param session
+     * @param converted
+     * @param <T>
+     * @param <S>
+     * @return
+     */
+    private <T, S extends T> S save(final S entity, @Nullable final String cluster,
+                                    final OrientdbEntityInformation<T, ?> entityInformation,
+                                    final ODatabaseSession session, final Map<Object, OElement> converted) {
+        S saved;
+        if (entity instanceof EntityProxyInterface) {
+            ((EntityProxyInterface) entity).saveOElement(session, cluster);
+            saved = entity;
+        } else {
+            saved = (S) entityInformation.save(entity, session, cluster, converted);
+        }
+        evict(saved);
+        clearCountCache();
+        return saved;
     }
 
     /**
@@ -104,10 +259,183 @@ public class OrientdbEntityManager {
         withSession(session -> {
             if (entity instanceof EntityProxyInterface) {
                 ((EntityProxyInterface) entity).deleteOElement();
+                evict(entity);
+                clearCountCache();
             }
         });
     }
 
+    /**
+     * Deletes the records of the given ids without loading them, with one command per
+     * {@link #MODIFY_ALL_BY_ID_CHUNK_SIZE} ids.
+     *
+     * @param ids
+     * @param entityInformation
+     * @param <T>
+     * @param <ID>
+     * @return the number of deleted records.
+     */
+    public <T, ID> long removeAllById(final Iterable<? extends ID> ids,
+                                      final OrientdbEntityInformation<T, ID> entityInformation) {
+        List<ORID> rids = new ArrayList<>();
+        for (ID id : ids) {
+            rids.add(entityInformation.convertToORID(id));
+        }
+        return removeAll(rids, entityInformation);
+    }
+
+    /**
+     * Deletes the records of the given entities, with one command per {@link #MODIFY_ALL_BY_ID_CHUNK_SIZE} entities.
+     * A entity which has never been saved is skipped.
+     *
+     * @param entities
+     * @param entityInformation
+     * @param <T>
+     * @return the number of deleted records.
+     */
+    public <T> long removeAll(final Iterable<? extends T> entities,
+                              final OrientdbEntityInformation<T, ?> entityInformation) {
+        List<ORID> rids = new ArrayList<>();
+        for (T entity : entities) {
+            if (entity instanceof EntityProxyInterface) {
+                rids.add(((EntityProxyInterface) entity).findOElement().getIdentity());
+            } else if (!entityInformation.isNew(entity)) {
+                rids.add(((OrientdbEntityInformation) entityInformation).convertToORID(
+                        entityInformation.getId(entity)));
+            }
+        }
+        return removeAll(rids, entityInformation);
+    }
+
+    /**
+     * Deletes the records of the given {@link ORID}s. The persistent records are deleted by commands, the records
+     * which are created in the current transaction are not known to a command and are deleted one by one.
+     *
+     * @param rids
+     * @param entityInformation
+     * @return
+     */
+    private long removeAll(final List<ORID> rids, final OrientdbEntityInformation<?, ?> entityInformation) {
+        if (rids.isEmpty()) {
+            return 0;
+        }
+        EntityCache entityCache = getEntityCache(entityInformation);
+        clearCountCache();
+        return doWithSession(session -> {
+            long deleted = 0;
+            List<ORID> persistent = new ArrayList<>();
+            for (ORID rid : new LinkedHashSet<>(rids)) {
+                if (rid.isPersistent()) {
+                    persistent.add(rid);
+                } else {
+                    OElement oElement = session.load(rid);
+                    if (oElement != null) {
+                        oElement.delete();
+                        deleted++;
+                    }
+                }
+            }
+            for (int i = 0; i < persistent.size(); i += MODIFY_ALL_BY_ID_CHUNK_SIZE) {
+                List<ORID> chunk = persistent.subList(i, Math.min(i + MODIFY_ALL_BY_ID_CHUNK_SIZE,
+                        persistent.size()));
+                deleted += commandCount(session, QueryUtils.createDeleteAllByIdQuery(
+                        entityInformation.getEntityType(), chunk), new Object[0]);
+                if (entityCache != null) {
+                    entityCache.evict(chunk);
+                }
+            }
+            return deleted;
+        });
+    }
+
+    /**
+     * Updates all records of a entity class with one command, the entities are not loaded.
+     *
+     * @param update
+     * @param entityInformation
+     * @return the number of updated records.
+     */
+    public long updateAll(final Update update, final OrientdbEntityInformation<?, ?> entityInformation) {
+        return doCommandCount(QueryUtils.createUpdateQuery(entityInformation.getEntityName(), update,
+                entityInformation), getUpdateParameters(update));
+    }
+
+    /**
+     * Updates the records of the given ids without loading them, with one command per
+     * {@link #MODIFY_ALL_BY_ID_CHUNK_SIZE} ids.
+     *
+     * @param ids
+     * @param update
+     * @param entityInformation
+     * @param <T>
+     * @param <ID>
+     * @return the number of updated records.
+     */
+    public <T, ID> long updateAllById(final Iterable<? extends ID> ids, final Update update,
+                                      final OrientdbEntityInformation<T, ID> entityInformation) {
+        List<ORID> rids = new ArrayList<>();
+        for (ID id : ids) {
+            rids.add(entityInformation.convertToORID(id));
+        }
+        if (rids.isEmpty()) {
+            return 0;
+        }
+        List<ORID> distinct = new ArrayList<>(new LinkedHashSet<>(rids));
+        Object[] parameters = getUpdateParameters(update);
+        EntityCache entityCache = getEntityCache(entityInformation);
+        clearCountCache();
+        return doWithSession(session -> {
+            long updated = 0;
+            for (int i = 0; i < distinct.size(); i += MODIFY_ALL_BY_ID_CHUNK_SIZE) {
+                List<ORID> chunk = distinct.subList(i, Math.min(i + MODIFY_ALL_BY_ID_CHUNK_SIZE, distinct.size()));
+                updated += commandCount(session, QueryUtils.createUpdateQuery(chunk.stream().map(ORID::toString)
+                        .collect(Collectors.joining(", ", "[", "]")), update, entityInformation), parameters);
+                if (entityCache != null) {
+                    entityCache.evict(chunk);
+                }
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * Gets the values of a {@link Update} in the order of the assignments.
+     *
+     * @param update
+     * @return
+     */
+    private static Object[] getUpdateParameters(final Update update) {
+        return update.getAssignments().stream().map(Update.Assignment::getValue).toArray();
+    }
+
+    /**
+     * Evicts the record of a saved or deleted entity from the {@link EntityCache}. A record changed in a transaction
+     * is evicted again when the transaction is committed, a record changed out of a transaction is only evicted here.
+     *
+     * @param entity
+     */
+    private void evict(final Object entity) {
+        EntityCache entityCache = sessionFactory.getEntityCache();
+        if (entityCache == null || !(entity instanceof EntityProxyInterface)) {
+            return;
+        }
+        OElement oElement = ((EntityProxyInterface) entity).findOElement();
+        ORID rid = oElement.getIdentity();
+        if (rid.isPersistent() && entityCache.isCachedClass(((ODocument) oElement.getRecord()).getClassName())) {
+            entityCache.evict(singletonList(rid.copy()));
+        }
+    }
+
+    /**
+     * Clears the cached counts of paged queries, a change of any record may change them.
+     */
+    private void clearCountCache() {
+        CountCache countCache = sessionFactory.getCountCache();
+        if (countCache != null) {
+            countCache.clear();
+        }
+    }
+
     /**
      * Finds an entity for the given id.
      *
@@ -118,8 +446,11 @@ public class OrientdbEntityManager {
      * @return
      */
     public <T, ID> T find(final ID oId, final OrientdbEntityInformation<T, ID> entityInformation) {
+        ORID rid = entityInformation.convertToORID(oId);
+        EntityCache entityCache = getEntityCache(entityInformation);
         return doWithSession(session -> {
-            OElement oElement = session.load(entityInformation.convertToORID(oId));
+            OElement oElement = entityCache != null
+                    ? entityCache.load(session, rid, entityInformation.getEntityName()) : session.load(rid);
             if (oElement != null) {
                 return entityInformation.getEntityProxy(oElement, new HashMap<>());
             } else {
@@ -128,6 +459,85 @@ public class OrientdbEntityManager {
         });
     }
 
+    /**
+     * Checks whether a record exists for the given id without loading it. The changes of the current transaction are
+     * taken into account.
+     *
+     * @param oId
+     * @param entityInformation
+     * @param <T>
+     * @param <ID>
+     * @return
+     */
+    public <T, ID> boolean exists(final ID oId, final OrientdbEntityInformation<T, ID> entityInformation) {
+        ORID rid = entityInformation.convertToORID(oId);
+        return doWithSession(session -> {
+            ORecordOperation operation = session.getTransaction().getRecordEntry(rid);
+            if (operation != null) {
+                return operation.type != ORecordOperation.DELETED;
+            }
+            return rid.isPersistent() && session.getClusterNameById(rid.getClusterId()) != null
+                    && session.getRecordMetadata(rid) != null;
+        });
+    }
+
+    /**
+     * Finds all entities for the given ids with one query per {@link #FIND_ALL_BY_ID_CHUNK_SIZE} ids. The entities
+     * are returned in the order of the ids, ids without a record are skipped.
+     *
+     * @param ids
+     * @param entityInformation
+     * @param <T>
+     * @param <ID>
+     * @return
+     */
+    public <T, ID> List<T> findAllById(final Iterable<ID> ids, final OrientdbEntityInformation<T, ID> entityInformation) {
+        List<ORID> rids = new ArrayList<>();
+        for (ID id : ids) {
+            rids.add(entityInformation.convertToORID(id));
+        }
+        if (rids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<ORID, T> found = new HashMap<>();
+        HashMap<OElement, Object> converted = new HashMap<>();
+        EntityCache entityCache = getEntityCache(entityInformation);
+        withSession(session -> {
+            List<ORID> notCached = new ArrayList<>();
+            for (ORID rid : new LinkedHashSet<>(rids)) {
+                OElement cached = entityCache != null
+                        ? entityCache.get(session, rid, entityInformation.getEntityName()) : null;
+                if (cached != null) {
+                    found.put(rid, entityInformation.getEntityProxy(cached, converted));
+                } else {
+                    notCached.add(rid);
+                }
+            }
+            long loadGeneration = entityCache != null ? entityCache.getGeneration() : 0;
+            for (int i = 0; i < notCached.size(); i += FIND_ALL_BY_ID_CHUNK_SIZE) {
+                String sql = QueryUtils.createFindAllByIdQuery(notCached.subList(i,
+                        Math.min(i + FIND_ALL_BY_ID_CHUNK_SIZE, notCached.size())));
+                showSql(sql, new Object[0]);
+                try (OResultSet resultSet = session.query(sql)) {
+                    resultSet.elementStream().forEach(e -> {
+                        if (entityCache != null) {
+                            entityCache.put(session, e, loadGeneration);
+                        }
+                        found.put(e.getIdentity(), entityInformation.getEntityProxy(e, converted));
+                    });
+                }
+            }
+        });
+        List<T> all = new ArrayList<>();
+        for (ORID rid : rids) {
+            T entity = found.get(rid);
+            if (entity != null) {
+                all.add(entity);
+            }
+        }
+        return all;
+    }
+
     /**
      * Finds all entities by a designated class.
      *
@@ -191,12 +601,106 @@ public class OrientdbEntityManager {
      */
     public <T> List<T> doQuery(final String query, final Object[] parameters,
                                final OrientdbEntityInformation<T, ?> entityInformation) {
+        return doQuery(query, parameters, entityInformation, new String[0]);
+    }
+
+    /**
+     * Executes a query and loads the properties of the given fetch plan for all entities at once.
+     *
+     * @param query
+     * @param parameters
+     * @param entityInformation
+     * @param fetchPlan         the property paths to load, see {@link FetchPlan}.
+     * @param <T>
+     * @return
+     */
+    public <T> List<T> doQuery(final String query, final Object[] parameters,
+                               final OrientdbEntityInformation<T, ?> entityInformation, final String[] fetchPlan) {
         showSql(query, parameters);
         HashMap<OElement, Object> converted = new HashMap<>();
-        return doWithSession(session ->
-                session.query(query, parameters)
+        return doWithSession(session -> {
+            if (fetchPlan.length == 0) {
+                return session.query(query, parameters)
                         .elementStream().map(e -> entityInformation.getEntityProxy(e, converted))
-                        .collect(Collectors.toList()));
+                        .collect(Collectors.toList());
+            }
+            List<OElement> oElements;
+            try (OResultSet resultSet = session.query(query, parameters)) {
+                oElements = resultSet.elementStream().collect(Collectors.toList());
+            }
+            fetch(session, oElements, entityInformation, asList(fetchPlan));
+            return oElements.stream().map(e -> entityInformation.getEntityProxy(e, converted))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * Loads the properties of the given paths for all elements, one level after the other.
+     *
+     * @param session
+     * @param oElements
+     * @param entityInformation
+     * @param paths
+     */
+    private void fetch(final ODatabaseSession session, final List<OElement> oElements,
+                       final OrientdbEntityInformation<?, ?> entityInformation, final Collection<String> paths) {
+        if (oElements.isEmpty() || paths.isEmpty()) {
+            return;
+        }
+        // Groups the paths by their first field, so every field of a level is loaded once
+        Map<String, List<String>> nestedPaths = new LinkedHashMap<>();
+        for (String path : paths) {
+            int dot = path.indexOf('.');
+            List<String> nested = nestedPaths.computeIfAbsent(dot < 0 ? path : path.substring(0, dot),
+                    fieldName -> new ArrayList<>());
+            if (dot >= 0) {
+                nested.add(path.substring(dot + 1));
+            }
+        }
+        for (Map.Entry<String, List<String>> entry : nestedPaths.entrySet()) {
+            PropertyHandler propertyHandler = entityInformation.getPropertyHandler(entry.getKey());
+            if (propertyHandler == null) {
+                throw new IllegalArgumentException(String.format("Fetch plan property %s not found in %s!",
+                        entry.getKey(), entityInformation.getJavaType().getName()));
+            }
+            List<OElement> fetched = propertyHandler.prefetch(oElements, rids -> loadRecords(session, rids));
+            fetch(session, fetched, entityInformation.getRelatedEntityInformation(propertyHandler.getElementType()),
+                    entry.getValue());
+        }
+    }
+
+    /**
+     * Loads the records of the given ids with one query per {@link #FIND_ALL_BY_ID_CHUNK_SIZE} ids. The loaded
+     * records are put in the local cache of the session, so the later loads of the records do not query again.
+     *
+     * @param session
+     * @param rids
+     * @return
+     */
+    private List<OElement> loadRecords(final ODatabaseSession session, final Collection<ORID> rids) {
+        List<OElement> loaded = new ArrayList<>();
+        List<ORID> notCached = new ArrayList<>();
+        OLocalRecordCache localCache = session.getLocalCache();
+        for (ORID rid : rids) {
+            ORecord cached = localCache.findRecord(rid);
+            if (cached instanceof OElement) {
+                loaded.add((OElement) cached);
+            } else {
+                notCached.add(rid);
+            }
+        }
+        for (int i = 0; i < notCached.size(); i += FIND_ALL_BY_ID_CHUNK_SIZE) {
+            String sql = QueryUtils.createFindAllByIdQuery(notCached.subList(i,
+                    Math.min(i + FIND_ALL_BY_ID_CHUNK_SIZE, notCached.size())));
+            showSql(sql, new Object[0]);
+            try (OResultSet resultSet = session.query(sql)) {
+                resultSet.elementStream().forEach(e -> {
+                    localCache.updateRecord(e.getRecord());
+                    loaded.add(e);
+                });
+            }
+        }
+        return loaded;
     }
 
     /**
@@ -211,46 +715,60 @@ public class OrientdbEntityManager {
     public <T> List<T> doQuery(final String query, final Object[] parameters, final Class<T> type) {
         showSql(query, parameters);
         return doWithSession(session ->
-                session.query(query, parameters).stream().map(oResult -> convert(oResult, type, true))
+                session.query(query, parameters).stream().map(oResult -> convert(oResult, type))
                         .collect(Collectors.toList()));
     }
 
     /**
-     * Converts a {@link OResult} to a java type object.
+     * Executes a query and returns a lazy {@link Stream} backed by the open result set. Each element is converted
+     * when it is consumed, the result set and the non-transactional session are closed when the stream is closed.
      *
-     * @param oResult
-     * @param clazz
+     * @param query
+     * @param parameters
+     * @param entityInformation
      * @param <T>
      * @return
      */
-    private <T> T convert(final OResult oResult, final Class<T> clazz, final boolean checkAnnotation) {
-        if (checkAnnotation && clazz.getAnnotation(QueryResult.class) == null) {
-            LOG.error("Projection class must have a QueryResult annotation!");
-            return null;
-        }
-        try {
-            T dto = clazz.newInstance();
-            fillObject(dto, clazz, name -> oResult.getProperty(name));
-            return dto;
-        } catch (Exception e) {
-            LOG.error("Create new dto error: ", e);
-        }
-        return null;
+    public <T> Stream<T> doQueryStream(final String query, final Object[] parameters,
+                                       final OrientdbEntityInformation<T, ?> entityInformation) {
+        showSql(query, parameters);
+        // Every element uses its own converted map, so the consumed elements can be collected
+        return doWithStreamSession(session ->
+                session.query(query, parameters)
+                        .elementStream().map(e -> entityInformation.getEntityProxy(e, new HashMap<>())));
     }
 
     /**
-     * Converts a {@link OElement} to a java type object.
+     * Executes a query sql and returns a lazy {@link Stream} backed by the open result set.
      *
-     * @param oElement
+     * @param query
+     * @param parameters
+     * @param type
+     * @param <T>
+     * @return
+     */
+    public <T> Stream<T> doQueryStream(final String query, final Object[] parameters, final Class<T> type) {
+        showSql(query, parameters);
+        return doWithStreamSession(session ->
+                session.query(query, parameters).stream().map(oResult -> convert(oResult, type)));
+    }
+
+    /**
+     * Converts a {@link OResult} to a java type object with the {@link QueryResultMapper} of the type.
+     *
+     * @param oResult
      * @param clazz
      * @param <T>
      * @return
      */
-    private <T> T convert(final OElement oElement, final Class<T> clazz) {
+    private <T> T convert(final OResult oResult, final Class<T> clazz) {
         try {
-            T dto = clazz.newInstance();
-            fillObject(dto, clazz, name -> oElement.getProperty(name));
-            return dto;
+            QueryResultMapper<T> mapper = queryResultMappers.getMapper(clazz);
+            if (!mapper.isQueryResult()) {
+                LOG.error("Projection class must have a QueryResult annotation!");
+                return null;
+            }
+            return mapper.map(oResult::getProperty);
         } catch (Exception e) {
             LOG.error("Create new dto error: ", e);
         }
@@ -258,91 +776,161 @@ public class OrientdbEntityManager {
     }
 
     /**
-     * Sets a java object's field value.
+     * Executes a command.
      *
-     * @param t
-     * @param clazz
-     * @param function
-     * @param <T>
+     * @param sql
+     * @param parameters
      */
-    private <T> void fillObject(final T t, final Class<T> clazz, final Function<String, Object> function) {
-        doWithFields(clazz, field -> {
-            field.setAccessible(true);
-            Class fieldType = field.getType();
-            Object obj = function.apply(field.getName());
-            if (List.class.isAssignableFrom(fieldType)) {
-                setField(field, t, convertCollection(new ArrayList(), (Iterable) obj, field));
-            } else if (Set.class.isAssignableFrom(fieldType)) {
-                setField(field, t, convertCollection(new HashSet(), (Iterable) obj, field));
-            } else if (Map.class.isAssignableFrom(fieldType)) {
-                Class type = (Class) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[1];
-                Map map = new HashMap<String, Object>();
-                for (Map.Entry<String, Object> entry : ((Map<String, Object>) obj).entrySet()) {
-                    map.put(entry.getKey(), convertToJavaType(entry.getValue(), type));
-                }
-                setField(field, t, map);
-            } else {
-                setField(field, t, convertToJavaType(obj, fieldType));
+    public void doCommand(final String sql, final Object[] parameters) {
+        showSql(sql, parameters);
+        withSession(session ->
+                session.command(sql, parameters));
+        // The records changed by a command are unknown
+        clearCountCache();
+        EntityCache entityCache = sessionFactory.getEntityCache();
+        if (entityCache != null) {
+            entityCache.clear();
+        }
+    }
+
+    /**
+     * Executes a command which modifies records, e.g. a delete or an update.
+     *
+     * @param sql
+     * @param parameters
+     * @return the number of modified records.
+     */
+    public long doCommandCount(final String sql, final Object[] parameters) {
+        long count = doWithSession(session -> commandCount(session, sql, parameters));
+        // The records changed by a command are unknown
+        clearCountCache();
+        EntityCache entityCache = sessionFactory.getEntityCache();
+        if (entityCache != null) {
+            entityCache.clear();
+        }
+        return count;
+    }
+
+    /**
+     * Executes a command which modifies records with the given session.
+     *
+     * @param session
+     * @param sql
+     * @param parameters
+     * @return the number of modified records.
+     */
+    private long commandCount(final ODatabaseSession session, final String sql, final Object[] parameters) {
+        showSql(sql, parameters);
+        try (OResultSet resultSet = session.command(sql, parameters)) {
+            if (!resultSet.hasNext()) {
+                return 0;
             }
-        });
+            Number count = resultSet.next().getProperty("count");
+            return count == null ? 0 : count.longValue();
+        }
     }
 
     /**
-     * Converts a orientdb's iterable to a java collection.
+     * Executes a count sql.
      *
-     * @param collection
-     * @param iterable
-     * @param field
+     * @param sql
+     * @param parameters
      * @return
      */
-    private Object convertCollection(final Collection collection, final Iterable iterable, final Field field) {
-        Class type = (Class) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
-        for (Object oc : iterable) {
-            collection.add(convertToJavaType(oc, type));
-        }
-        return collection;
+    public Long doQueryCount(final String sql, final Object[] parameters) {
+        showSql(sql, parameters);
+        return doWithSession(session -> {
+            try (OResultSet resultSet = session.query(sql, parameters)) {
+                return resultSet.next().getProperty("count");
+            }
+        });
     }
 
     /**
-     * Converts a orientdb object to a java object.
+     * Executes the count sql of a paged query, the count is cached in the {@link CountCache} of the
+     * {@link SessionFactory}. A transaction which may have changed records does not use the cache, and every change
+     * made through any {@link OrientdbEntityManager} of the factory clears it.
      *
-     * @param orientObj
-     * @param javaType
+     * @param sql
+     * @param parameters
      * @return
      */
-    private Object convertToJavaType(final Object orientObj, final Class javaType) {
-        if (orientObj == null) {
-            return null;
-        } else if (OType.isSimpleType(orientObj)) {
-            return OType.convert(orientObj, javaType);
-        } else if (orientObj instanceof OElement) {
-            return convert((OElement) orientObj, javaType);
+    public Long doQueryCountCached(final String sql, final Object[] parameters) {
+        CountCache countCache = sessionFactory.getCountCache();
+        if (countCache == null || (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return doQueryCount(sql, parameters);
         }
-        return convert((OResult) orientObj, javaType, false);
+        List<Object> key = getCountCacheKey(sql, parameters);
+        Long cached = countCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Long count = doQueryCount(sql, parameters);
+        countCache.put(key, count);
+        return count;
     }
 
     /**
-     * Executes a command.
+     * Gets the cache key of a count sql, the paging parameters do not change the count.
      *
      * @param sql
      * @param parameters
+     * @return
      */
-    public void doCommand(final String sql, final Object[] parameters) {
-        showSql(sql, parameters);
-        withSession(session ->
-                session.command(sql, parameters));
+    private List<Object> getCountCacheKey(final String sql, final Object[] parameters) {
+        List<Object> key = new ArrayList<>();
+        key.add(sql);
+        for (Object parameter : parameters) {
+            if (!(parameter instanceof Pageable) && !(parameter instanceof Sort)) {
+                key.add(parameter);
+            }
+        }
+        return key;
     }
 
     /**
-     * Executes a count sql.
+     * Executes a query and checks whether it has any result, the result is not converted.
      *
      * @param sql
      * @param parameters
      * @return
      */
-    public Long doQueryCount(final String sql, final Object[] parameters) {
+    public boolean doQueryExists(final String sql, final Object[] parameters) {
         showSql(sql, parameters);
-        return doWithSession(session -> session.query(sql, parameters).next().getProperty("count"));
+        return doWithSession(session -> {
+            try (OResultSet resultSet = session.query(sql, parameters)) {
+                return resultSet.hasNext();
+            }
+        });
+    }
+
+    /**
+     * Gets the session bound by a transaction or a {@link SessionScope}. The session is activated because other
+     * sessions may have been used on this thread since it was bound.
+     *
+     * @return the bound session, {@literal null} if no session is bound.
+     */
+    @Nullable
+    private ODatabaseSession getBoundSession() {
+        SessionHolder sessionHolder = (SessionHolder) TransactionSynchronizationManager.getResource(sessionFactory);
+        if (sessionHolder == null || sessionHolder.getSession() == null) {
+            return null;
+        }
+        ODatabaseSession session = sessionHolder.getSession();
+        session.activateOnCurrentThread();
+        return session;
+    }
+
+    /**
+     * Gets the {@link EntityCache} if the records of a entity are cached.
+     *
+     * @param entityInformation
+     * @return the cache, {@literal null} if the cache is disabled or the entity is not cached.
+     */
+    @Nullable
+    private EntityCache getEntityCache(final OrientdbEntityInformation<?, ?> entityInformation) {
+        return entityInformation.isCached() ? sessionFactory.getEntityCache() : null;
     }
 
     /**
@@ -353,9 +941,9 @@ public class OrientdbEntityManager {
      * @return
      */
     private <R> R doWithSession(final Function<ODatabaseSession, R> function) {
-        Object sessionHolder = TransactionSynchronizationManager.getResource(sessionFactory);
-        if (sessionHolder != null) {
-            return function.apply(((SessionHolder) sessionHolder).getSession());
+        ODatabaseSession boundSession = getBoundSession();
+        if (boundSession != null) {
+            return function.apply(boundSession);
         } else {
             // If it is not in a transaction, every call use a independent session
             ODatabaseSession session = sessionFactory.openSession();
@@ -368,15 +956,54 @@ public class OrientdbEntityManager {
         }
     }
 
+    /**
+     * Wraps a session getter for a lazy {@link Stream}. If it is not in a transaction, the session is kept open
+     * until the stream is closed.
+     *
+     * @param function
+     * @param <R>
+     * @return
+     */
+    private <R> Stream<R> doWithStreamSession(final Function<ODatabaseSession, Stream<R>> function) {
+        ODatabaseSession boundSession = getBoundSession();
+        if (boundSession != null) {
+            return function.apply(boundSession);
+        }
+        ODatabaseSession session = sessionFactory.openSession();
+        try {
+            Stream<R> stream = function.apply(session);
+            Spliterator<R> spliterator = stream.spliterator();
+            // Other sessions may be activated on this thread between two elements
+            return StreamSupport.stream(new Spliterators.AbstractSpliterator<R>(spliterator.estimateSize(),
+                    spliterator.characteristics()) {
+                @Override
+                public boolean tryAdvance(final Consumer<? super R> action) {
+                    session.activateOnCurrentThread();
+                    return spliterator.tryAdvance(action);
+                }
+            }, false).onClose(() -> {
+                try {
+                    session.activateOnCurrentThread();
+                    stream.close();
+                } finally {
+                    session.close();
+                }
+            });
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
     /**
      * Wraps a session getter.
      *
      * @param consumer
      */
     private void withSession(final Consumer<ODatabaseSession> consumer) {
-        Object sessionHolder = TransactionSynchronizationManager.getResource(sessionFactory);
-        if (sessionHolder != null) {
-            consumer.accept(((SessionHolder) sessionHolder).getSession());
+        ODatabaseSession boundSession = getBoundSession();
+        if (boundSession != null) {
+            consumer.accept(boundSession);
         } else {
             ODatabaseSession session = sessionFactory.openSession();
             try{
@@ -387,6 +1014,23 @@ public class OrientdbEntityManager {
         }
     }
 
+    /**
+     * Logs the statistics of a saved batch.
+     *
+     * @param entityInformation
+     * @param batchNumber
+     * @param records
+     * @param start
+     */
+    private void showBatch(final OrientdbEntityInformation<?, ?> entityInformation, final int batchNumber,
+                           final int records, final long start) {
+        if (BATCH_LOG.isDebugEnabled()) {
+            BATCH_LOG.debug("Saved batch {} of {}: {} records in {} ms", batchNumber,
+                    entityInformation.getEntityName(), records,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
     /**
      * Logs the query sql.
      *
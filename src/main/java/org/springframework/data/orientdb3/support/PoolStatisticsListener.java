@@ -0,0 +1,117 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.command.OCommandExecutor;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseListener;
+
+/**
+ * A listener that records a pooled session returned to the pool in the {@link SessionPoolStatistics}.
+ *
+ * @author xxcxy
+ */
+class PoolStatisticsListener implements ODatabaseListener {
+    private final SessionPoolStatistics poolStatistics;
+
+    /**
+     * Creates a new {@link PoolStatisticsListener}.
+     *
+     * @param poolStatistics
+     */
+    PoolStatisticsListener(final SessionPoolStatistics poolStatistics) {
+        this.poolStatistics = poolStatistics;
+    }
+
+    /**
+     * The pooled session is reused, so the listener is removed when the session is returned.
+     *
+     * @param oDatabase
+     */
+    @Override
+    public void onClose(final ODatabase oDatabase) {
+        oDatabase.unregisterListener(this);
+        poolStatistics.released();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onCreate()
+     */
+    @Override
+    public void onCreate(final ODatabase oDatabase) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onDelete()
+     */
+    @Override
+    public void onDelete(final ODatabase oDatabase) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onOpen()
+     */
+    @Override
+    public void onOpen(final ODatabase oDatabase) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onBeforeTxBegin()
+     */
+    @Override
+    public void onBeforeTxBegin(final ODatabase oDatabase) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onBeforeTxRollback()
+     */
+    @Override
+    public void onBeforeTxRollback(final ODatabase oDatabase) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onAfterTxRollback()
+     */
+    @Override
+    public void onAfterTxRollback(final ODatabase oDatabase) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onBeforeTxCommit()
+     */
+    @Override
+    public void onBeforeTxCommit(final ODatabase oDatabase) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onAfterTxCommit()
+     */
+    @Override
+    public void onAfterTxCommit(final ODatabase oDatabase) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onBeforeCommand()
+     */
+    @Override
+    public void onBeforeCommand(final OCommandRequestText oCommandRequestText,
+                                final OCommandExecutor oCommandExecutor) {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ODatabaseListener#onAfterCommand()
+     */
+    @Override
+    public void onAfterCommand(final OCommandRequestText oCommandRequestText,
+                               final OCommandExecutor oCommandExecutor, final Object o) {
+    }
+}
@@ -0,0 +1,205 @@
+package org.springframework.data.orientdb3.support;
+
+import org.springframework.lang.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Takes snapshots of the property values of a entity and checks whether a value has been changed since its snapshot.
+ * <p>
+ * Linked entities are compared by identity, so only the links are compared, not the properties of the linked
+ * entities. A value which may be changed in place without being comparable, e.g. a embedded object, is always
+ * considered as changed.
+ *
+ * @author xxcxy
+ */
+final class PropertySnapshot {
+
+    /**
+     * The snapshot of a value which can not be compared.
+     */
+    private static final Object UNCOMPARABLE = new Object();
+
+    private PropertySnapshot() {
+    }
+
+    /**
+     * Takes a snapshot of a property value.
+     *
+     * @param value
+     * @param reference whether the entities in the value are referenced records or embedded records.
+     * @return
+     */
+    @Nullable
+    static Object of(@Nullable final Object value, final boolean reference) {
+        return isComparable(value, reference) ? copy(value) : UNCOMPARABLE;
+    }
+
+    /**
+     * Checks whether a property value has been changed since a snapshot was taken.
+     *
+     * @param snapshot
+     * @param value
+     * @return
+     */
+    static boolean isChanged(@Nullable final Object snapshot, @Nullable final Object value) {
+        return snapshot == UNCOMPARABLE || !isSame(snapshot, value);
+    }
+
+    /**
+     * Checks whether a value can be compared with its snapshot.
+     *
+     * @param value
+     * @param reference
+     * @return
+     */
+    private static boolean isComparable(@Nullable final Object value, final boolean reference) {
+        if (value instanceof Date || value instanceof byte[]) {
+            return true;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).stream().allMatch(e -> isComparableElement(e, reference));
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).values().stream().allMatch(e -> isComparableElement(e, reference));
+        }
+        return isComparableElement(value, reference);
+    }
+
+    /**
+     * Checks whether a element of a collection can be compared without copying it.
+     *
+     * @param value
+     * @param reference
+     * @return
+     */
+    private static boolean isComparableElement(@Nullable final Object value, final boolean reference) {
+        if (value instanceof EntityProxyInterface) {
+            // A embedded entity is saved with its owner, its changes are not seen by a identity check
+            return reference;
+        }
+        return value == null || isImmutable(value);
+    }
+
+    /**
+     * Checks whether a value is immutable.
+     *
+     * @param value
+     * @return
+     */
+    private static boolean isImmutable(final Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof Double
+                || value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger;
+    }
+
+    /**
+     * Copies the mutable parts of a comparable value.
+     *
+     * @param value
+     * @return
+     */
+    @Nullable
+    private static Object copy(@Nullable final Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        if (value instanceof Set) {
+            return new LinkedHashSet<>((Set<?>) value);
+        }
+        if (value instanceof Collection) {
+            return new ArrayList<>((Collection<?>) value);
+        }
+        if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        }
+        return value;
+    }
+
+    /**
+     * Compares a snapshot with a value. The entities are compared by identity, because a proxy does not equal to
+     * itself unless the entity class overrides equals.
+     *
+     * @param snapshot
+     * @param value
+     * @return
+     */
+    private static boolean isSame(@Nullable final Object snapshot, @Nullable final Object value) {
+        if (snapshot == value) {
+            return true;
+        }
+        if (snapshot == null || value == null
+                || snapshot instanceof EntityProxyInterface || value instanceof EntityProxyInterface) {
+            return false;
+        }
+        if (snapshot instanceof byte[]) {
+            return value instanceof byte[] && Arrays.equals((byte[]) snapshot, (byte[]) value);
+        }
+        if (snapshot instanceof Set) {
+            // A hash set finds the same proxy by identity
+            return value instanceof Set && ((Set<?>) snapshot).size() == ((Set<?>) value).size()
+                    && ((Set<?>) snapshot).containsAll((Set<?>) value);
+        }
+        if (snapshot instanceof List) {
+            return value instanceof List && isSameList((List<?>) snapshot, (List<?>) value);
+        }
+        if (snapshot instanceof Map) {
+            return value instanceof Map && isSameMap((Map<?, ?>) snapshot, (Map<?, ?>) value);
+        }
+        return snapshot.equals(value);
+    }
+
+    /**
+     * Compares the elements of two lists.
+     *
+     * @param snapshot
+     * @param value
+     * @return
+     */
+    private static boolean isSameList(final List<?> snapshot, final List<?> value) {
+        if (snapshot.size() != value.size()) {
+            return false;
+        }
+        Iterator<?> values = value.iterator();
+        for (Object e : snapshot) {
+            if (!isSame(e, values.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares the entries of two maps.
+     *
+     * @param snapshot
+     * @param value
+     * @return
+     */
+    private static boolean isSameMap(final Map<?, ?> snapshot, final Map<?, ?> value) {
+        if (snapshot.size() != value.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : snapshot.entrySet()) {
+            if (!value.containsKey(entry.getKey()) || !isSame(entry.getValue(), value.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,136 @@
+package org.springframework.data.orientdb3.support;
+
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.data.orientdb3.repository.support.PropertyHandler;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * How a {@link EntityProxy} handles a proxied method, resolved once per method.
+ *
+ * @author xxcxy
+ */
+final class ProxyMethod {
+
+    /**
+     * The kinds of proxied methods.
+     */
+    enum Kind {
+        SAVE_OELEMENT, DELETE_OELEMENT, FIND_OELEMENT, LOAD_ID, LOAD_STABLE,
+        ID_GETTER, GETTER, SETTER, IGNORED, PASSTHROUGH
+    }
+
+    private final Kind kind;
+    private final OrientdbEntityInformation<?, ?> entityInformation;
+    @Nullable
+    private final String fieldName;
+    @Nullable
+    private final PropertyHandler propertyHandler;
+
+    /**
+     * Creates a new {@link ProxyMethod}.
+     *
+     * @param kind
+     * @param entityInformation
+     * @param fieldName
+     * @param propertyHandler
+     */
+    private ProxyMethod(final Kind kind, final OrientdbEntityInformation<?, ?> entityInformation,
+                        @Nullable final String fieldName, @Nullable final PropertyHandler propertyHandler) {
+        this.kind = kind;
+        this.entityInformation = entityInformation;
+        this.fieldName = fieldName;
+        this.propertyHandler = propertyHandler;
+    }
+
+    /**
+     * Resolves how a method of a entity is proxied.
+     *
+     * @param method
+     * @param entityInformation
+     * @return
+     */
+    static ProxyMethod resolve(final Method method, final OrientdbEntityInformation<?, ?> entityInformation) {
+        String methodName = method.getName();
+        if (method.getDeclaringClass() == EntityProxyInterface.class) {
+            return new ProxyMethod(getInternalKind(methodName), entityInformation, null, null);
+        }
+        if (methodName.startsWith("get") || methodName.startsWith("set")) {
+            String fieldName = StringUtils.uncapitalize(methodName.substring(3));
+            boolean isGetter = methodName.startsWith("get");
+            if (isGetter && entityInformation.isId(fieldName)) {
+                return new ProxyMethod(Kind.ID_GETTER, entityInformation, fieldName, null);
+            }
+            if (entityInformation.hasFieldName(fieldName)) {
+                return new ProxyMethod(isGetter ? Kind.GETTER : Kind.SETTER, entityInformation, fieldName,
+                        entityInformation.getPropertyHandler(fieldName));
+            }
+            // A getter or setter of a not persistent field is ignored until the entity is loaded
+            return new ProxyMethod(Kind.IGNORED, entityInformation, fieldName, null);
+        }
+        return new ProxyMethod(Kind.PASSTHROUGH, entityInformation, null, null);
+    }
+
+    /**
+     * Gets the kind of a {@link EntityProxyInterface} method.
+     *
+     * @param methodName
+     * @return
+     */
+    private static Kind getInternalKind(final String methodName) {
+        switch (methodName) {
+            case "saveOElement":
+                return Kind.SAVE_OELEMENT;
+            case "deleteOElement":
+                return Kind.DELETE_OELEMENT;
+            case "findOElement":
+                return Kind.FIND_OELEMENT;
+            case "loadId":
+                return Kind.LOAD_ID;
+            case "loadStable":
+                return Kind.LOAD_STABLE;
+            default:
+                throw new IllegalArgumentException("Unknown EntityProxyInterface method: " + methodName);
+        }
+    }
+
+    /**
+     * Gets the kind.
+     *
+     * @return
+     */
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the {@link OrientdbEntityInformation} this method was resolved with.
+     *
+     * @return
+     */
+    OrientdbEntityInformation<?, ?> getEntityInformation() {
+        return entityInformation;
+    }
+
+    /**
+     * Gets the field name of a getter or setter.
+     *
+     * @return
+     */
+    @Nullable
+    String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Gets the {@link PropertyHandler} of a getter or setter.
+     *
+     * @return
+     */
+    @Nullable
+    PropertyHandler getPropertyHandler() {
+        return propertyHandler;
+    }
+}
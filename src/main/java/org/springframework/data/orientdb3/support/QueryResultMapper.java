@@ -0,0 +1,255 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.orientdb3.repository.QueryResult;
+import org.springframework.data.orientdb3.repository.support.FieldAccessor;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Maps query results to the instances of a {@link QueryResult} class. The mapping plan is built only once per class:
+ * the constructor, the field setters and the converters of the values, which know the element types of the
+ * collections and the plans of the nested classes. A class without a no-arg constructor is bound by the parameter
+ * names of its constructor, the fields which are not constructor parameters are set afterwards. The mappers are held
+ * by {@link QueryResultMappers}.
+ *
+ * @param <T> the type of the query result
+ * @author xxcxy
+ */
+final class QueryResultMapper<T> {
+    private final QueryResultMappers mappers;
+    private final boolean queryResult;
+    private final Constructor<T> constructor;
+    private final List<Binding> parameterBindings = new ArrayList<>();
+    private final List<Binding> fieldBindings = new ArrayList<>();
+
+    /**
+     * Creates a new {@link QueryResultMapper}.
+     *
+     * @param type
+     * @param mappers resolves the mappers of the nested classes.
+     */
+    QueryResultMapper(final Class<T> type, final QueryResultMappers mappers) {
+        this.mappers = mappers;
+        this.queryResult = type.isAnnotationPresent(QueryResult.class);
+        PreferredConstructor<T, ?> preferredConstructor = PreferredConstructorDiscoverer.discover(type);
+        if (preferredConstructor == null) {
+            throw new MappingException(String.format("Query result class %s must have a no-arg constructor or a "
+                    + "single constructor!", type.getName()));
+        }
+        this.constructor = preferredConstructor.getConstructor();
+        ReflectionUtils.makeAccessible(constructor);
+
+        Set<String> parameterNames = new HashSet<>();
+        for (PreferredConstructor.Parameter<Object, ?> parameter : preferredConstructor.getParameters()) {
+            if (parameter.getName() == null) {
+                throw new MappingException(String.format("The constructor parameter names of %s are not "
+                        + "available, compile it with -parameters or debug information!", type.getName()));
+            }
+            parameterNames.add(parameter.getName());
+            parameterBindings.add(new Binding(parameter.getName(), null, createConverter(parameter.getType())));
+        }
+
+        TypeInformation<T> typeInformation = ClassTypeInformation.from(type);
+        ReflectionUtils.doWithFields(type, field -> {
+            ReflectionUtils.makeAccessible(field);
+            TypeInformation<?> fieldType = typeInformation.getProperty(field.getName());
+            fieldBindings.add(new Binding(field.getName(), mappers.getFieldAccessorFactory().getFieldAccessor(field),
+                    createConverter(fieldType != null ? fieldType : ClassTypeInformation.from(field.getType()))));
+        }, field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()
+                && !parameterNames.contains(field.getName()));
+    }
+
+    /**
+     * Whether the class is annotated with {@link QueryResult}.
+     *
+     * @return
+     */
+    boolean isQueryResult() {
+        return queryResult;
+    }
+
+    /**
+     * Creates a instance and fills it with the properties of a query result.
+     *
+     * @param properties gets a property of the query result by its name.
+     * @return
+     */
+    T map(final Function<String, Object> properties) {
+        Object[] arguments = new Object[parameterBindings.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = parameterBindings.get(i).convert(properties);
+        }
+        T t = BeanUtils.instantiateClass(constructor, arguments);
+        for (Binding binding : fieldBindings) {
+            binding.fieldAccessor.set(t, binding.convert(properties));
+        }
+        return t;
+    }
+
+    /**
+     * Creates the converter of a orientdb value to the given java type.
+     *
+     * @param type
+     * @return
+     */
+    private Function<Object, Object> createConverter(final TypeInformation<?> type) {
+        Class<?> rawType = type.getType();
+        if (List.class.isAssignableFrom(rawType)) {
+            return collectionConverter(ArrayList::new, type.getComponentType());
+        } else if (Set.class.isAssignableFrom(rawType)) {
+            return collectionConverter(HashSet::new, type.getComponentType());
+        } else if (Map.class.isAssignableFrom(rawType)) {
+            Function<Object, Object> valueConverter = elementConverter(type.getMapValueType());
+            return value -> {
+                if (value == null) {
+                    return null;
+                }
+                Map<String, Object> map = new HashMap<>();
+                for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                    map.put(entry.getKey(), valueConverter.apply(entry.getValue()));
+                }
+                return map;
+            };
+        }
+        return new ValueConverter(rawType, mappers);
+    }
+
+    /**
+     * Creates the converter of a orientdb collection to a java collection.
+     *
+     * @param factory
+     * @param elementType
+     * @return
+     */
+    private Function<Object, Object> collectionConverter(final Supplier<Collection<Object>> factory,
+                                                                @Nullable final TypeInformation<?> elementType) {
+        Function<Object, Object> elementConverter = elementConverter(elementType);
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            Collection<Object> collection = factory.get();
+            for (Object element : (Iterable<?>) value) {
+                collection.add(elementConverter.apply(element));
+            }
+            return collection;
+        };
+    }
+
+    /**
+     * Creates the converter of the elements of a collection or the values of a map.
+     *
+     * @param elementType {@literal null} if the collection is not parameterized.
+     * @return
+     */
+    private Function<Object, Object> elementConverter(@Nullable final TypeInformation<?> elementType) {
+        return new ValueConverter(elementType == null ? Object.class : elementType.getType(), mappers);
+    }
+
+    /**
+     * A constructor parameter or a field which is bound to the property of the same name.
+     */
+    private static final class Binding {
+        private final String name;
+        @Nullable
+        private final FieldAccessor fieldAccessor;
+        private final Function<Object, Object> converter;
+
+        /**
+         * Creates a new {@link Binding}.
+         *
+         * @param name
+         * @param fieldAccessor
+         * @param converter
+         */
+        private Binding(final String name, @Nullable final FieldAccessor fieldAccessor,
+                        final Function<Object, Object> converter) {
+            this.name = name;
+            this.fieldAccessor = fieldAccessor;
+            this.converter = converter;
+        }
+
+        /**
+         * Gets the converted value of the bound property.
+         *
+         * @param properties
+         * @return
+         */
+        private Object convert(final Function<String, Object> properties) {
+            return converter.apply(properties.apply(name));
+        }
+    }
+
+    /**
+     * Converts a simple orientdb value to the java type, a nested element or result is mapped by the
+     * {@link QueryResultMapper} of the java type, which is resolved when it is needed first.
+     */
+    private static final class ValueConverter implements Function<Object, Object> {
+        private final Class<?> type;
+        private final QueryResultMappers mappers;
+        private volatile QueryResultMapper<?> nestedMapper;
+
+        /**
+         * Creates a new {@link ValueConverter}.
+         *
+         * @param type
+         * @param mappers
+         */
+        private ValueConverter(final Class<?> type, final QueryResultMappers mappers) {
+            this.type = type;
+            this.mappers = mappers;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.util.function.Function#apply(java.lang.Object)
+         */
+        @Override
+        public Object apply(final Object value) {
+            if (value == null) {
+                return null;
+            } else if (OType.isSimpleType(value)) {
+                return OType.convert(value, type);
+            } else if (value instanceof OElement) {
+                return getNestedMapper().map(((OElement) value)::getProperty);
+            }
+            return getNestedMapper().map(((OResult) value)::getProperty);
+        }
+
+        /**
+         * Gets the {@link QueryResultMapper} of a nested class.
+         *
+         * @return
+         */
+        private QueryResultMapper<?> getNestedMapper() {
+            QueryResultMapper<?> mapper = nestedMapper;
+            if (mapper == null) {
+                mapper = mappers.getMapper(type);
+                nestedMapper = mapper;
+            }
+            return mapper;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.springframework.data.orientdb3.support;
+
+import org.springframework.data.orientdb3.repository.support.FieldAccessorFactory;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe holder of the {@link QueryResultMapper}s, which builds the mapping plan of a query result class only
+ * once. The mappers are held as long as the holder, so the classes are released with it.
+ *
+ * @author xxcxy
+ */
+public class QueryResultMappers {
+    private final Map<Class<?>, QueryResultMapper<?>> mappers = new ConcurrentHashMap<>();
+    private final FieldAccessorFactory fieldAccessorFactory;
+
+    /**
+     * Creates a new {@link QueryResultMappers}.
+     *
+     * @param fieldAccessorFactory must not be {@literal null}.
+     */
+    public QueryResultMappers(final FieldAccessorFactory fieldAccessorFactory) {
+        Assert.notNull(fieldAccessorFactory, "FieldAccessorFactory must not be null!");
+
+        this.fieldAccessorFactory = fieldAccessorFactory;
+    }
+
+    /**
+     * Gets the {@link QueryResultMapper} for a given class, the plan is built when the class is mapped first.
+     *
+     * @param type
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    <T> QueryResultMapper<T> getMapper(final Class<T> type) {
+        QueryResultMapper<?> mapper = mappers.get(type);
+        if (mapper == null) {
+            mapper = mappers.computeIfAbsent(type, t -> new QueryResultMapper<>(t, this));
+        }
+        return (QueryResultMapper<T>) mapper;
+    }
+
+    /**
+     * Gets the {@link FieldAccessorFactory} which creates the accessors of the fields.
+     *
+     * @return
+     */
+    FieldAccessorFactory getFieldAccessorFactory() {
+        return fieldAccessorFactory;
+    }
+
+    /**
+     * Gets the number of the classes which have been mapped.
+     *
+     * @return
+     */
+    public int size() {
+        return mappers.size();
+    }
+}
@@ -0,0 +1,165 @@
+package org.springframework.data.orientdb3.support;
+
+import org.springframework.data.orientdb3.transaction.SessionScope;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Reactive adapter of a {@link OrientdbEntityManager}. The blocking calls of the entity manager are executed by a
+ * {@link Scheduler}, by default {@link Schedulers#boundedElastic()}, so they do not block the subscriber.
+ * <p>
+ * A query result is emitted from the open result set one element per requested element, so a slow subscriber holds
+ * neither a thread nor the whole result while it is not requesting. The session of the result set is closed when the
+ * result is completed, failed or cancelled.
+ * <p>
+ * The reactive calls do not take part in a transaction, every call uses a session of its own.
+ *
+ * @author xxcxy
+ */
+public class ReactiveOrientdbEntityManager {
+
+    private final OrientdbEntityManager entityManager;
+    private final SessionScope sessionScope;
+    private final Scheduler scheduler;
+
+    /**
+     * Creates a new {@link ReactiveOrientdbEntityManager} which executes the calls by
+     * {@link Schedulers#boundedElastic()}.
+     *
+     * @param sessionFactory must not be {@literal null}.
+     */
+    public ReactiveOrientdbEntityManager(final SessionFactory sessionFactory) {
+        this(sessionFactory, Schedulers.boundedElastic());
+    }
+
+    /**
+     * Creates a new {@link ReactiveOrientdbEntityManager}.
+     *
+     * @param sessionFactory must not be {@literal null}.
+     * @param scheduler      must not be {@literal null}.
+     */
+    public ReactiveOrientdbEntityManager(final SessionFactory sessionFactory, final Scheduler scheduler) {
+        Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+        Assert.notNull(scheduler, "Scheduler must not be null!");
+
+        this.entityManager = new OrientdbEntityManager(sessionFactory);
+        this.sessionScope = new SessionScope(sessionFactory);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Gets the blocking {@link OrientdbEntityManager} the calls are delegated to.
+     *
+     * @return
+     */
+    public OrientdbEntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Executes a call with a session bound for the call. A {@literal null} result completes the {@link Mono} empty.
+     *
+     * @param call must not be {@literal null}.
+     * @param <R>
+     * @return
+     */
+    public <R> Mono<R> execute(final Function<OrientdbEntityManager, R> call) {
+        Assert.notNull(call, "Call must not be null!");
+
+        return Mono.fromCallable(() -> {
+            try {
+                return sessionScope.execute(() -> call.apply(entityManager));
+            } finally {
+                SessionListener.unbindEntityProxies();
+            }
+        }).subscribeOn(scheduler);
+    }
+
+    /**
+     * Runs a call with a session bound for the call.
+     *
+     * @param call must not be {@literal null}.
+     * @return
+     */
+    public Mono<Void> run(final Consumer<OrientdbEntityManager> call) {
+        Assert.notNull(call, "Call must not be null!");
+
+        return execute(em -> {
+            call.accept(em);
+            return null;
+        }).then();
+    }
+
+    /**
+     * Emits the elements of a lazy {@link Stream}, e.g. one of
+     * {@link OrientdbEntityManager#doQueryStream(String, Object[], Class)}, when they are requested. The stream is
+     * opened on subscription and closed when it is exhausted or the subscription is cancelled.
+     *
+     * @param query must not be {@literal null}.
+     * @param <R>
+     * @return
+     */
+    public <R> Flux<R> stream(final Function<OrientdbEntityManager, Stream<R>> query) {
+        Assert.notNull(query, "Query must not be null!");
+
+        return Flux.<R, Cursor<R>>generate(() -> new Cursor<>(query.apply(entityManager)), this::next,
+                Cursor::close).subscribeOn(scheduler);
+    }
+
+    /**
+     * Emits the next element of a {@link Cursor} or completes the sink if there are no more elements.
+     *
+     * @param cursor
+     * @param sink
+     * @param <R>
+     * @return
+     */
+    private <R> Cursor<R> next(final Cursor<R> cursor, final SynchronousSink<R> sink) {
+        try {
+            if (cursor.iterator.hasNext()) {
+                sink.next(cursor.iterator.next());
+            } else {
+                sink.complete();
+            }
+        } finally {
+            SessionListener.unbindEntityProxies();
+        }
+        return cursor;
+    }
+
+    /**
+     * The state of a emitted {@link Stream}.
+     *
+     * @param <R>
+     */
+    private static final class Cursor<R> {
+        private final Stream<R> stream;
+        private final Iterator<R> iterator;
+
+        /**
+         * Creates a new {@link Cursor}.
+         *
+         * @param stream
+         */
+        Cursor(final Stream<R> stream) {
+            this.stream = stream;
+            this.iterator = stream.iterator();
+        }
+
+        /**
+         * Closes the stream and the session of the stream.
+         */
+        void close() {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import org.springframework.util.Assert;
+
+import java.util.function.Consumer;
+
+/**
+ * A change of the orientdb schema which is missing for the entities, e.g. a class, a property, the constraints of a
+ * property or a index.
+ *
+ * @author xxcxy
+ * @see SchemaPlan
+ */
+public class SchemaChange {
+
+    private final String description;
+    private final boolean index;
+    private final Consumer<ODatabaseSession> action;
+
+    /**
+     * Creates a new {@link SchemaChange}.
+     *
+     * @param description must not be {@literal null}.
+     * @param index       whether the change builds a index.
+     * @param action      must not be {@literal null}.
+     */
+    SchemaChange(final String description, final boolean index, final Consumer<ODatabaseSession> action) {
+        Assert.notNull(description, "Description must not be null!");
+        Assert.notNull(action, "Action must not be null!");
+
+        this.description = description;
+        this.index = index;
+        this.action = action;
+    }
+
+    /**
+     * Gets the description, e.g. "create class Person".
+     *
+     * @return
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns whether the change builds a index, which may take long for a class with many records.
+     *
+     * @return
+     */
+    public boolean isIndex() {
+        return index;
+    }
+
+    /**
+     * Applies the change.
+     *
+     * @param session
+     */
+    void apply(final ODatabaseSession session) {
+        action.accept(session);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return description;
+    }
+}
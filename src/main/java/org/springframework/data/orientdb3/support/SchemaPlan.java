@@ -0,0 +1,121 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link SchemaChange}s which are missing in a database for the entities, computed by a {@link SchemaPlanner}.
+ * The classes, properties and constraints, including the unique indexes, are applied before the other indexes, whose
+ * builds may be applied later in the background because they take long for classes with many records.
+ *
+ * @author xxcxy
+ */
+public class SchemaPlan {
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaPlan.class);
+
+    private final List<SchemaChange> schemaChanges;
+    private final List<SchemaChange> indexChanges;
+    private final AtomicInteger appliedIndexChanges = new AtomicInteger();
+    private volatile boolean indexChangesCancelled;
+
+    /**
+     * Creates a new {@link SchemaPlan}.
+     *
+     * @param schemaChanges the ordered changes of the classes, properties, constraints and unique indexes.
+     * @param indexChanges  the builds of the indexes which are not unique.
+     */
+    SchemaPlan(final List<SchemaChange> schemaChanges, final List<SchemaChange> indexChanges) {
+        this.schemaChanges = Collections.unmodifiableList(schemaChanges);
+        this.indexChanges = Collections.unmodifiableList(indexChanges);
+    }
+
+    /**
+     * Gets the changes of the classes, properties, constraints and unique indexes.
+     *
+     * @return
+     */
+    public List<SchemaChange> getSchemaChanges() {
+        return schemaChanges;
+    }
+
+    /**
+     * Gets the builds of the indexes which are not unique.
+     *
+     * @return
+     */
+    public List<SchemaChange> getIndexChanges() {
+        return indexChanges;
+    }
+
+    /**
+     * Gets the number of index builds which are finished.
+     *
+     * @return
+     */
+    public int getAppliedIndexChangeCount() {
+        return appliedIndexChanges.get();
+    }
+
+    /**
+     * Returns whether the schema of the database already matches the entities.
+     *
+     * @return
+     */
+    public boolean isEmpty() {
+        return schemaChanges.isEmpty() && indexChanges.isEmpty();
+    }
+
+    /**
+     * Applies the changes of the classes, properties and constraints.
+     *
+     * @param session
+     */
+    public void applySchemaChanges(final ODatabaseSession session) {
+        for (SchemaChange change : schemaChanges) {
+            LOG.info("Schema change: {}", change);
+            change.apply(session);
+        }
+    }
+
+    /**
+     * Applies the index builds one after another and logs the progress. A cancelled plan stops after the index which
+     * is being built.
+     *
+     * @param session
+     */
+    public void applyIndexChanges(final ODatabaseSession session) {
+        for (SchemaChange change : indexChanges) {
+            if (indexChangesCancelled) {
+                LOG.info("Index build cancelled, {} of {} indexes built", appliedIndexChanges.get(),
+                        indexChanges.size());
+                return;
+            }
+            long start = System.currentTimeMillis();
+            change.apply(session);
+            LOG.info("Schema change: {} ({} of {}) in {} ms", change, appliedIndexChanges.incrementAndGet(),
+                    indexChanges.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Cancels the index builds which are not started yet.
+     */
+    public void cancelIndexChanges() {
+        indexChangesCancelled = true;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "SchemaPlan [schema changes: " + schemaChanges.size() + ", index changes: " + indexChanges.size()
+                + ", applied index changes: " + appliedIndexChanges.get() + "]";
+    }
+}
@@ -0,0 +1,344 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.orientdb3.repository.Edge;
+import org.springframework.data.orientdb3.repository.EdgeEntity;
+import org.springframework.data.orientdb3.repository.EntityProperty;
+import org.springframework.data.orientdb3.repository.FromVertex;
+import org.springframework.data.orientdb3.repository.Index;
+import org.springframework.data.orientdb3.repository.Link;
+import org.springframework.data.orientdb3.repository.OrientdbId;
+import org.springframework.data.orientdb3.repository.ToVertex;
+import org.springframework.data.orientdb3.repository.VertexEntity;
+import org.springframework.data.orientdb3.repository.support.EntityType;
+import org.springframework.data.orientdb3.repository.util.Constants;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.orientechnologies.orient.core.metadata.schema.OClass.INDEX_TYPE.UNIQUE;
+import static org.springframework.util.StringUtils.capitalize;
+import static org.springframework.util.StringUtils.collectionToDelimitedString;
+import static org.springframework.util.StringUtils.isEmpty;
+
+/**
+ * Computes the {@link SchemaPlan} of the entities against a snapshot of the schema and the indexes of a database,
+ * which is read once when the planner is created. The plan contains only the missing classes, properties,
+ * constraints and indexes. The unique indexes are constraints and are planned with the schema changes.
+ * <p>
+ * A existing property of a different type is not changed, because the records would have to be migrated. The
+ * definition of a existing index is not compared, a index is identified by its name.
+ *
+ * @author xxcxy
+ */
+public class SchemaPlanner {
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaPlanner.class);
+
+    private final OSchema snapshot;
+    private final Set<String> indexNames = new HashSet<>();
+
+    /**
+     * Creates a new {@link SchemaPlanner} which reads the snapshot of the schema and the indexes.
+     *
+     * @param session
+     */
+    public SchemaPlanner(final ODatabaseSession session) {
+        this.snapshot = session.getMetadata().getSchema().makeSnapshot();
+        for (OIndex<?> index : session.getMetadata().getIndexManager().getIndexes()) {
+            indexNames.add(index.getName());
+        }
+    }
+
+    /**
+     * Computes the {@link SchemaPlan} of the given entity classes.
+     *
+     * @param entityClasses
+     * @return
+     */
+    public SchemaPlan plan(final Collection<Class<?>> entityClasses) {
+        Map<String, Class<?>> planned = new LinkedHashMap<>();
+        Set<String> edgeClasses = new HashSet<>();
+        List<SchemaChange> schemaChanges = new ArrayList<>();
+        List<SchemaChange> indexChanges = new ArrayList<>();
+        Set<String> plannedIndexes = new HashSet<>(indexNames);
+
+        // The classes are created first, so every linked class of a property exists
+        for (Class<?> clazz : entityClasses) {
+            planClass(clazz, planned, edgeClasses, schemaChanges);
+        }
+        for (Map.Entry<String, Class<?>> entry : planned.entrySet()) {
+            planProperties(entry.getKey(), entry.getValue(), planned, schemaChanges, indexChanges, plannedIndexes);
+        }
+        for (Class<?> clazz : entityClasses) {
+            planIndexes(clazz, schemaChanges, indexChanges, plannedIndexes);
+        }
+        return new SchemaPlan(schemaChanges, indexChanges);
+    }
+
+    /**
+     * Plans a class after its super class and the edge classes of its fields.
+     *
+     * @param clazz
+     * @param planned
+     * @param edgeClasses
+     * @param changes
+     */
+    private void planClass(final Class<?> clazz, final Map<String, Class<?>> planned, final Set<String> edgeClasses,
+                           final List<SchemaChange> changes) {
+        String className = getClassName(clazz);
+        if (planned.containsKey(className)) {
+            return;
+        }
+        List<String> superClasses = new ArrayList<>();
+        if (!clazz.getSuperclass().equals(Object.class)) {
+            planClass(clazz.getSuperclass(), planned, edgeClasses, changes);
+            superClasses.add(getClassName(clazz.getSuperclass()));
+        }
+        if (clazz.getAnnotation(VertexEntity.class) != null) {
+            superClasses.add("V");
+        } else if (clazz.getAnnotation(EdgeEntity.class) != null) {
+            superClasses.add("E");
+        }
+        planned.put(className, clazz);
+
+        if (!snapshot.existsClass(className)) {
+            String[] superClassNames = superClasses.toArray(new String[0]);
+            changes.add(new SchemaChange(superClasses.isEmpty() ? "create class " + className
+                    : "create class " + className + " extends " + collectionToDelimitedString(superClasses, ", "),
+                    false, session -> session.createClass(className, superClassNames)));
+        }
+
+        ReflectionUtils.doWithLocalFields(clazz, field -> {
+            Edge edge = field.getAnnotation(Edge.class);
+            if (edge != null) {
+                // edge is not a OClass property but a Edge OClass
+                String edgeName = isEmpty(edge.name()) ? capitalize(field.getName()) : edge.name();
+                if (edgeClasses.add(edgeName) && !snapshot.existsClass(edgeName)) {
+                    changes.add(new SchemaChange("create edge class " + edgeName, false,
+                            session -> session.createEdgeClass(edgeName)));
+                }
+            }
+        });
+    }
+
+    /**
+     * Plans the properties of a class which are declared by the class.
+     *
+     * @param className
+     * @param clazz
+     * @param planned
+     * @param changes
+     * @param indexChanges
+     * @param plannedIndexes
+     */
+    private void planProperties(final String className, final Class<?> clazz, final Map<String, Class<?>> planned,
+                                final List<SchemaChange> changes, final List<SchemaChange> indexChanges,
+                                final Set<String> plannedIndexes) {
+        OClass existingClass = snapshot.getClass(className);
+        ReflectionUtils.doWithLocalFields(clazz, field -> {
+            if (field.getAnnotation(Edge.class) != null
+                    || field.getAnnotation(FromVertex.class) != null
+                    || field.getAnnotation(ToVertex.class) != null
+                    || field.getAnnotation(OrientdbId.class) != null) {
+                // edge, fromVertex, toVertex, ID are not the Entity's property
+                return;
+            }
+            EntityProperty entityProperty = field.getAnnotation(EntityProperty.class);
+            String propertyName = getPropertyName(entityProperty, field.getName());
+            OType oType = getType(field);
+            String linkedClassName = null;
+            if (Constants.OBJECT_TYPE.containsKey(getDeclaredType(field))
+                    && planned.containsKey(getClassName(field.getType()))) {
+                linkedClassName = getClassName(field.getType());
+            }
+
+            OProperty existing = existingClass == null ? null : existingClass.getProperty(propertyName);
+            if (existing != null && existing.getType() != oType) {
+                LOG.warn("Property {}.{} is {} in the database but {} in {}, it is not changed", className,
+                        propertyName, existing.getType(), oType, clazz.getName());
+                return;
+            }
+            List<String> descriptions = new ArrayList<>();
+            List<Consumer<OProperty>> constraints = new ArrayList<>();
+            if (entityProperty != null) {
+                planConstraints(entityProperty, existing, descriptions, constraints);
+            }
+            String constraintDescription = collectionToDelimitedString(descriptions, ", ");
+
+            if (existing == null) {
+                String linked = linkedClassName;
+                changes.add(new SchemaChange("create property " + className + "." + propertyName + " " + oType
+                        + (linked == null ? "" : " " + linked)
+                        + (descriptions.isEmpty() ? "" : " (" + constraintDescription + ")"), false, session -> {
+                    OSchema schema = session.getMetadata().getSchema();
+                    OClass oClass = schema.getClass(className);
+                    OProperty oProperty = linked == null ? oClass.createProperty(propertyName, oType)
+                            : oClass.createProperty(propertyName, oType, schema.getClass(linked));
+                    constraints.forEach(constraint -> constraint.accept(oProperty));
+                }));
+            } else if (!constraints.isEmpty()) {
+                changes.add(new SchemaChange("set " + className + "." + propertyName + " " + constraintDescription,
+                        false, session -> {
+                    OProperty oProperty = session.getMetadata().getSchema().getClass(className)
+                            .getProperty(propertyName);
+                    constraints.forEach(constraint -> constraint.accept(oProperty));
+                }));
+            }
+
+            // A unique index is a constraint, it is built with the schema and never in the background
+            String indexName = className + "." + propertyName;
+            if (entityProperty != null && entityProperty.unique() && plannedIndexes.add(indexName)) {
+                changes.add(new SchemaChange("create index " + indexName + " UNIQUE", true,
+                        session -> session.getMetadata().getSchema().getClass(className).getProperty(propertyName)
+                                .createIndex(UNIQUE)));
+            }
+        });
+    }
+
+    /**
+     * Plans the constraints of a property which differ from the constraints of the existing property.
+     *
+     * @param entityProperty
+     * @param existing
+     * @param descriptions
+     * @param constraints
+     */
+    private void planConstraints(final EntityProperty entityProperty, @Nullable final OProperty existing,
+                                 final List<String> descriptions, final List<Consumer<OProperty>> constraints) {
+        String min = entityProperty.min();
+        if (!isEmpty(min) && (existing == null || !min.equals(existing.getMin()))) {
+            descriptions.add("min " + min);
+            constraints.add(op -> op.setMin(min));
+        }
+        String max = entityProperty.max();
+        if (!isEmpty(max) && (existing == null || !max.equals(existing.getMax()))) {
+            descriptions.add("max " + max);
+            constraints.add(op -> op.setMax(max));
+        }
+        String regexp = entityProperty.regexp();
+        if (!isEmpty(regexp) && (existing == null || !regexp.equals(existing.getRegexp()))) {
+            descriptions.add("regexp " + regexp);
+            constraints.add(op -> op.setRegexp(regexp));
+        }
+        boolean notNull = entityProperty.notNull();
+        if (notNull != (existing != null && existing.isNotNull())) {
+            descriptions.add("not null " + notNull);
+            constraints.add(op -> op.setNotNull(notNull));
+        }
+        boolean mandatory = entityProperty.mandatory();
+        if (mandatory != (existing != null && existing.isMandatory())) {
+            descriptions.add("mandatory " + mandatory);
+            constraints.add(op -> op.setMandatory(mandatory));
+        }
+        boolean readonly = entityProperty.readonly();
+        if (readonly != (existing != null && existing.isReadonly())) {
+            descriptions.add("readonly " + readonly);
+            constraints.add(op -> op.setReadonly(readonly));
+        }
+    }
+
+    /**
+     * Plans the {@link Index}es of a class. A unique index is a constraint, so it is planned with the schema changes.
+     *
+     * @param clazz
+     * @param changes
+     * @param indexChanges
+     * @param plannedIndexes
+     */
+    private void planIndexes(final Class<?> clazz, final List<SchemaChange> changes,
+                             final List<SchemaChange> indexChanges, final Set<String> plannedIndexes) {
+        String className = getClassName(clazz);
+        for (Index index : getIndex(clazz)) {
+            if (plannedIndexes.add(index.name())) {
+                String indexSql = "CREATE INDEX " + index.name() + " ON " + className + " (" + index.columnList()
+                        + ") " + index.type();
+                SchemaChange change = new SchemaChange("create index " + index.name() + " on " + className + " ("
+                        + index.columnList() + ") " + index.type(), true,
+                        session -> session.command(indexSql).close());
+                if (index.type().startsWith(Index.UNIQUE)) {
+                    changes.add(change);
+                } else {
+                    indexChanges.add(change);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the {@link OType} of a field, a {@link Link} field is a link type.
+     *
+     * @param field
+     * @return
+     */
+    private OType getType(final Field field) {
+        OType oType = getDeclaredType(field);
+        if (field.getAnnotation(Link.class) != null && Constants.OBJECT_TYPE.containsKey(oType)) {
+            return Constants.OBJECT_TYPE.get(oType);
+        }
+        return oType;
+    }
+
+    /**
+     * Gets the {@link OType} of the java type of a field.
+     *
+     * @param field
+     * @return
+     */
+    private OType getDeclaredType(final Field field) {
+        OType oType = OType.getTypeByClass(field.getType());
+        if (oType == null) {
+            oType = Constants.TYPES_BY_CLASS.getOrDefault(field.getType(), OType.EMBEDDED);
+        }
+        return oType;
+    }
+
+    /**
+     * Gets the property name.
+     *
+     * @param entityProperty
+     * @param fieldName
+     * @return
+     */
+    private String getPropertyName(@Nullable final EntityProperty entityProperty, final String fieldName) {
+        if (entityProperty != null && !isEmpty(entityProperty.name())) {
+            return entityProperty.name();
+        }
+        return fieldName;
+    }
+
+    /**
+     * Gets a class name for a given class.
+     *
+     * @param clazz
+     * @return
+     */
+    private String getClassName(final Class<?> clazz) {
+        return EntityType.getEntityType(clazz).map(e -> e.getEntityName(clazz)).orElse(clazz.getSimpleName());
+    }
+
+    /**
+     * Gets {@link Index} array.
+     *
+     * @param clazz
+     * @return
+     */
+    private Index[] getIndex(final Class<?> clazz) {
+        return EntityType.getEntityType(clazz).map(e -> e.getIndex(clazz)).orElse(new Index[0]);
+    }
+}
@@ -1,44 +1,30 @@
 package org.springframework.data.orientdb3.support;
 
+import com.orientechnologies.common.concur.lock.OLockException;
 import com.orientechnologies.orient.core.db.ODatabasePool;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.OrientDBConfig;
-import com.orientechnologies.orient.core.metadata.schema.OClass;
-import com.orientechnologies.orient.core.metadata.schema.OProperty;
-import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.db.OrientDBConfigBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.config.BeanDefinition;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.type.filter.AnnotationTypeFilter;
-import org.springframework.data.orientdb3.repository.Edge;
 import org.springframework.data.orientdb3.repository.EdgeEntity;
 import org.springframework.data.orientdb3.repository.ElementEntity;
 import org.springframework.data.orientdb3.repository.EmbeddedEntity;
-import org.springframework.data.orientdb3.repository.EntityProperty;
-import org.springframework.data.orientdb3.repository.FromVertex;
-import org.springframework.data.orientdb3.repository.Index;
-import org.springframework.data.orientdb3.repository.Link;
-import org.springframework.data.orientdb3.repository.OrientdbId;
-import org.springframework.data.orientdb3.repository.ToVertex;
 import org.springframework.data.orientdb3.repository.VertexEntity;
-import org.springframework.data.orientdb3.repository.support.EntityType;
-import org.springframework.data.orientdb3.repository.util.Constants;
 import org.springframework.lang.Nullable;
-import org.springframework.util.ReflectionUtils;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.function.Consumer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import static com.orientechnologies.orient.core.metadata.schema.OClass.INDEX_TYPE.UNIQUE;
-import static org.springframework.util.StringUtils.capitalize;
-import static org.springframework.util.StringUtils.isEmpty;
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.DB_POOL_ACQUIRE_TIMEOUT;
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.DB_POOL_MAX;
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.DB_POOL_MIN;
 
 /**
  * A session Factory.
@@ -51,6 +37,16 @@ public class SessionFactory {
 
     private final OrientDB orientDB;
     private final ODatabasePool pool;
+    private final SessionPoolStatistics poolStatistics;
+    private final int batchSize;
+    @Nullable
+    private final CountCache countCache;
+    @Nullable
+    private final EntityCache entityCache;
+    private final AsyncSessionExecutor asyncExecutor;
+    @Nullable
+    private SchemaPlan schemaPlan;
+    private CompletableFuture<Void> indexBuild = CompletableFuture.completedFuture(null);
 
     /**
      * Creates a new {@link SessionFactory}.
@@ -58,13 +54,46 @@ public class SessionFactory {
      * @param orientdbConfig
      */
     public SessionFactory(final IOrientdbConfig orientdbConfig) {
+        OrientDBConfig config = createOrientDBConfig(orientdbConfig);
         orientDB = new OrientDB(orientdbConfig.getHosts(), orientdbConfig.getDatabaseUsername(),
-                orientdbConfig.getDatabasePassword(), OrientDBConfig.defaultConfig());
+                orientdbConfig.getDatabasePassword(), config);
+        if (orientdbConfig.getCreateDatabaseType() != null) {
+            orientDB.createIfNotExists(orientdbConfig.getDatabaseName(), orientdbConfig.getCreateDatabaseType());
+        }
         pool = new ODatabasePool(orientDB, orientdbConfig.getDatabaseName(), orientdbConfig.getUsername(),
-                orientdbConfig.getPassword());
+                orientdbConfig.getPassword(), config);
+        int poolMax = config.getConfigurations().getValueAsInteger(DB_POOL_MAX);
+        poolStatistics = new SessionPoolStatistics(poolMax);
+        batchSize = orientdbConfig.getBatchSize();
+        countCache = orientdbConfig.getCountCacheTtl() > 0 ? new CountCache(orientdbConfig.getCountCacheTtl()) : null;
+        entityCache = orientdbConfig.getEntityCacheSize() > 0
+                ? new EntityCache(orientdbConfig.getEntityCacheSize(), orientdbConfig.getEntityCacheTtl()) : null;
+        asyncExecutor = new AsyncSessionExecutor(this,
+                orientdbConfig.getAsyncPoolSize() > 0 ? orientdbConfig.getAsyncPoolSize() : poolMax,
+                orientdbConfig.getAsyncQueueCapacity(), orientdbConfig.getAsyncVirtualThreads());
         if (orientdbConfig.getAutoGenerateSchema()) {
-            generateSchema(pool.acquire(), orientdbConfig.getEntityScanPackage());
+            generateSchema(orientdbConfig.getEntityScanPackage(), orientdbConfig.getBackgroundIndexBuild());
+        }
+    }
+
+    /**
+     * Creates the {@link OrientDBConfig} with the pool settings and the additional configurations.
+     *
+     * @param orientdbConfig
+     * @return
+     */
+    private OrientDBConfig createOrientDBConfig(final IOrientdbConfig orientdbConfig) {
+        OrientDBConfigBuilder builder = OrientDBConfig.builder().fromMap(orientdbConfig.getOrientdbConfig());
+        if (orientdbConfig.getPoolMin() > 0) {
+            builder.addConfig(DB_POOL_MIN, orientdbConfig.getPoolMin());
+        }
+        if (orientdbConfig.getPoolMax() > 0) {
+            builder.addConfig(DB_POOL_MAX, orientdbConfig.getPoolMax());
         }
+        if (orientdbConfig.getPoolAcquireTimeout() > 0) {
+            builder.addConfig(DB_POOL_ACQUIRE_TIMEOUT, orientdbConfig.getPoolAcquireTimeout());
+        }
+        return builder.build();
     }
 
     /**
@@ -73,291 +102,179 @@ public class SessionFactory {
      * @return
      */
     public ODatabaseSession openSession() {
-        ODatabaseSession session = pool.acquire();
-        session.registerListener(new SessionListener());
+        ODatabaseSession session = acquire();
+        session.registerListener(new SessionListener(entityCache));
         return session;
     }
 
     /**
-     * Generates the orientdb schema.
+     * Acquires a {@link ODatabaseSession} from the pool and records it in the {@link SessionPoolStatistics}.
      *
-     * @param session
-     * @param entityScanPackage
+     * @return
      */
-    public void generateSchema(final ODatabaseSession session, final String entityScanPackage) {
-        Map<String, OClass> processed = new HashMap<>();
-        Map<String, Consumer<OClass>> postProcess = new HashMap<>();
-        List<Class> classes = getClasses(entityScanPackage);
-        for (Class clazz : classes) {
-            generateSchema(session, clazz, processed, postProcess);
+    private ODatabaseSession acquire() {
+        long start = System.nanoTime();
+        ODatabaseSession session;
+        try {
+            session = pool.acquire();
+        } catch (OLockException e) {
+            poolStatistics.acquireTimedOut(System.nanoTime() - start);
+            LOG.warn("Acquire session timeout: {}", poolStatistics);
+            throw e;
         }
-
-        // Sets relationships if a class was processed before it's relation class.
-        for (String className : postProcess.keySet()) {
-            postProcess.get(className).accept(processed.get(className));
-        }
-
-        // Creates index
-        for (Class clazz : classes) {
-            generateIndex(session, clazz);
-        }
-
-        session.close();
+        poolStatistics.acquired(System.nanoTime() - start);
+        session.registerListener(new PoolStatisticsListener(poolStatistics));
+        return session;
     }
 
     /**
-     * Creates index.
+     * Gets the {@link SessionPoolStatistics}.
      *
-     * @param session
-     * @param clazz
+     * @return
      */
-    private void generateIndex(final ODatabaseSession session, final Class clazz) {
-        String className = getClassName(clazz);
-        for (Index index : getIndex(clazz)) {
-            if (!session.getMetadata().getIndexManager().existsIndex(index.name())) {
-                StringBuilder indexSql = new StringBuilder("CREATE INDEX ");
-                indexSql.append(index.name()).append(" ON ")
-                        .append(className).append(" (")
-                        .append(index.columnList()).append(") ")
-                        .append(index.type());
-                session.command(indexSql.toString());
-            }
-        }
+    public SessionPoolStatistics getPoolStatistics() {
+        return poolStatistics;
     }
 
     /**
-     * Scans a package and find all specified classes.
+     * Gets the number of records saved between two commits of a bulk save.
      *
-     * @param scanPackage
      * @return
      */
-    private List<Class> getClasses(final String scanPackage) {
-        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
-        provider.addIncludeFilter(new AnnotationTypeFilter(ElementEntity.class));
-        provider.addIncludeFilter(new AnnotationTypeFilter(VertexEntity.class));
-        provider.addIncludeFilter(new AnnotationTypeFilter(EdgeEntity.class));
-        provider.addIncludeFilter(new AnnotationTypeFilter(EmbeddedEntity.class));
-        Set<BeanDefinition> beanDefinitionSet = provider.findCandidateComponents(scanPackage);
-        List<Class> entityClasses = new ArrayList<>();
-        for (BeanDefinition beanDefinition : beanDefinitionSet) {
-            String beanClassName = beanDefinition.getBeanClassName();
-            try {
-                entityClasses.add(Class.forName(beanClassName));
-            } catch (ClassNotFoundException e) {
-                LOG.error("Generate class: {}'s schema error: ", beanClassName, e);
-            }
-        }
-        return entityClasses;
+    public int getBatchSize() {
+        return batchSize;
     }
 
     /**
-     * Generates the orientdb schema.
+     * Gets the {@link CountCache} of the paged query counts, shared by all entity managers of this factory.
      *
-     * @param session
-     * @param clazz
-     * @param processed
-     * @param postProcess
+     * @return the cache, {@literal null} if the cache is disabled.
      */
-    private void generateSchema(final ODatabaseSession session, final Class<?> clazz,
-                                final Map<String, OClass> processed, final Map<String, Consumer<OClass>> postProcess) {
-        String className = getClassName(clazz);
-        String superClassName = null;
-        if (processed.containsKey(className)) {
-            return;
-        }
-        if (!clazz.getSuperclass().equals(Object.class)) {
-            generateSchema(session, clazz.getSuperclass(), processed, postProcess);
-            superClassName = getClassName(clazz.getSuperclass());
-        }
-
-        // If schema is generated add the OClass and return
-        OClass existed = session.getClass(className);
-        if (existed != null) {
-            processed.put(className, existed);
-            return;
-        }
-
-        OClass oClass = getOClass(session, clazz, className, superClassName);
-
-        // Set property
-        ReflectionUtils.doWithFields(clazz, field -> {
-            // If the field inherits from super class, should not set it again.
-            if (!field.getDeclaringClass().equals(clazz)) {
-                return;
-            }
-            field.setAccessible(true);
-            OProperty oProperty = null;
-            OType oType = OType.getTypeByClass(field.getType());
-            if (oType == null) {
-                oType = Constants.TYPES_BY_CLASS.getOrDefault(field.getType(), OType.EMBEDDED);
-            }
-
-            EntityProperty entityProperty = field.getAnnotation(EntityProperty.class);
-            String propertyName = getPropertyName(entityProperty, field.getName());
-
-            if (field.getAnnotation(Edge.class) != null) {
-
-                // edge is not a OClass property but a Edge OClass
-                handleEdgeProperty(session, field.getAnnotation(Edge.class), field, processed);
-
-            } else if (field.getAnnotation(FromVertex.class) != null
-                    || field.getAnnotation(ToVertex.class) != null
-                    || field.getAnnotation(OrientdbId.class) != null) {
-                // fromVertex, toVertex, ID are not the Entity's property
-            } else if (Constants.OBJECT_TYPE.containsKey(oType)) {
-                OType actualType = getActualType(oType, field);
-                OClass relateClass = processed.get(getClassName(field.getType()));
-                if (relateClass != null) {
-                    oProperty = oClass.createProperty(propertyName, actualType, relateClass);
-                } else {
-                    // If the relate class has not create put the processing to postProcess map
-                    Consumer<OClass> postCreateProperty = oc -> {
-                        OProperty op = oClass.createProperty(propertyName, actualType, oc);
-                        setPropertyConstraints(op, entityProperty);
-                    };
-                    postProcess.put(getClassName(field.getType()), postCreateProperty);
-                }
-            } else {
-                oProperty = oClass.createProperty(propertyName, oType);
-            }
-            if (oProperty != null) {
-                setPropertyConstraints(oProperty, entityProperty);
-            }
-
-        });
-        processed.put(className, oClass);
+    @Nullable
+    public CountCache getCountCache() {
+        return countCache;
     }
 
     /**
-     * Gets a {@link OType}.
+     * Gets the second-level {@link EntityCache}.
      *
-     * @param oType
-     * @param field
-     * @return
+     * @return the cache, {@literal null} if the cache is disabled.
      */
-    private OType getActualType(final OType oType, final Field field) {
-        if (field.getAnnotation(Link.class) != null) {
-            return Constants.OBJECT_TYPE.get(oType);
-        }
-        return oType;
+    @Nullable
+    public EntityCache getEntityCache() {
+        return entityCache;
     }
 
     /**
-     * Handles a edge property.
+     * Gets the {@link SchemaPlan} applied when the factory was created, {@literal null} if the schema is not
+     * generated.
      *
-     * @param session
-     * @param edge
-     * @param field
-     * @param processed
+     * @return
      */
-    private void handleEdgeProperty(final ODatabaseSession session, final Edge edge,
-                                    final Field field, final Map<String, OClass> processed) {
-        String edgeName = edge.name();
-        if (isEmpty(edgeName)) {
-            edgeName = capitalize(field.getName());
-        }
-        if (processed.containsKey(edgeName)) {
-            return;
-        }
-        OClass oClass = session.getClass(edgeName);
-        if (oClass != null) {
-            processed.put(edgeName, oClass);
-        } else {
-            processed.put(edgeName, session.createEdgeClass(edgeName));
-        }
+    @Nullable
+    public SchemaPlan getSchemaPlan() {
+        return schemaPlan;
     }
 
     /**
-     * Sets the property constraints.
+     * Gets the build of the planned indexes, which is completed when the factory is created unless the indexes are
+     * built in the background. A failed background build completes the future exceptionally with a
+     * {@link IllegalStateException}, which is thrown by {@link CompletableFuture#join()}.
      *
-     * @param op
-     * @param entityProperty
+     * @return
      */
-    private void setPropertyConstraints(final OProperty op, final @Nullable EntityProperty entityProperty) {
-        if (entityProperty != null) {
-            if (!isEmpty(entityProperty.min())) {
-                op.setMin(entityProperty.min());
-            }
-            if (!isEmpty(entityProperty.max())) {
-                op.setMax(entityProperty.max());
-            }
-            if (!isEmpty(entityProperty.regexp())) {
-                op.setRegexp(entityProperty.regexp());
-            }
-            if (entityProperty.unique()) {
-                op.createIndex(UNIQUE);
-            }
-            op.setNotNull(entityProperty.notNull());
-            op.setMandatory(entityProperty.mandatory());
-            op.setReadonly(entityProperty.readonly());
-        }
+    public CompletableFuture<Void> getIndexBuild() {
+        return indexBuild;
     }
 
     /**
-     * Gets the property name.
+     * Generates the orientdb schema, the indexes are built before the method returns.
      *
-     * @param entityProperty
-     * @param fieldName
-     * @return
+     * @param session
+     * @param entityScanPackage
      */
-    private String getPropertyName(@Nullable final EntityProperty entityProperty, final String fieldName) {
-        if (entityProperty != null && !isEmpty(entityProperty.name())) {
-            return entityProperty.name();
+    public void generateSchema(final ODatabaseSession session, final String entityScanPackage) {
+        try {
+            SchemaPlan plan = new SchemaPlanner(session).plan(getClasses(entityScanPackage));
+            plan.applySchemaChanges(session);
+            plan.applyIndexChanges(session);
+        } finally {
+            session.close();
         }
-        return fieldName;
     }
 
     /**
-     * Get a {@link OClass} for a given class and className.
+     * Generates the orientdb schema. The classes, properties and constraints are created before the method returns,
+     * the indexes may be built in the background.
      *
-     * @param session
-     * @param clazz
-     * @param className
-     * @param superClassName
-     * @return
+     * @param entityScanPackage
+     * @param backgroundIndexBuild
      */
-    private OClass getOClass(final ODatabaseSession session, final Class<?> clazz,
-                             final String className, @Nullable final String superClassName) {
-        List<String> superClasses = new ArrayList();
-        if (superClassName != null) {
-            superClasses.add(superClassName);
-        }
-        if (clazz.getAnnotation(VertexEntity.class) != null) {
-            superClasses.add("V");
-        } else if (clazz.getAnnotation(EdgeEntity.class) != null) {
-            superClasses.add("E");
-        }
-        if (superClasses.size() > 0) {
-            return session.createClass(className, superClasses.toArray(new String[superClasses.size()]));
-        } else {
-            return session.createClass(className);
+    private void generateSchema(final String entityScanPackage, final boolean backgroundIndexBuild) {
+        ODatabaseSession session = acquire();
+        try {
+            schemaPlan = new SchemaPlanner(session).plan(getClasses(entityScanPackage));
+            schemaPlan.applySchemaChanges(session);
+            if (!backgroundIndexBuild || schemaPlan.getIndexChanges().isEmpty()) {
+                schemaPlan.applyIndexChanges(session);
+                return;
+            }
+        } finally {
+            session.close();
         }
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "orientdb-index-build");
+            thread.setDaemon(true);
+            return thread;
+        });
+        indexBuild = CompletableFuture.runAsync(() -> {
+            ODatabaseSession indexSession = acquire();
+            try {
+                schemaPlan.applyIndexChanges(indexSession);
+            } catch (RuntimeException e) {
+                LOG.error("Index build failed: {}", schemaPlan, e);
+                throw new IllegalStateException("Index build failed: " + schemaPlan, e);
+            } finally {
+                indexSession.close();
+            }
+        }, executor);
+        executor.shutdown();
     }
 
     /**
-     * Gets a class name for a given class.
+     * Finds the entity classes of a package, from the components index if the entities are indexed.
      *
-     * @param clazz
+     * @param scanPackage
      * @return
      */
-    private String getClassName(final Class<?> clazz) {
-        return EntityType.getEntityType(clazz).map(e -> e.getEntityName(clazz)).orElse(clazz.getSimpleName());
+    private List<Class<?>> getClasses(final String scanPackage) {
+        return new EntityClassScanner(ElementEntity.class, VertexEntity.class, EdgeEntity.class,
+                EmbeddedEntity.class).scan(scanPackage);
     }
 
     /**
-     * Gets {@link Index} array.
+     * Gets the {@link AsyncSessionExecutor}. Its threads are started when the first asynchronous call is submitted.
      *
-     * @param clazz
      * @return
      */
-    private Index[] getIndex(final Class<?> clazz) {
-        return EntityType.getEntityType(clazz).map(e -> e.getIndex(clazz)).orElse(new Index[0]);
+    public AsyncSessionExecutor getAsyncExecutor() {
+        return asyncExecutor;
     }
 
     /**
-     * Destroy this sessionFactory.
+     * Destroy this sessionFactory. A index build in the background is cancelled, the index which is being built is
+     * awaited because the database must not be closed while it is built.
      */
     public void destroy() {
+        asyncExecutor.shutdown();
+        if (!indexBuild.isDone()) {
+            schemaPlan.cancelIndexChanges();
+            try {
+                indexBuild.join();
+            } catch (CompletionException e) {
+                // The failure is logged by the index build
+            }
+        }
         pool.close();
         orientDB.close();
     }
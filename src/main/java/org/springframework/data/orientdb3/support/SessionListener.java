@@ -4,9 +4,16 @@ import com.orientechnologies.orient.core.command.OCommandExecutor;
 import com.orientechnologies.orient.core.command.OCommandRequestText;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.springframework.lang.Nullable;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -18,6 +25,27 @@ public class SessionListener implements ODatabaseListener {
     private static final ThreadLocal<Set<WeakReference<EntityProxyInterface>>> sessionEntitySet = new ThreadLocal();
     private static final ThreadLocal<Boolean> isLoading = new ThreadLocal<>();
 
+    @Nullable
+    private final EntityCache entityCache;
+    private List<ORID> changedRecords = new ArrayList<>();
+
+    /**
+     * Creates a new {@link SessionListener}.
+     */
+    public SessionListener() {
+        this(null);
+    }
+
+    /**
+     * Creates a new {@link SessionListener} that evicts the records changed by a committed transaction from a given
+     * {@link EntityCache}.
+     *
+     * @param entityCache
+     */
+    public SessionListener(@Nullable final EntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
     /**
      * Binds the {@link EntityProxyInterface} to threadLocal.
      *
@@ -36,12 +64,22 @@ public class SessionListener implements ODatabaseListener {
         set.add(new WeakReference<>(entityProxyInterface));
     }
 
+    /**
+     * Removes the {@link EntityProxyInterface}s bound to the current thread, e.g. when a pooled thread finishes a task
+     * which was not committed.
+     */
+    static void unbindEntityProxies() {
+        sessionEntitySet.remove();
+        isLoading.remove();
+    }
+
     /*
      * (non-Javadoc)
      * @see ODatabaseListener#onBeforeTxCommit()
      */
     @Override
     public void onBeforeTxCommit(final ODatabase oDatabase) {
+        collectChangedRecords(oDatabase);
         isLoading.set(true);
         Set<WeakReference<EntityProxyInterface>> set = sessionEntitySet.get();
         if (set == null) {
@@ -56,12 +94,37 @@ public class SessionListener implements ODatabaseListener {
     }
 
     /**
-     * Orientdb will change the element id after commit, so it need to load the id after commit.
+     * Collects the cached records updated or deleted by the transaction. The created records have no persistent id
+     * yet and can not be cached.
+     *
+     * @param oDatabase
+     */
+    private void collectChangedRecords(final ODatabase oDatabase) {
+        if (entityCache == null) {
+            return;
+        }
+        changedRecords = new ArrayList<>();
+        for (ORecordOperation operation : oDatabase.getTransaction().getRecordOperations()) {
+            ORecord record = operation.getRecord();
+            if (operation.type != ORecordOperation.CREATED && record instanceof ODocument
+                    && entityCache.isCachedClass(((ODocument) record).getClassName())) {
+                changedRecords.add(record.getIdentity().copy());
+            }
+        }
+    }
+
+    /**
+     * Orientdb will change the element id after commit, so it need to load the id after commit. The changed records
+     * are evicted from the {@link EntityCache}.
      *
      * @param oDatabase
      */
     @Override
     public void onAfterTxCommit(final ODatabase oDatabase) {
+        if (entityCache != null && !changedRecords.isEmpty()) {
+            entityCache.evict(changedRecords);
+            changedRecords = new ArrayList<>();
+        }
         Set<WeakReference<EntityProxyInterface>> set = sessionEntitySet.get();
         if (set != null) {
             for (WeakReference<EntityProxyInterface> entityProxy : set) {
@@ -81,15 +144,19 @@ public class SessionListener implements ODatabaseListener {
      */
     @Override
     public void onAfterTxRollback(final ODatabase oDatabase) {
+        changedRecords = new ArrayList<>();
         sessionEntitySet.set(new HashSet<>());
     }
 
-    /*
-     * (non-Javadoc)
-     * @see ODatabaseListener#onClose()
+    /**
+     * The pooled session is reused and gets a new listener when it is opened again, so the listener is removed when
+     * the session is closed.
+     *
+     * @param oDatabase
      */
     @Override
     public void onClose(final ODatabase oDatabase) {
+        oDatabase.unregisterListener(this);
     }
 
     /*
@@ -0,0 +1,147 @@
+package org.springframework.data.orientdb3.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of the session pool of a {@link SessionFactory}. The values can be exported to a metrics registry
+ * by reading the getters periodically.
+ *
+ * @author xxcxy
+ */
+public class SessionPoolStatistics {
+
+    private final int maxSessions;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final LongAccumulator peakActiveSessions = new LongAccumulator(Long::max, 0);
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireTimeoutCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Long::max, 0);
+
+    /**
+     * Creates a new {@link SessionPoolStatistics}.
+     *
+     * @param maxSessions the maximum number of pooled sessions.
+     */
+    public SessionPoolStatistics(final int maxSessions) {
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Records a session acquired from the pool.
+     *
+     * @param nanos the time waited for the session.
+     */
+    void acquired(final long nanos) {
+        acquireCount.increment();
+        acquireNanos.add(nanos);
+        maxAcquireNanos.accumulate(nanos);
+        peakActiveSessions.accumulate(activeSessions.incrementAndGet());
+    }
+
+    /**
+     * Records a session that could not be acquired in time.
+     *
+     * @param nanos the time waited for the session.
+     */
+    void acquireTimedOut(final long nanos) {
+        acquireTimeoutCount.increment();
+        acquireNanos.add(nanos);
+        maxAcquireNanos.accumulate(nanos);
+    }
+
+    /**
+     * Records a session returned to the pool.
+     */
+    void released() {
+        activeSessions.decrementAndGet();
+    }
+
+    /**
+     * Gets the maximum number of pooled sessions.
+     *
+     * @return
+     */
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Gets the number of sessions in use.
+     *
+     * @return
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Gets the number of sessions which can still be acquired without waiting.
+     *
+     * @return
+     */
+    public int getAvailableSessions() {
+        return Math.max(0, maxSessions - getActiveSessions());
+    }
+
+    /**
+     * Gets the highest number of sessions which were in use at the same time.
+     *
+     * @return
+     */
+    public long getPeakActiveSessions() {
+        return peakActiveSessions.get();
+    }
+
+    /**
+     * Gets the number of acquired sessions.
+     *
+     * @return
+     */
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    /**
+     * Gets the number of acquisitions that failed because the pool was exhausted.
+     *
+     * @return
+     */
+    public long getAcquireTimeoutCount() {
+        return acquireTimeoutCount.sum();
+    }
+
+    /**
+     * Gets the total time waited for sessions.
+     *
+     * @param unit
+     * @return
+     */
+    public long getTotalAcquireTime(final TimeUnit unit) {
+        return unit.convert(acquireNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the longest time waited for a session.
+     *
+     * @param unit
+     * @return
+     */
+    public long getMaxAcquireTime(final TimeUnit unit) {
+        return unit.convert(maxAcquireNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return String.format("Session pool [active: %d, max: %d, peak: %d, acquired: %d, timeouts: %d, "
+                        + "max acquire time: %dms]", getActiveSessions(), maxSessions, getPeakActiveSessions(),
+                getAcquireCount(), getAcquireTimeoutCount(), getMaxAcquireTime(TimeUnit.MILLISECONDS));
+    }
+}
@@ -183,6 +183,10 @@ public class OrientdbTransactionManager extends AbstractPlatformTransactionManag
     @Override
     protected void doCleanupAfterCompletion(Object transaction) {
         SessionHolder txObject = (SessionHolder) transaction;
+        if (txObject.isScoped()) {
+            // The session is closed when its scope ends
+            return;
+        }
         TransactionSynchronizationManager.unbindResourceIfPossible(getSessionFactory());
         txObject.clear();
     }
@@ -12,6 +12,7 @@ import org.springframework.util.Assert;
 public class SessionHolder extends ResourceHolderSupport {
 
     private ODatabaseSession session;
+    private boolean scoped;
 
     /**
      * Sets the session.
@@ -32,6 +33,24 @@ public class SessionHolder extends ResourceHolderSupport {
         return this.session;
     }
 
+    /**
+     * Sets whether the session is bound by a {@link SessionScope}.
+     *
+     * @param scoped
+     */
+    public void setScoped(final boolean scoped) {
+        this.scoped = scoped;
+    }
+
+    /**
+     * Whether the session is bound by a {@link SessionScope}, such a session outlives the transactions using it.
+     *
+     * @return
+     */
+    public boolean isScoped() {
+        return scoped;
+    }
+
     /*
      * (non-Javadoc)
      * @see ResourceHolderSupport#clear()
@@ -0,0 +1,90 @@
+package org.springframework.data.orientdb3.transaction;
+
+import org.springframework.data.orientdb3.support.SessionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.util.function.Supplier;
+
+/**
+ * Binds one session to the current thread for a unit of work without starting a transaction, e.g. a web request or a
+ * batch step. Repository calls in the scope share the bound session instead of acquiring a session each, and the
+ * lazy loaded entities can be read until the scope ends. Transactions started in the scope use the bound session.
+ * <p>
+ * Use {@link #execute(Supplier)} for a callback, or pair {@link #bindSession()} and {@link #unbindSession()} in an
+ * interceptor or a listener.
+ *
+ * @author xxcxy
+ */
+public class SessionScope {
+
+    private final SessionFactory sessionFactory;
+
+    /**
+     * Creates a new {@link SessionScope}.
+     *
+     * @param sessionFactory must not be {@literal null}.
+     */
+    public SessionScope(final SessionFactory sessionFactory) {
+        Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * Binds a session to the current thread if no session is bound.
+     *
+     * @return {@literal true} if a session was bound, {@literal false} if the thread participates in a bound session
+     * and must not unbind it.
+     */
+    public boolean bindSession() {
+        if (TransactionSynchronizationManager.hasResource(sessionFactory)) {
+            return false;
+        }
+        SessionHolder sessionHolder = new SessionHolder();
+        sessionHolder.setSession(sessionFactory.openSession());
+        sessionHolder.setScoped(true);
+        TransactionSynchronizationManager.bindResource(sessionFactory, sessionHolder);
+        return true;
+    }
+
+    /**
+     * Unbinds the session bound by {@link #bindSession()} and closes it.
+     */
+    public void unbindSession() {
+        SessionHolder sessionHolder = (SessionHolder) TransactionSynchronizationManager.unbindResource(sessionFactory);
+        Assert.state(sessionHolder.isScoped(), "The bound session is not bound by a SessionScope!");
+        sessionHolder.getSession().activateOnCurrentThread();
+        sessionHolder.clear();
+    }
+
+    /**
+     * Executes a callback with a bound session.
+     *
+     * @param callback
+     * @param <T>
+     * @return
+     */
+    public <T> T execute(final Supplier<T> callback) {
+        boolean bound = bindSession();
+        try {
+            return callback.get();
+        } finally {
+            if (bound) {
+                unbindSession();
+            }
+        }
+    }
+
+    /**
+     * Runs a callback with a bound session.
+     *
+     * @param callback
+     */
+    public void run(final Runnable callback) {
+        execute(() -> {
+            callback.run();
+            return null;
+        });
+    }
+}
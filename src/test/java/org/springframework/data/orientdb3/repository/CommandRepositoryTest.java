@@ -4,15 +4,26 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.springframework.context.annotation.Bean;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
 import org.springframework.data.orientdb3.repository.support.OrientdbRepositoryFactory;
 import org.springframework.data.orientdb3.repository.support.StringIdParser;
 import org.springframework.data.orientdb3.support.IOrientdbConfig;
 import org.springframework.data.orientdb3.support.OrientdbEntityManager;
 import org.springframework.data.orientdb3.test.sample.CommandElement;
+import org.springframework.data.orientdb3.test.sample.Pojo;
+import org.springframework.data.orientdb3.test.sample.VertexTarget;
+import org.springframework.data.orientdb3.test.sample.VertexWithEdges;
 import org.springframework.data.orientdb3.test.sample.repository.CommandElementRepository;
+import org.springframework.data.orientdb3.test.sample.repository.ElementObjectRepository;
+import org.springframework.data.orientdb3.test.sample.repository.VertexWithEdgesRepository;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
@@ -52,6 +63,134 @@ public class CommandRepositoryTest extends RepositoryTestBase {
         assertThat(commandElementRepository.findByName("name2").isPresent(), is(false));
     }
 
+    @Test
+    public void should_delete_records_by_derived_query() {
+        prepareListData();
+
+        assertThat(commandElementRepository.deleteByDescriptionIn(Arrays.asList("desc3", "desc4", "none")), is(2L));
+        commandElementRepository.deleteByNameStartingWith("name1");
+
+        assertThat(commandElementRepository.findAll().stream().map(CommandElement::getName).sorted()
+                .collect(toList()), is(Arrays.asList("name0", "name2", "name5", "name6", "name7", "name8", "name9")));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_delete_committed_records_by_ids() {
+        try {
+            prepareListData();
+            List<CommandElement> saved = commandElementRepository.findAll(Sort.by("name"));
+            List<String> ids = saved.subList(0, 3).stream().map(CommandElement::getId).collect(toList());
+
+            commandElementRepository.deleteAllById(ids);
+            commandElementRepository.deleteAll(saved.subList(3, 5));
+            commandElementRepository.deleteById(saved.get(5).getId());
+
+            assertThat(commandElementRepository.count(), is(14L));
+            assertThat(commandElementRepository.findAllById(ids).isEmpty(), is(true));
+            assertThat(commandElementRepository.findByName("name14").isPresent(), is(true));
+        } finally {
+            commandElementRepository.deleteAll();
+        }
+    }
+
+    @Test(expected = EmptyResultDataAccessException.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_fail_to_delete_a_missing_record_by_id() {
+        CommandElement saved = commandElementRepository.save(new CommandElement());
+        commandElementRepository.deleteById(saved.getId());
+
+        commandElementRepository.deleteById(saved.getId());
+    }
+
+    @Test
+    public void should_update_records_by_derived_query() {
+        prepareListData();
+
+        assertThat(commandElementRepository.updateDescriptionByNameIn("updated", Arrays.asList("name3", "name4")),
+                is(2L));
+        assertThat(commandElementRepository.updateDescriptionAndPriorityByNameStartingWithAndPriorityLessThan(
+                "top", 5, "name1", 1), is(11));
+
+        assertThat(commandElementRepository.findByName("name3").get().getDescription(), is("updated"));
+        assertThat(commandElementRepository.findByName("name12").get().getDescription(), is("top"));
+        assertThat(commandElementRepository.findByName("name12").get().getPriority(), is(5L));
+        assertThat(commandElementRepository.findByName("name2").get().getDescription(), is("desc2"));
+    }
+
+    @Test
+    public void should_update_a_property_containing_by_by_derived_query() {
+        prepareListData();
+
+        assertThat(commandElementRepository.updateCreatedByByName("creator", "name3"), is(1L));
+
+        assertThat(commandElementRepository.findByName("name3").get().getCreatedBy(), is("creator"));
+        assertThat(commandElementRepository.findByName("name4").get().getCreatedBy(), is((String) null));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_update_committed_records_without_loading_them() {
+        try {
+            prepareListData();
+            List<String> ids = commandElementRepository.findAll(Sort.by("name")).subList(0, 3).stream()
+                    .map(CommandElement::getId).collect(toList());
+
+            assertThat(commandElementRepository.updateAll(Update.update("description", "all").inc("priority", 2)),
+                    is(20L));
+            assertThat(commandElementRepository.updateAllById(ids, Update.update("name", "byId").inc("priority",
+                    -1)), is(3L));
+
+            List<CommandElement> updated = commandElementRepository.findAllById(ids);
+            assertThat(updated.stream().map(CommandElement::getName).distinct().collect(toList()),
+                    is(Arrays.asList("byId")));
+            assertThat(updated.get(0).getPriority(), is(1L));
+            assertThat(commandElementRepository.findByName("name5").get().getPriority(), is(2L));
+            assertThat(commandElementRepository.findByName("name5").get().getDescription(), is("all"));
+        } finally {
+            commandElementRepository.deleteAll();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_an_update_of_a_unknown_property() {
+        commandElementRepository.updateAll(Update.update("unknown", "value"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_an_update_of_a_edge_property() {
+        new OrientdbRepositoryFactory(new OrientdbEntityManager(sessionFactory),
+                new OrientdbIdParserHolder(new StringIdParser())).getRepository(VertexWithEdgesRepository.class)
+                .updateAll(Update.update("targets", Arrays.asList(new VertexTarget())));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_an_update_of_a_embedded_entity_property() {
+        new OrientdbRepositoryFactory(new OrientdbEntityManager(sessionFactory),
+                new OrientdbIdParserHolder(new StringIdParser())).getRepository(ElementObjectRepository.class)
+                .updateAll(Update.update("pojo", new Pojo()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_a_derived_update_of_a_edge_property() {
+        new OrientdbRepositoryFactory(new OrientdbEntityManager(sessionFactory),
+                new OrientdbIdParserHolder(new StringIdParser())).getRepository(EdgeUpdateRepository.class);
+    }
+
+    interface EdgeUpdateRepository extends OrientdbRepository<VertexWithEdges, String> {
+        long updateTargetsByType(List<VertexTarget> targets, String type);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_a_limited_derived_delete() {
+        new OrientdbRepositoryFactory(new OrientdbEntityManager(sessionFactory),
+                new OrientdbIdParserHolder(new StringIdParser())).getRepository(LimitedDeleteRepository.class);
+    }
+
+    interface LimitedDeleteRepository extends OrientdbRepository<CommandElement, String> {
+        long deleteTop10ByName(String name);
+    }
+
     private void prepareListData() {
         commandElementRepository.saveAll(IntStream.range(0, 20).mapToObj(i -> {
             CommandElement q = new CommandElement();
@@ -1,10 +1,17 @@
 package org.springframework.data.orientdb3.repository;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.orientechnologies.orient.core.cache.OLocalRecordCache;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
 import org.springframework.data.orientdb3.repository.support.OrientdbRepositoryFactory;
@@ -14,9 +21,19 @@ import org.springframework.data.orientdb3.support.OrientdbEntityManager;
 import org.springframework.data.orientdb3.test.sample.VertexObject;
 import org.springframework.data.orientdb3.test.sample.VertexSource;
 import org.springframework.data.orientdb3.test.sample.VertexTarget;
+import org.springframework.data.orientdb3.test.sample.VertexWithEdges;
 import org.springframework.data.orientdb3.test.sample.repository.VertexObjectRepository;
+import org.springframework.data.orientdb3.test.sample.repository.VertexWithEdgesRepository;
+import org.springframework.data.orientdb3.transaction.SessionScope;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -24,11 +41,14 @@ import static org.junit.Assert.assertThat;
 public class EdgeRepositoryTest extends RepositoryTestBase {
 
     private OrientdbRepository<VertexObject, String> vertexRepository;
+    private VertexWithEdgesRepository vertexWithEdgesRepository;
 
     @Before
     public void setup() {
         vertexRepository = new OrientdbRepositoryFactory(new OrientdbEntityManager(sessionFactory),
                 new OrientdbIdParserHolder(new StringIdParser())).getRepository(VertexObjectRepository.class);
+        vertexWithEdgesRepository = new OrientdbRepositoryFactory(new OrientdbEntityManager(sessionFactory),
+                new OrientdbIdParserHolder(new StringIdParser())).getRepository(VertexWithEdgesRepository.class);
     }
 
     @Test
@@ -66,6 +86,68 @@ public class EdgeRepositoryTest extends RepositoryTestBase {
         assertThat(hasTestOut, is(true));
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_fetch_edges_of_fetch_plan() {
+        for (int i = 0; i < 3; i++) {
+            VertexTarget first = new VertexTarget();
+            first.setType("first");
+            VertexTarget second = new VertexTarget();
+            second.setType("second");
+            VertexSource vertexSource = new VertexSource();
+            vertexSource.setType("source");
+            VertexWithEdges vertex = new VertexWithEdges();
+            vertex.setType("fetched");
+            vertex.setTargets(asList(first, second));
+            vertex.setSource(vertexSource);
+            vertexWithEdgesRepository.save(vertex);
+        }
+        List<ORID> fetchedIds = findCommittedIds("VertexTarget");
+        fetchedIds.addAll(findCommittedIds("VertexSource"));
+
+        Logger sqlLogger = (Logger) LoggerFactory.getLogger("orientdb.query.sql");
+        ListAppender<ILoggingEvent> sqls = new ListAppender<>();
+        sqls.start();
+        sqlLogger.addAppender(sqls);
+        try {
+            new SessionScope(sessionFactory).run(() -> {
+                List<VertexWithEdges> vertices = vertexWithEdgesRepository.findByType("fetched");
+
+                // The query, then one query for the edges and one for the vertices of each fetched property
+                assertThat(sqls.list.size(), is(5));
+                // The fetched vertices are in the local cache before a getter is called
+                OLocalRecordCache localCache = getSession().getLocalCache();
+                for (ORID rid : fetchedIds) {
+                    assertThat(localCache.findRecord(rid) != null, is(true));
+                }
+
+                assertThat(vertices.size(), is(3));
+                for (VertexWithEdges vertex : vertices) {
+                    assertThat(vertex.getTargets().stream().map(VertexTarget::getType).collect(toList()),
+                            hasItems("first", "second"));
+                    assertThat(vertex.getSource().getType(), is("source"));
+                }
+            });
+        } finally {
+            sqlLogger.detachAppender(sqls);
+            try (ODatabaseSession session = sessionFactory.openSession()) {
+                session.command("delete vertex VertexWithEdges").close();
+                session.command("delete vertex VertexTarget").close();
+                session.command("delete vertex VertexSource").close();
+            }
+        }
+    }
+
+    /**
+     * Finds the ids of the committed records of a class with a session of its own.
+     */
+    private List<ORID> findCommittedIds(final String className) {
+        try (ODatabaseSession session = sessionFactory.openSession();
+             OResultSet resultSet = session.query("select from " + className)) {
+            return resultSet.elementStream().map(e -> e.getIdentity().copy()).collect(toList());
+        }
+    }
+
     private static final String DB_HOSTS = "plocal:orient-db/spring-data-edge-test";
 
     @BeforeClass
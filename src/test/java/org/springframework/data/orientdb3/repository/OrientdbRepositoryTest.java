@@ -3,6 +3,9 @@ package org.springframework.data.orientdb3.repository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.orientechnologies.orient.core.exception.OValidationException;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -13,6 +16,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
 import org.springframework.data.orientdb3.repository.support.OrientdbRepositoryFactory;
 import org.springframework.data.orientdb3.repository.support.StringIdParser;
+import org.springframework.data.orientdb3.support.EntityProxyInterface;
 import org.springframework.data.orientdb3.support.IOrientdbConfig;
 import org.springframework.data.orientdb3.support.OrientdbEntityManager;
 import org.springframework.data.orientdb3.test.sample.ChildrenElement;
@@ -36,7 +40,10 @@ import org.springframework.data.orientdb3.test.sample.repository.VertexObjectRep
 import org.springframework.data.orientdb3.test.sample.repository.VertexSourceRepository;
 import org.springframework.data.orientdb3.test.sample.repository.VertexWithEdgesRepository;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -45,6 +52,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
@@ -195,6 +203,32 @@ public class OrientdbRepositoryTest extends RepositoryTestBase {
         assertThat(find.getTarget().getType(), is("target"));
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_delete_committed_edges_and_vertices_by_ids() {
+        List<EdgeObject> edges = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            EdgeObject edgeObject = new EdgeObject();
+            edgeObject.setSource(new VertexSource());
+            edgeObject.setTarget(new VertexTarget());
+            edges.add(edgeRepository.save(edgeObject));
+        }
+        List<String> sourceIds = edges.stream().map(e -> e.getSource().getId()).collect(toList());
+        try {
+            edgeRepository.deleteAllById(edges.stream().map(EdgeObject::getId).collect(toList()));
+
+            assertThat(edgeRepository.findAllById(edges.stream().map(EdgeObject::getId).collect(toList())).isEmpty(),
+                    is(true));
+            assertThat(vertexSourceRepository.findAllById(sourceIds), hasSize(2));
+
+            vertexSourceRepository.deleteAllById(sourceIds);
+            assertThat(vertexSourceRepository.findAllById(sourceIds).isEmpty(), is(true));
+        } finally {
+            vertexSourceRepository.deleteAllById(sourceIds);
+            edgeRepository.deleteAll();
+        }
+    }
+
     @Test
     public void should_insert_find_update_and_delete_vertex() {
         VertexWithEdges vertex = new VertexWithEdges();
@@ -262,6 +296,64 @@ public class OrientdbRepositoryTest extends RepositoryTestBase {
         assertThat(updated.getSource().getType(), is("update"));
     }
 
+    @Test
+    public void should_keep_edges_to_unchanged_vertices() {
+        VertexWithEdges vertex = new VertexWithEdges();
+        vertex.setTargets(Arrays.asList(new VertexTarget(), new VertexTarget()));
+        VertexSource vertexSource = new VertexSource();
+        vertexSource.setType("source");
+        vertex.setSource(vertexSource);
+        String vId = vertexWithEdgesRepository.save(vertex).getId();
+        Set<Object> targetEdges = getEdgeIdentities(vId, "Targets");
+        Set<Object> sourceEdges = getEdgeIdentities(vId, "Source");
+
+        VertexWithEdges find = vertexWithEdgesRepository.findById(vId).get();
+        List<VertexTarget> targets = find.getTargets();
+        targets.add(new VertexTarget());
+        find.setTargets(targets);
+        find.setType("updated");
+        vertexWithEdgesRepository.save(find);
+
+        Set<Object> updatedEdges = getEdgeIdentities(vId, "Targets");
+        assertThat(updatedEdges.size(), is(3));
+        assertThat(updatedEdges.containsAll(targetEdges), is(true));
+        assertThat(getEdgeIdentities(vId, "Source"), is(sourceEdges));
+    }
+
+    @Test
+    public void should_cascade_save_changed_linked_element_of_loaded_entity() {
+        ElementObject elementObject = new ElementObject();
+        elementObject.setElementList(getListSimpleElement());
+        elementObject.setLength(5);
+        String id = elementRepository.save(elementObject).getId();
+
+        ElementObject find = elementRepository.findById(id).get();
+        ((EntityProxyInterface) find).loadStable();
+        find.getElementList().get(0).setValue("edited");
+        elementRepository.save(find);
+
+        List<SimpleElement> elements = elementRepository.findById(id).get().getElementList();
+        assertThat(elements.get(0).getValue(), is("edited"));
+        assertThat(elements.get(1).getValue(), is("list2"));
+    }
+
+    @Test
+    public void should_cascade_save_changed_edge_vertex_of_loaded_entity() {
+        VertexWithEdges vertex = new VertexWithEdges();
+        VertexSource vertexSource = new VertexSource();
+        vertexSource.setType("source");
+        vertex.setSource(vertexSource);
+        String vId = vertexWithEdgesRepository.save(vertex).getId();
+
+        VertexWithEdges find = vertexWithEdgesRepository.findById(vId).get();
+        ((EntityProxyInterface) find).loadStable();
+        find.getSource().setType("edited");
+        vertexWithEdgesRepository.save(find);
+
+        String sourceId = vertexWithEdgesRepository.findById(vId).get().getSource().getId();
+        assertThat(vertexSourceRepository.findById(sourceId).get().getType(), is("edited"));
+    }
+
     @Test
     public void should_save_and_find_interrelated_vertex() {
         VertexInterrelatedOne one = new VertexInterrelatedOne();
@@ -480,6 +572,16 @@ public class OrientdbRepositoryTest extends RepositoryTestBase {
         return maps;
     }
 
+    private Set<Object> getEdgeIdentities(final String vId, final String edgeName) {
+        OVertex oVertex = ((EntityProxyInterface) vertexWithEdgesRepository.findById(vId).get()).findOElement()
+                .asVertex().get();
+        Set<Object> identities = new HashSet<>();
+        for (OEdge oEdge : oVertex.getEdges(ODirection.OUT, edgeName)) {
+            identities.add(oEdge.getIdentity());
+        }
+        return identities;
+    }
+
     private static final String DB_HOSTS = "plocal:orient-db/spring-data-test";
 
     @BeforeClass
@@ -6,7 +6,9 @@ import org.junit.Test;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb3.repository.KeysetPageable;
 import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
 import org.springframework.data.orientdb3.repository.support.OrientdbRepositoryFactory;
 import org.springframework.data.orientdb3.repository.support.StringIdParser;
@@ -19,10 +21,14 @@ import org.springframework.data.orientdb3.test.sample.QueryElement;
 import org.springframework.data.orientdb3.test.sample.repository.ChildrenElementRepository;
 import org.springframework.data.orientdb3.test.sample.repository.QueryElementRepository;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Calendar;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -109,6 +115,21 @@ public class QueryRepositoryTest extends RepositoryTestBase {
         assertThat(sq.size(), is(2));
     }
 
+    @Test
+    public void should_find_by_starting_with_different_lengths() {
+        prepareBetween();
+        assertThat(queryElementRepository.findByNameStartingWith("mi").size(), is(2));
+        assertThat(queryElementRepository.findByNameStartingWith("mid").size(), is(1));
+        assertThat(queryElementRepository.findByNameStartingWith("m").size(), is(3));
+    }
+
+    @Test
+    public void should_find_by_order_by() {
+        prepareBetween();
+        List<QueryElement> oq = queryElementRepository.findByScoreGreaterThanOrderByScoreDesc(0.0);
+        assertThat(oq.get(0).getName(), is("max"));
+    }
+
     @Test
     public void should_find_by_ending_with() {
         prepareBetween();
@@ -125,6 +146,19 @@ public class QueryRepositoryTest extends RepositoryTestBase {
         assertThat(eq.get(0).getName(), is("exists"));
     }
 
+    @Test
+    public void should_exists_by_name() {
+        prepareExists();
+        assertThat(queryElementRepository.existsByName("exists"), is(true));
+        assertThat(queryElementRepository.existsByName("absent"), is(false));
+    }
+
+    @Test
+    public void should_count_by_name() {
+        prepareListData();
+        assertThat(queryElementRepository.countByName("name"), is(20L));
+    }
+
     @Test
     public void should_find_by_true() {
         prepareBoolean();
@@ -254,6 +288,29 @@ public class QueryRepositoryTest extends RepositoryTestBase {
         assertThat(f.get().getName(), is("name"));
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_find_asynchronously() throws Exception {
+        // The asynchronous queries use their own sessions, they only see committed records
+        List<QueryElement> saved = IntStream.range(0, 2).mapToObj(i -> {
+            QueryElement t = new QueryElement();
+            t.setName("async");
+            return queryElementRepository.save(t);
+        }).collect(toList());
+        try {
+            CompletableFuture<List<QueryElement>> found = queryElementRepository.findAsyncByName("async");
+            CompletableFuture<Optional<QueryElement>> missing = queryElementRepository.findAsyncOptionByName("none");
+            Future<Long> count = queryElementRepository.countAsyncByName("async");
+
+            assertThat(found.get().size(), is(2));
+            assertThat(found.get().get(0).getName(), is("async"));
+            assertThat(missing.get().isPresent(), is(false));
+            assertThat(count.get(), is(2L));
+        } finally {
+            queryElementRepository.deleteAll(saved);
+        }
+    }
+
     @Test
     public void should_find_page() {
         prepareListData();
@@ -263,6 +320,25 @@ public class QueryRepositoryTest extends RepositoryTestBase {
         assertThat(p.getContent().size(), is(5));
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_clear_cached_count_by_save_of_other_repository() {
+        QueryElementRepository otherRepository = new OrientdbRepositoryFactory(new OrientdbEntityManager(
+                sessionFactory), new OrientdbIdParserHolder(new StringIdParser()))
+                .getRepository(QueryElementRepository.class);
+        try {
+            otherRepository.save(newQueryElement("counted"));
+            assertThat(queryElementRepository.findByName("counted", PageRequest.of(0, 1)).getTotalElements(),
+                    is(1L));
+
+            otherRepository.save(newQueryElement("counted"));
+            assertThat(queryElementRepository.findByName("counted", PageRequest.of(0, 1)).getTotalElements(),
+                    is(2L));
+        } finally {
+            queryElementRepository.deleteAll();
+        }
+    }
+
     @Test
     public void should_find_list_of_sort() {
         prepareListData();
@@ -295,6 +371,36 @@ public class QueryRepositoryTest extends RepositoryTestBase {
         assertThat(l.size(), is(20));
     }
 
+    @Test
+    public void should_consume_stream_lazily() {
+        prepareListData();
+        try (Stream<QueryElement> s = queryElementRepository.findStreamByName("name")) {
+            List<QueryElement> l = s.limit(5).collect(Collectors.toList());
+            assertThat(l.size(), is(5));
+            assertThat(l.get(0).getName(), is("name"));
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_find_slices_by_keyset() {
+        // The records are committed, records of a open transaction have temporary record ids
+        prepareListData();
+        try {
+            Slice<QueryElement> first = queryElementRepository.findSliceByNameOrDescription("name", "none",
+                    KeysetPageable.of(15));
+            assertThat(first.getNumberOfElements(), is(15));
+            assertThat(first.hasNext(), is(true));
+
+            Slice<QueryElement> second = queryElementRepository.findSliceByNameOrDescription("name", "none",
+                    first.nextPageable());
+            assertThat(second.getNumberOfElements(), is(5));
+            assertThat(second.hasNext(), is(false));
+        } finally {
+            queryElementRepository.deleteAll();
+        }
+    }
+
     private void prepareListData() {
         queryElementRepository.saveAll(IntStream.range(0, 20).mapToObj(i -> {
             QueryElement q = new QueryElement();
@@ -304,6 +410,12 @@ public class QueryRepositoryTest extends RepositoryTestBase {
         }).collect(toList()));
     }
 
+    private QueryElement newQueryElement(final String name) {
+        QueryElement q = new QueryElement();
+        q.setName(name);
+        return q;
+    }
+
     private void prepareAndOr() {
         QueryElement tt = new QueryElement();
         tt.setName("tName");
@@ -476,7 +588,8 @@ public class QueryRepositoryTest extends RepositoryTestBase {
     static class config extends RepositoryTestConfig {
         @Bean("orientdbConfig")
         public IOrientdbConfig dbConfig() {
-            return orientdbConfig(DB_HOSTS);
+            // The total counts of paged queries are cached for a minute
+            return orientdbConfig(DB_HOSTS, 60000);
         }
     }
 }
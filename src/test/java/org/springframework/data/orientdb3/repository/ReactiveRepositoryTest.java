@@ -0,0 +1,98 @@
+package org.springframework.data.orientdb3.repository;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformationHolder;
+import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
+import org.springframework.data.orientdb3.repository.support.ReactiveOrientdbRepositoryFactory;
+import org.springframework.data.orientdb3.repository.support.StringIdParser;
+import org.springframework.data.orientdb3.support.IOrientdbConfig;
+import org.springframework.data.orientdb3.support.ReactiveOrientdbEntityManager;
+import org.springframework.data.orientdb3.test.sample.QueryElement;
+import org.springframework.data.orientdb3.test.sample.repository.ReactiveQueryElementRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+@ContextConfiguration(classes = ReactiveRepositoryTest.config.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReactiveRepositoryTest extends RepositoryTestBase {
+
+    private ReactiveQueryElementRepository repository;
+
+    @Before
+    public void setup() {
+        repository = new ReactiveOrientdbRepositoryFactory(new ReactiveOrientdbEntityManager(sessionFactory),
+                new OrientdbEntityInformationHolder(new OrientdbIdParserHolder(new StringIdParser())))
+                .getRepository(ReactiveQueryElementRepository.class);
+        repository.deleteAll().block();
+    }
+
+    @Test
+    public void should_save_and_find() {
+        QueryElement saved = repository.save(createElement("reactive")).block();
+
+        assertThat(repository.findById(saved.getId()).block().getName(), is("reactive"));
+        assertThat(repository.existsById(saved.getId()).block(), is(true));
+        assertThat(repository.count().block(), is(1L));
+
+        repository.delete(saved).block();
+        assertThat(repository.findById(saved.getId()).block(), nullValue());
+    }
+
+    @Test
+    public void should_emit_derived_query_results() {
+        repository.saveAll(Flux.fromIterable(IntStream.range(0, 10)
+                .mapToObj(i -> createElement(i % 2 == 0 ? "even" : "odd")).collect(toList())))
+                .then().block();
+
+        List<QueryElement> even = repository.findByName("even").collectList().block();
+        assertThat(even.size(), is(5));
+        assertThat(even.get(0).getName(), is("even"));
+        assertThat(repository.findFirstByName("odd").block().getName(), is("odd"));
+        assertThat(repository.countByName("odd").block(), is(5L));
+    }
+
+    @Test
+    public void should_emit_only_requested_elements() {
+        repository.saveAll(IntStream.range(0, 10).mapToObj(i -> createElement("many")).collect(toList()))
+                .then().block();
+
+        // The cancelled result closes its session, so the next queries can reuse the pooled session
+        for (int i = 0; i < 20; i++) {
+            assertThat(repository.findAll().take(3).collectList().block().size(), is(3));
+        }
+        assertThat(repository.findAll().count().block(), is(10L));
+    }
+
+    private QueryElement createElement(final String name) {
+        QueryElement element = new QueryElement();
+        element.setName(name);
+        return element;
+    }
+
+    private static final String DB_HOSTS = "plocal:orient-db/spring-data-reactive-test";
+
+    @BeforeClass
+    public static void initDB() {
+        RepositoryTestBase.initDb(DB_HOSTS);
+    }
+
+    static class config extends RepositoryTestConfig {
+        @Bean("orientdbConfig")
+        public IOrientdbConfig dbConfig() {
+            return orientdbConfig(DB_HOSTS);
+        }
+    }
+}
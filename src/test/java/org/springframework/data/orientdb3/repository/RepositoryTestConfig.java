@@ -15,6 +15,10 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 class RepositoryTestConfig {
 
     public IOrientdbConfig orientdbConfig(final String hosts) {
+        return orientdbConfig(hosts, 0);
+    }
+
+    public IOrientdbConfig orientdbConfig(final String hosts, final long countCacheTtl) {
         return new IOrientdbConfig() {
             @Override
             public String getHosts() {
@@ -60,6 +64,11 @@ class RepositoryTestConfig {
             public String getPassword() {
                 return "admin";
             }
+
+            @Override
+            public long getCountCacheTtl() {
+                return countCacheTtl;
+            }
         };
     }
 
@@ -0,0 +1,175 @@
+package org.springframework.data.orientdb3.repository;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
+import org.springframework.data.orientdb3.repository.support.OrientdbRepositoryFactory;
+import org.springframework.data.orientdb3.repository.support.StringIdParser;
+import org.springframework.data.orientdb3.support.IOrientdbConfig;
+import org.springframework.data.orientdb3.support.OrientdbEntityManager;
+import org.springframework.data.orientdb3.test.sample.CommandElement;
+import org.springframework.data.orientdb3.test.sample.repository.CommandElementRepository;
+import org.springframework.data.orientdb3.transaction.SessionScope;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+@ContextConfiguration(classes = SessionScopeRepositoryTest.config.class)
+public class SessionScopeRepositoryTest extends RepositoryTestBase {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CommandElementRepository commandElementRepository;
+    private SessionScope sessionScope;
+
+    @Before
+    public void setup() {
+        commandElementRepository = new OrientdbRepositoryFactory(new OrientdbEntityManager(sessionFactory),
+                new OrientdbIdParserHolder(new StringIdParser())).getRepository(CommandElementRepository.class);
+        sessionScope = new SessionScope(sessionFactory);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_keep_scoped_session_bound_after_transaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            sessionScope.run(() -> {
+                ODatabaseSession scoped = getSession();
+                transactionTemplate.execute(status -> {
+                    assertThat(getSession(), is(sameInstance(scoped)));
+                    return commandElementRepository.save(newElement("transactional"));
+                });
+
+                assertThat(getSession(), is(sameInstance(scoped)));
+                assertThat(scoped.isClosed(), is(false));
+                assertThat(commandElementRepository.findByName("transactional").isPresent(), is(true));
+                assertThat(countCommitted(scoped), is(1L));
+            });
+
+            assertThat(TransactionSynchronizationManager.hasResource(sessionFactory), is(false));
+            assertThat(commandElementRepository.count(), is(1L));
+        } finally {
+            commandElementRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void should_commit_bulk_save_in_scope() {
+        try {
+            sessionScope.run(() -> {
+                ODatabaseSession scoped = getSession();
+                commandElementRepository.saveAll(IntStream.range(0, 7).mapToObj(i -> newElement("name" + i))
+                        .collect(toList()));
+
+                assertThat(getSession(), is(sameInstance(scoped)));
+                assertThat(scoped.getTransaction().isActive(), is(false));
+                assertThat(countCommitted(scoped), is(7L));
+            });
+
+            assertThat(commandElementRepository.count(), is(7L));
+        } finally {
+            commandElementRepository.deleteAll();
+        }
+    }
+
+    /**
+     * Counts the records with a session of its own, which only sees committed records.
+     */
+    private long countCommitted(final ODatabaseSession scoped) {
+        try (ODatabaseSession other = sessionFactory.openSession()) {
+            return other.countClass("CommandElement");
+        } finally {
+            scoped.activateOnCurrentThread();
+        }
+    }
+
+    private CommandElement newElement(final String name) {
+        CommandElement element = new CommandElement();
+        element.setName(name);
+        element.setDescription("desc");
+        return element;
+    }
+
+    private static final String DB_HOSTS = "plocal:orient-db/spring-data-scope-test";
+
+    @BeforeClass
+    public static void initDB() {
+        RepositoryTestBase.initDb(DB_HOSTS);
+    }
+
+    static class config extends RepositoryTestConfig {
+        @Bean("orientdbConfig")
+        public IOrientdbConfig dbConfig() {
+            IOrientdbConfig orientdbConfig = orientdbConfig(DB_HOSTS);
+            return new IOrientdbConfig() {
+                @Override
+                public String getHosts() {
+                    return orientdbConfig.getHosts();
+                }
+
+                @Override
+                public String getDatabaseUsername() {
+                    return orientdbConfig.getDatabaseUsername();
+                }
+
+                @Override
+                public String getDatabasePassword() {
+                    return orientdbConfig.getDatabasePassword();
+                }
+
+                @Override
+                public String getDatabaseName() {
+                    return orientdbConfig.getDatabaseName();
+                }
+
+                @Override
+                public String getUsername() {
+                    return orientdbConfig.getUsername();
+                }
+
+                @Override
+                public String getPassword() {
+                    return orientdbConfig.getPassword();
+                }
+
+                @Override
+                public boolean getAutoGenerateSchema() {
+                    return true;
+                }
+
+                @Override
+                public String getEntityScanPackage() {
+                    return orientdbConfig.getEntityScanPackage();
+                }
+
+                @Override
+                public String getProjectionScanPackage() {
+                    return null;
+                }
+
+                @Override
+                public int getBatchSize() {
+                    // The bulk save commits after every 3 records
+                    return 3;
+                }
+            };
+        }
+    }
+}
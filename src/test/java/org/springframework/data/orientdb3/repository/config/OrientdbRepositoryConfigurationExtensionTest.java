@@ -55,4 +55,16 @@ public class OrientdbRepositoryConfigurationExtensionTest {
 
         assertThat(names, hasItems("orientdbIdParserHolder"));
     }
+
+    @Test
+    public void should_register_entityInformationHolder() {
+        DefaultListableBeanFactory factory = new DefaultListableBeanFactory();
+
+        RepositoryConfigurationExtension extension = new OrientdbRepositoryConfigurationExtension();
+        extension.registerBeansForRoot(factory, configSource);
+
+        Iterable<String> names = Arrays.asList(factory.getBeanDefinitionNames());
+
+        assertThat(names, hasItems("orientdbEntityInformationHolder"));
+    }
 }
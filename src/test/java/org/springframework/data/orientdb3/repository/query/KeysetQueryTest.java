@@ -0,0 +1,83 @@
+package org.springframework.data.orientdb3.repository.query;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb3.repository.KeysetPageable;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public class KeysetQueryTest {
+    @Mock
+    private OrientdbEntityInformation<Object, String> entityInformation;
+
+    @Test
+    public void should_order_by_rid_for_first_slice() {
+        KeysetQuery keysetQuery = new KeysetQuery(KeysetPageable.of(10), entityInformation);
+
+        assertThat(keysetQuery.getCondition(), is(nullValue()));
+        assertThat(keysetQuery.getOrderBy(), is(" order by @rid ASC"));
+        assertThat(keysetQuery.getLimit(), is(11));
+        assertThat(QueryUtils.createKeysetQuery(keysetQuery, "SimpleObject"),
+                is("select from SimpleObject order by @rid ASC limit 11"));
+    }
+
+    @Test
+    public void should_seek_after_continuation_key() {
+        ORecordId rid = new ORecordId(12, 3);
+        KeysetQuery keysetQuery = new KeysetQuery(KeysetPageable.of(5, Sort.by(Sort.Direction.DESC, "score"),
+                new Object[]{2.0, "#12:3"}), entityInformation);
+
+        assertThat(keysetQuery.getCondition(), is("((score < ? or score is null)) or (score = ? and @rid > ?)"));
+        assertThat(keysetQuery.getParameters(), is(Arrays.asList(2.0, 2.0, rid)));
+        assertThat(keysetQuery.getOrderBy(), is(" order by score DESC, @rid ASC"));
+    }
+
+    @Test
+    public void should_compare_null_values_of_continuation_key() {
+        ORecordId rid = new ORecordId(12, 3);
+        KeysetQuery ascending = new KeysetQuery(KeysetPageable.of(5, Sort.by("name"),
+                new Object[]{null, rid}), entityInformation);
+        KeysetQuery descending = new KeysetQuery(KeysetPageable.of(5, Sort.by(Sort.Direction.DESC, "name"),
+                new Object[]{null, rid}), entityInformation);
+
+        assertThat(ascending.getCondition(), is("(name is not null) or (name is null and @rid > ?)"));
+        assertThat(ascending.getParameters(), is(Arrays.asList(rid)));
+        assertThat(descending.getCondition(), is("(name is null and @rid > ?)"));
+        assertThat(descending.getParameters(), is(Arrays.asList(rid)));
+    }
+
+    @Test
+    public void should_select_null_values_after_descending_key() {
+        KeysetQuery keysetQuery = new KeysetQuery(KeysetPageable.of(5, Sort.by(Sort.Direction.DESC, "name"),
+                new Object[]{"b", "#12:3"}), entityInformation);
+
+        assertThat(keysetQuery.getCondition(), is("((name < ? or name is null)) or (name = ? and @rid > ?)"));
+    }
+
+    @Test
+    public void should_use_declared_query_as_sub_query() {
+        KeysetQuery keysetQuery = new KeysetQuery(KeysetPageable.of(5, Sort.unsorted(),
+                new Object[]{new ORecordId(12, 3)}), entityInformation);
+        StringQuery stringQuery = new StringQuery("select from SimpleObject where name = ?", null,
+                new Object[]{"name"});
+
+        assertThat(stringQuery.getSql(keysetQuery),
+                is("select from (select from SimpleObject where name = ?) where (@rid > ?) order by @rid ASC LIMIT ? "));
+        assertThat(Arrays.asList(stringQuery.getParameters()), is(Arrays.asList("name", new ORecordId(12, 3), 6)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_continuation_key_of_other_sort() {
+        new KeysetQuery(KeysetPageable.of(5, Sort.by("name"), new Object[]{"#12:3"}), entityInformation);
+    }
+}
@@ -0,0 +1,54 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import org.junit.Test;
+import org.springframework.data.orientdb3.test.sample.ElementObject;
+import org.springframework.data.orientdb3.test.sample.SimpleElement;
+
+import java.lang.reflect.Field;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MethodHandleFieldAccessorFactoryTest {
+
+    private final FieldAccessorFactory factory = new MethodHandleFieldAccessorFactory();
+
+    @Test
+    public void should_get_and_set_object_field() throws Exception {
+        FieldAccessor accessor = factory.getFieldAccessor(getField(SimpleElement.class, "value"));
+        SimpleElement element = new SimpleElement();
+
+        accessor.set(element, "value");
+
+        assertThat(element.getValue(), is("value"));
+        assertThat(accessor.get(element), is("value"));
+    }
+
+    @Test
+    public void should_get_and_set_primitive_field() throws Exception {
+        FieldAccessor accessor = factory.getFieldAccessor(getField(ElementObject.class, "length"));
+        ElementObject element = new ElementObject();
+
+        accessor.set(element, 5L);
+
+        assertThat(element.getLength(), is(5L));
+        assertThat(accessor.get(element), is(5L));
+    }
+
+    @Test
+    public void should_fall_back_to_reflection_for_static_field() throws Exception {
+        FieldAccessor accessor = factory.getFieldAccessor(getField(Constant.class, "NAME"));
+
+        assertThat(accessor.get(null), is("constant"));
+    }
+
+    private Field getField(final Class<?> clazz, final String name) throws NoSuchFieldException {
+        Field field = clazz.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+    static class Constant {
+        private static final String NAME = "constant";
+    }
+}
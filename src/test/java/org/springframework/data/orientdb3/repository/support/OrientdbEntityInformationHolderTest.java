@@ -0,0 +1,46 @@
+package org.springframework.data.orientdb3.repository.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.orientdb3.test.sample.ElementObject;
+import org.springframework.data.orientdb3.test.sample.SimpleElement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class OrientdbEntityInformationHolderTest {
+
+    private OrientdbEntityInformationHolder holder;
+
+    @Before
+    public void setup() {
+        holder = new OrientdbEntityInformationHolder(new OrientdbIdParserHolder(new StringIdParser()));
+    }
+
+    @Test
+    public void should_create_entity_information_once() {
+        OrientdbEntityInformation<SimpleElement, String> first = holder.getEntityInformation(SimpleElement.class);
+        OrientdbEntityInformation<SimpleElement, String> second = holder.getEntityInformation(SimpleElement.class);
+
+        assertThat(second, sameInstance(first));
+        assertThat(holder.size(), is(1));
+        assertThat(holder.getHitCount(), is(1L));
+        assertThat(holder.getMissCount(), is(1L));
+        assertThat(holder.getHitRate(), is(0.5));
+    }
+
+    @Test
+    public void should_hold_information_for_every_class() {
+        holder.getEntityInformation(SimpleElement.class);
+        holder.getEntityInformation(ElementObject.class);
+
+        assertThat(holder.size(), is(2));
+        assertThat(holder.getEntityInformation(ElementObject.class).getEntityName(), is("ElementObject"));
+    }
+
+    @Test
+    public void should_return_full_hit_rate_without_lookup() {
+        assertThat(holder.getHitRate(), is(1.0));
+    }
+}
@@ -5,14 +5,19 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.orientdb3.repository.KeysetPageable;
 import org.springframework.data.orientdb3.support.OrientdbEntityManager;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.verify;
@@ -59,6 +64,18 @@ public class SimpleOrientdbRepositoryTest {
         assertThat(find.getTotalPages(), is(4));
     }
 
+    @Test
+    public void should_find_all_with_keyset_page() {
+        when(entityInformation.getEntityName()).thenReturn("SimpleObject");
+        when(em.doQuery("select from SimpleObject order by @rid ASC limit 6", new Object[0], entityInformation))
+                .thenReturn(Collections.emptyList());
+
+        Page<Object> find = repository.findAll((Pageable) KeysetPageable.of(5));
+
+        assertThat(find.getContent().isEmpty(), is(true));
+        assertThat(find.getPageable().next(), is(PageRequest.of(1, 5, Sort.by("@rid"))));
+    }
+
     @Test
     public void should_save_entity() {
         repository.save("object");
@@ -71,12 +88,35 @@ public class SimpleOrientdbRepositoryTest {
         verify(em).persist("object", "cluster", entityInformation);
     }
 
+    @Test
+    public void should_save_all_in_one_call() {
+        List<Object> list = Arrays.asList("object1", "object2");
+        repository.saveAll(list);
+        verify(em).persistAll(list, null, entityInformation);
+    }
+
+    @Test
+    public void should_save_all_in_particular_cluster() {
+        List<Object> list = Arrays.asList("object1", "object2");
+        repository.saveAll(list, "cluster");
+        verify(em).persistAll(list, "cluster", entityInformation);
+    }
+
     @Test
     public void should_find_by_id() {
         when(em.find("id", entityInformation)).thenReturn(new Object());
         assertThat(repository.findById("id").isPresent(), is(true));
     }
 
+    @Test
+    public void should_find_all_by_id_in_one_call() {
+        List<String> ids = Arrays.asList("id1", "id2");
+        List<Object> list = Arrays.asList("object1", "object2");
+        when(em.findAllById(ids, entityInformation)).thenReturn(list);
+
+        assertThat(repository.findAllById(ids), is(list));
+    }
+
     @Test
     public void should_count() {
         when(em.count(entityInformation)).thenReturn(20L);
@@ -85,11 +125,26 @@ public class SimpleOrientdbRepositoryTest {
 
     @Test
     public void should_delete_by_id() {
-        Object obj = new Object();
-        when(em.find("id", entityInformation)).thenReturn(obj);
+        when(em.removeAllById(singletonList("id"), entityInformation)).thenReturn(1L);
+
+        repository.deleteById("id");
+
+        verify(em).removeAllById(singletonList("id"), entityInformation);
+    }
+
+    @Test(expected = EmptyResultDataAccessException.class)
+    public void should_fail_to_delete_a_missing_id() {
+        when(em.removeAllById(singletonList("id"), entityInformation)).thenReturn(0L);
 
         repository.deleteById("id");
+    }
+
+    @Test
+    public void should_delete_all_by_id_in_one_call() {
+        List<String> ids = Arrays.asList("id1", "id2");
+
+        repository.deleteAllById(ids);
 
-        verify(em).remove(obj);
+        verify(em).removeAllById(ids, entityInformation);
     }
 }
@@ -0,0 +1,159 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class EntityCacheTest {
+
+    private OrientDB orientDB;
+    private EntityCache entityCache;
+    private ORID rid;
+
+    @Before
+    public void setup() {
+        orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+        orientDB.create("entity_cache_test", ODatabaseType.MEMORY);
+        entityCache = new EntityCache(10, 0);
+        try (ODatabaseSession session = openSession()) {
+            session.createClass("Tenant");
+            OElement tenant = session.newElement("Tenant");
+            tenant.setProperty("name", "acme");
+            rid = tenant.save().getIdentity();
+        }
+    }
+
+    @After
+    public void destroy() {
+        orientDB.drop("entity_cache_test");
+        orientDB.close();
+    }
+
+    @Test
+    public void should_share_loaded_records_between_sessions() {
+        OElement loaded;
+        try (ODatabaseSession session = openSession()) {
+            loaded = entityCache.load(session, rid, "Tenant");
+        }
+        try (ODatabaseSession session = openSession()) {
+            OElement cached = entityCache.load(session, rid, "Tenant");
+
+            assertThat(cached, is(not(sameInstance(loaded))));
+            assertThat(cached.getProperty("name"), is("acme"));
+            assertThat(cached.getVersion(), is(loaded.getVersion()));
+        }
+        assertThat(entityCache.getMissCount(), is(1L));
+        assertThat(entityCache.getHitCount(), is(1L));
+        assertThat(entityCache.size(), is(1));
+    }
+
+    @Test
+    public void should_not_cache_records_loaded_before_an_eviction() {
+        try (ODatabaseSession session = openSession()) {
+            assertThat(entityCache.get(session, rid, "Tenant") == null, is(true));
+            long loadGeneration = entityCache.getGeneration();
+            OElement loaded = session.load(rid);
+            entityCache.evict(Collections.singletonList(rid));
+            entityCache.put(session, loaded, loadGeneration);
+        }
+        assertThat(entityCache.size(), is(0));
+    }
+
+    @Test
+    public void should_evict_records_changed_by_committed_transactions() {
+        try (ODatabaseSession session = openSession()) {
+            entityCache.load(session, rid, "Tenant");
+        }
+        try (ODatabaseSession session = openSession()) {
+            session.registerListener(new SessionListener(entityCache));
+            session.begin();
+            OElement tenant = session.load(rid);
+            tenant.setProperty("name", "changed");
+            tenant.save();
+            assertThat(entityCache.size(), is(1));
+            session.commit();
+        }
+        assertThat(entityCache.size(), is(0));
+        try (ODatabaseSession session = openSession()) {
+            assertThat(entityCache.load(session, rid, "Tenant").getProperty("name"), is("changed"));
+        }
+    }
+
+    @Test
+    public void should_not_replace_a_newer_version() {
+        OElement stale;
+        try (ODatabaseSession session = openSession()) {
+            long loadGeneration = entityCache.getGeneration();
+            stale = session.load(rid);
+            entityCache.get(session, rid, "Tenant");
+            entityCache.put(session, stale, loadGeneration);
+        }
+        try (ODatabaseSession session = openSession()) {
+            OElement tenant = session.load(rid);
+            tenant.setProperty("name", "changed");
+            tenant.save();
+        }
+        try (ODatabaseSession session = openSession()) {
+            long loadGeneration = entityCache.getGeneration();
+            entityCache.put(session, session.load(rid), loadGeneration);
+            entityCache.put(session, stale, loadGeneration);
+        }
+        try (ODatabaseSession session = openSession()) {
+            OElement cached = entityCache.get(session, rid, "Tenant");
+
+            assertThat(cached.getProperty("name"), is("changed"));
+            assertThat(cached.getVersion(), is(stale.getVersion() + 1));
+        }
+    }
+
+    @Test
+    public void should_read_cached_record_concurrently() throws Exception {
+        try (ODatabaseSession session = openSession()) {
+            entityCache.load(session, rid, "Tenant");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> names = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                names.add(executor.submit(() -> {
+                    String name = null;
+                    try (ODatabaseSession session = openSession()) {
+                        for (int j = 0; j < 100; j++) {
+                            name = entityCache.get(session, rid, "Tenant").getProperty("name");
+                            session.getLocalCache().clear();
+                        }
+                    }
+                    return name;
+                }));
+            }
+            for (Future<String> name : names) {
+                assertThat(name.get(), is("acme"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(entityCache.getHitCount(), is(400L));
+    }
+
+    private ODatabaseSession openSession() {
+        return orientDB.open("entity_cache_test", "admin", "admin");
+    }
+}
@@ -0,0 +1,54 @@
+package org.springframework.data.orientdb3.support;
+
+import org.junit.Test;
+import org.springframework.data.orientdb3.repository.ElementEntity;
+import org.springframework.data.orientdb3.repository.QueryResult;
+import org.springframework.data.orientdb3.repository.VertexEntity;
+import org.springframework.data.orientdb3.test.sample.ElementObject;
+import org.springframework.data.orientdb3.test.sample.ProjectionObject;
+import org.springframework.data.orientdb3.test.sample.VertexObject;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class EntityClassScannerTest {
+
+    private static final String SAMPLE_PACKAGE = "org.springframework.data.orientdb3.test.sample";
+
+    @Test
+    public void should_read_the_entity_classes_from_the_components_index() {
+        List<Class<?>> classes = new EntityClassScanner(ElementEntity.class, VertexEntity.class).scan(SAMPLE_PACKAGE);
+
+        assertThat(classes, hasItems(ElementObject.class, VertexObject.class));
+        assertThat(classes, not(hasItem(ProjectionObject.class)));
+    }
+
+    @Test
+    public void should_scan_the_classpath_without_a_components_index() {
+        ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                return "META-INF/spring.components".equals(name) ? Collections.emptyEnumeration()
+                        : super.getResources(name);
+            }
+        };
+
+        List<Class<?>> scanned = new EntityClassScanner(classLoader, ElementEntity.class, VertexEntity.class)
+                .scan(SAMPLE_PACKAGE);
+        List<Class<?>> indexed = new EntityClassScanner(ElementEntity.class, VertexEntity.class)
+                .scan(SAMPLE_PACKAGE);
+
+        assertThat(scanned, is(indexed));
+        assertThat(new EntityClassScanner(classLoader, QueryResult.class).scan(SAMPLE_PACKAGE),
+                hasItems(ProjectionObject.class));
+    }
+}
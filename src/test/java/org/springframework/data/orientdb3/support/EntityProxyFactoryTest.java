@@ -0,0 +1,73 @@
+package org.springframework.data.orientdb3.support;
+
+import org.junit.Test;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformationHolder;
+import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
+import org.springframework.data.orientdb3.repository.support.StringIdParser;
+import org.springframework.data.orientdb3.test.sample.QueryElement;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class EntityProxyFactoryTest {
+
+    @Test
+    public void should_generate_proxy_class_once() {
+        EntityProxyFactory factory = EntityProxyFactory.getFactory(Sample.class);
+        Object first = factory.newInstance(intercept("first"));
+        Object second = EntityProxyFactory.getFactory(Sample.class).newInstance(intercept("second"));
+
+        assertThat(EntityProxyFactory.getFactory(Sample.class), sameInstance(factory));
+        assertThat(first.getClass(), sameInstance(second.getClass()));
+        assertThat(first, not(sameInstance(second)));
+        assertThat(first instanceof EntityProxyInterface, is(true));
+    }
+
+    @Test
+    public void should_bind_interceptor_per_instance() {
+        EntityProxyFactory factory = EntityProxyFactory.getFactory(Sample.class);
+        Sample first = (Sample) factory.newInstance(intercept("first"));
+        Sample second = (Sample) factory.newInstance(intercept("second"));
+
+        assertThat(first.getName(), is("first"));
+        assertThat(second.getName(), is("second"));
+    }
+
+    @Test
+    public void should_resolve_proxy_methods_once_per_entity_information() throws Exception {
+        OrientdbEntityInformation<QueryElement, String> first = newHolder().getEntityInformation(QueryElement.class);
+        OrientdbEntityInformation<QueryElement, String> second = newHolder().getEntityInformation(QueryElement.class);
+        EntityProxyFactory factory = EntityProxyFactory.getFactory(QueryElement.class);
+        Method getName = QueryElement.class.getMethod("getName");
+
+        ProxyMethod firstMethod = factory.getProxyMethod(getName, first);
+        ProxyMethod secondMethod = factory.getProxyMethod(getName, second);
+
+        assertThat(firstMethod.getEntityInformation(), sameInstance(first));
+        assertThat(secondMethod.getEntityInformation(), sameInstance(second));
+        assertThat(factory.getProxyMethod(getName, first), sameInstance(firstMethod));
+        assertThat(factory.getProxyMethod(getName, second), sameInstance(secondMethod));
+    }
+
+    private OrientdbEntityInformationHolder newHolder() {
+        return new OrientdbEntityInformationHolder(new OrientdbIdParserHolder(new StringIdParser()));
+    }
+
+    private MethodInterceptor intercept(final String name) {
+        return (o, method, objects, methodProxy) -> method.getName().equals("getName") ? name : null;
+    }
+
+    public static class Sample {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+}
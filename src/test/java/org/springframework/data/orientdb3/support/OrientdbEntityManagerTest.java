@@ -4,12 +4,16 @@ import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.iterator.ORecordIteratorClass;
 import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +21,7 @@ import java.util.List;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -92,4 +97,69 @@ public class OrientdbEntityManagerTest {
 
         assertThat(entityManager.count(entityInformation), is(20L));
     }
+
+    @Test
+    public void should_cache_count_query() {
+        OResultSet resultSet = mock(OResultSet.class);
+        OResult result = mock(OResult.class);
+        when(sessionFactory.getCountCache()).thenReturn(new CountCache(60000L));
+        when(session.query("select count(*) as count from Cached where name = ?", "name")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(result);
+        when(result.getProperty("count")).thenReturn(5L);
+
+        String sql = "select count(*) as count from Cached where name = ?";
+        assertThat(entityManager.doQueryCountCached(sql, new Object[]{"name"}), is(5L));
+        assertThat(entityManager.doQueryCountCached(sql, new Object[]{"name", Pageable.unpaged()}), is(5L));
+
+        verify(session, times(1)).query(sql, "name");
+    }
+
+    @Test
+    public void should_not_cache_plain_count_query() {
+        String sql = "select count(*) as count from Cached where name = ?";
+        mockCount(sql, 5L);
+
+        entityManager.doQueryCount(sql, new Object[]{"name"});
+        entityManager.doQueryCount(sql, new Object[]{"name"});
+
+        verify(session, times(2)).query(sql, "name");
+    }
+
+    @Test
+    public void should_clear_cached_count_after_command() {
+        String sql = "select count(*) as count from Cached where name = ?";
+        when(sessionFactory.getCountCache()).thenReturn(new CountCache(60000L));
+        mockCount(sql, 5L);
+
+        entityManager.doQueryCountCached(sql, new Object[]{"name"});
+        entityManager.doCommand("delete from Cached", new Object[0]);
+        entityManager.doQueryCountCached(sql, new Object[]{"name"});
+
+        verify(session, times(2)).query(sql, "name");
+    }
+
+    @Test
+    public void should_bypass_count_cache_in_transaction() {
+        String sql = "select count(*) as count from Cached where name = ?";
+        when(sessionFactory.getCountCache()).thenReturn(new CountCache(60000L));
+        mockCount(sql, 5L);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            entityManager.doQueryCountCached(sql, new Object[]{"name"});
+            entityManager.doQueryCountCached(sql, new Object[]{"name"});
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(session, times(2)).query(sql, "name");
+    }
+
+    private void mockCount(final String sql, final long count) {
+        OResultSet resultSet = mock(OResultSet.class);
+        OResult result = mock(OResult.class);
+        when(session.query(sql, "name")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(result);
+        when(result.getProperty("count")).thenReturn(count);
+    }
 }
@@ -0,0 +1,93 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.record.OElement;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PropertySnapshotTest {
+
+    @Test
+    public void should_detect_changed_values() {
+        Date date = new Date(1000);
+        Object snapshot = PropertySnapshot.of(date, false);
+        assertThat(PropertySnapshot.isChanged(PropertySnapshot.of("name", false), "name"), is(false));
+        assertThat(PropertySnapshot.isChanged(PropertySnapshot.of("name", false), "other"), is(true));
+        assertThat(PropertySnapshot.isChanged(PropertySnapshot.of(null, false), null), is(false));
+
+        date.setTime(2000);
+        assertThat(PropertySnapshot.isChanged(snapshot, date), is(true));
+    }
+
+    @Test
+    public void should_detect_collections_changed_in_place() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        Map<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+        Object listSnapshot = PropertySnapshot.of(list, false);
+        Object mapSnapshot = PropertySnapshot.of(map, false);
+        assertThat(PropertySnapshot.isChanged(listSnapshot, list), is(false));
+        assertThat(PropertySnapshot.isChanged(mapSnapshot, map), is(false));
+
+        list.add("c");
+        map.put("a", 2);
+        assertThat(PropertySnapshot.isChanged(listSnapshot, list), is(true));
+        assertThat(PropertySnapshot.isChanged(mapSnapshot, map), is(true));
+    }
+
+    @Test
+    public void should_compare_referenced_entities_by_identity() {
+        EntityProxyInterface first = new TestEntity();
+        EntityProxyInterface second = new TestEntity();
+        Set<EntityProxyInterface> links = new HashSet<>(Arrays.asList(first, second));
+        Object snapshot = PropertySnapshot.of(links, true);
+        assertThat(PropertySnapshot.isChanged(snapshot, new HashSet<>(Arrays.asList(second, first))), is(false));
+
+        links.remove(second);
+        links.add(new TestEntity());
+        assertThat(PropertySnapshot.isChanged(snapshot, links), is(true));
+    }
+
+    @Test
+    public void should_always_consider_embedded_entities_changed() {
+        EntityProxyInterface embedded = new TestEntity();
+        assertThat(PropertySnapshot.isChanged(PropertySnapshot.of(embedded, false), embedded), is(true));
+        assertThat(PropertySnapshot.isChanged(PropertySnapshot.of(new StringBuilder(), false), null), is(true));
+    }
+
+    private static class TestEntity implements EntityProxyInterface {
+
+        @Override
+        public OElement saveOElement(final ODatabaseSession session, final String cluster) {
+            return null;
+        }
+
+        @Override
+        public OElement findOElement() {
+            return null;
+        }
+
+        @Override
+        public void deleteOElement() {
+        }
+
+        @Override
+        public void loadStable() {
+        }
+
+        @Override
+        public void loadId() {
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.springframework.data.orientdb3.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformation;
+import org.springframework.data.orientdb3.repository.support.OrientdbEntityInformationHolder;
+import org.springframework.data.orientdb3.repository.support.OrientdbIdParserHolder;
+import org.springframework.data.orientdb3.repository.support.StringIdParser;
+import org.springframework.data.orientdb3.test.sample.QueryElement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ProxyMethodTest {
+
+    private OrientdbEntityInformation<QueryElement, String> info;
+
+    @Before
+    public void setup() {
+        info = new OrientdbEntityInformationHolder(new OrientdbIdParserHolder(new StringIdParser()))
+                .getEntityInformation(QueryElement.class);
+    }
+
+    @Test
+    public void should_resolve_getters_and_setters() throws Exception {
+        ProxyMethod getter = ProxyMethod.resolve(QueryElement.class.getMethod("getName"), info);
+        ProxyMethod setter = ProxyMethod.resolve(QueryElement.class.getMethod("setName", String.class), info);
+        ProxyMethod idGetter = ProxyMethod.resolve(QueryElement.class.getMethod("getId"), info);
+
+        assertThat(getter.getKind(), is(ProxyMethod.Kind.GETTER));
+        assertThat(getter.getFieldName(), is("name"));
+        assertThat(getter.getPropertyHandler(), sameInstance(info.getPropertyHandler("name")));
+        assertThat(setter.getKind(), is(ProxyMethod.Kind.SETTER));
+        assertThat(idGetter.getKind(), is(ProxyMethod.Kind.ID_GETTER));
+        assertThat(idGetter.getPropertyHandler(), nullValue());
+    }
+
+    @Test
+    public void should_resolve_internal_and_passthrough_methods() throws Exception {
+        assertThat(ProxyMethod.resolve(EntityProxyInterface.class.getMethod("findOElement"), info).getKind(),
+                is(ProxyMethod.Kind.FIND_OELEMENT));
+        assertThat(ProxyMethod.resolve(EntityProxyInterface.class.getMethod("loadStable"), info).getKind(),
+                is(ProxyMethod.Kind.LOAD_STABLE));
+        assertThat(ProxyMethod.resolve(Object.class.getMethod("toString"), info).getKind(),
+                is(ProxyMethod.Kind.PASSTHROUGH));
+    }
+}
@@ -0,0 +1,125 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import org.junit.Test;
+import org.springframework.data.orientdb3.repository.QueryResult;
+import org.springframework.data.orientdb3.repository.support.FieldAccessorFactory;
+import org.springframework.data.orientdb3.repository.support.ReflectionFieldAccessorFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class QueryResultMapperTest {
+
+    private final QueryResultMappers mappers = new QueryResultMappers(new ReflectionFieldAccessorFactory());
+
+    @Test
+    public void should_build_the_plan_once_per_class() {
+        assertThat(mappers.getMapper(FieldResult.class),
+                sameInstance(mappers.getMapper(FieldResult.class)));
+        assertThat(mappers.getMapper(FieldResult.class).isQueryResult(), is(true));
+        assertThat(mappers.getMapper(NestedResult.class).isQueryResult(), is(false));
+        assertThat(mappers.size(), is(2));
+    }
+
+    @Test
+    public void should_access_fields_with_the_given_factory() {
+        List<String> accessed = new ArrayList<>();
+        FieldAccessorFactory reflection = new ReflectionFieldAccessorFactory();
+        QueryResultMappers recording = new QueryResultMappers(field -> {
+            accessed.add(field.getName());
+            return reflection.getFieldAccessor(field);
+        });
+        assertThat(recording.size(), is(0));
+
+        NestedResult result = recording.getMapper(NestedResult.class)
+                .map(Collections.singletonMap("name", "name")::get);
+
+        assertThat(result.name, is("name"));
+        assertThat(accessed, is(Collections.singletonList("name")));
+        assertThat(recording.size(), is(1));
+        // The mappers are not shared between holders
+        assertThat(mappers.size(), is(0));
+    }
+
+    @Test
+    public void should_map_fields_collections_and_nested_results() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("count", 3);
+        properties.put("names", Arrays.asList("a", "b"));
+        properties.put("scores", new HashSet<>(Arrays.asList(1, 2)));
+        properties.put("nested", nested("first"));
+        properties.put("nestedList", Arrays.asList(nested("second"), nested("third")));
+        properties.put("nestedMap", Collections.singletonMap("key", nested("fourth")));
+
+        FieldResult result = mappers.getMapper(FieldResult.class).map(properties::get);
+
+        assertThat(result.count, is(3L));
+        assertThat(result.names, is(Arrays.asList("a", "b")));
+        assertThat(result.scores, is(new HashSet<>(Arrays.asList(1L, 2L))));
+        assertThat(result.nested.name, is("first"));
+        assertThat(result.nestedList.get(1).name, is("third"));
+        assertThat(result.nestedMap.get("key").name, is("fourth"));
+        assertThat(result.missing, nullValue());
+    }
+
+    @Test
+    public void should_bind_the_constructor_parameters_by_name() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "name");
+        properties.put("size", 5);
+        properties.put("description", "description");
+
+        ConstructorResult result = mappers.getMapper(ConstructorResult.class).map(properties::get);
+
+        assertThat(result.name, is("name"));
+        assertThat(result.size, is(5L));
+        assertThat(result.description, is("description"));
+    }
+
+    private static OResultInternal nested(final String name) {
+        OResultInternal nested = new OResultInternal();
+        nested.setProperty("name", name);
+        return nested;
+    }
+
+    @QueryResult
+    static class FieldResult {
+        private static final long serialVersionUID = 1L;
+
+        private Long count;
+        private List<String> names;
+        private Set<Long> scores;
+        private NestedResult nested;
+        private List<NestedResult> nestedList;
+        private Map<String, NestedResult> nestedMap;
+        private String missing = "default";
+    }
+
+    static class NestedResult {
+        private String name;
+    }
+
+    @QueryResult
+    static class ConstructorResult {
+        private final String name;
+        private final long size;
+        private String description;
+
+        ConstructorResult(final String name, final long size) {
+            this.name = name;
+            this.size = size;
+        }
+    }
+}
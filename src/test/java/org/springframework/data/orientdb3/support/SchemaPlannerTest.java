@@ -0,0 +1,197 @@
+package org.springframework.data.orientdb3.support;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.orientdb3.repository.ElementEntity;
+import org.springframework.data.orientdb3.repository.EntityProperty;
+import org.springframework.data.orientdb3.repository.Index;
+import org.springframework.data.orientdb3.test.sample.ElementObject;
+import org.springframework.data.orientdb3.test.sample.SimpleElement;
+import org.springframework.data.orientdb3.test.sample.VertexObject;
+import org.springframework.data.orientdb3.test.sample.VertexSource;
+import org.springframework.data.orientdb3.test.sample.VertexTarget;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class SchemaPlannerTest {
+
+    private static final List<Class<?>> ENTITIES = Arrays.asList(ElementObject.class, SimpleElement.class,
+            VertexObject.class, VertexSource.class, VertexTarget.class);
+
+    private OrientDB orientDB;
+
+    @Before
+    public void setup() {
+        orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+        orientDB.create("schema_planner_test", ODatabaseType.MEMORY);
+    }
+
+    @After
+    public void destroy() {
+        orientDB.drop("schema_planner_test");
+        orientDB.close();
+    }
+
+    @Test
+    public void should_plan_nothing_for_a_generated_schema() {
+        try (ODatabaseSession session = openSession()) {
+            SchemaPlan plan = new SchemaPlanner(session).plan(ENTITIES);
+            assertThat(descriptions(plan.getSchemaChanges()), hasItems("create class ElementObject",
+                    "create class VertexObject extends V", "create edge class TestOutgoing",
+                    "create property ElementObject.size LONG (min 1, max 10)",
+                    "create property ElementObject.elementList LINKLIST"));
+            assertThat(descriptions(plan.getIndexChanges()), hasItem(
+                    "create index ElementObject.type on ElementObject (type) FULLTEXT"));
+
+            plan.applySchemaChanges(session);
+            plan.applyIndexChanges(session);
+            assertThat(plan.getAppliedIndexChangeCount(), is(plan.getIndexChanges().size()));
+        }
+        try (ODatabaseSession session = openSession()) {
+            assertThat(new SchemaPlanner(session).plan(ENTITIES).isEmpty(), is(true));
+        }
+    }
+
+    @Test
+    public void should_plan_the_missing_properties_of_a_existing_class() {
+        try (ODatabaseSession session = openSession()) {
+            OClass elementObject = session.createClass("ElementObject");
+            elementObject.createProperty("type", OType.STRING);
+            elementObject.createProperty("size", OType.LONG).setMin("1");
+            elementObject.createProperty("names", OType.STRING);
+        }
+        try (ODatabaseSession session = openSession()) {
+            List<String> changes = descriptions(new SchemaPlanner(session).plan(ENTITIES).getSchemaChanges());
+
+            assertThat(changes, not(hasItem("create class ElementObject")));
+            assertThat(changes, hasItems("set ElementObject.size max 10", "create property ElementObject.sets "
+                    + "EMBEDDEDSET"));
+            assertThat(changes.stream().anyMatch(c -> c.contains("ElementObject.type")), is(false));
+            // A property of a different type is not changed
+            assertThat(changes.stream().anyMatch(c -> c.contains("ElementObject.names")), is(false));
+        }
+    }
+
+    @Test
+    public void should_plan_unique_indexes_with_the_schema() {
+        try (ODatabaseSession session = openSession()) {
+            SchemaPlan plan = new SchemaPlanner(session).plan(Collections.singletonList(UniqueElement.class));
+
+            assertThat(descriptions(plan.getSchemaChanges()), hasItems("create index UniqueElement.code UNIQUE",
+                    "create index UniqueElement.name on UniqueElement (name) UNIQUE"));
+            assertThat(descriptions(plan.getIndexChanges()), is(Collections.singletonList(
+                    "create index UniqueElement.type on UniqueElement (type) NOTUNIQUE")));
+
+            plan.applySchemaChanges(session);
+            assertThat(session.getMetadata().getIndexManager().existsIndex("UniqueElement.code"), is(true));
+            assertThat(session.getMetadata().getIndexManager().existsIndex("UniqueElement.name"), is(true));
+        }
+    }
+
+    @Test
+    public void should_build_the_indexes_in_the_background() throws Exception {
+        SessionFactory sessionFactory = new SessionFactory(new IOrientdbConfig() {
+            @Override
+            public String getHosts() {
+                return "memory:";
+            }
+
+            @Override
+            public String getDatabaseUsername() {
+                return null;
+            }
+
+            @Override
+            public String getDatabasePassword() {
+                return null;
+            }
+
+            @Override
+            public String getDatabaseName() {
+                return "schema_planner_background_test";
+            }
+
+            @Override
+            public ODatabaseType getCreateDatabaseType() {
+                return ODatabaseType.MEMORY;
+            }
+
+            @Override
+            public String getUsername() {
+                return "admin";
+            }
+
+            @Override
+            public String getPassword() {
+                return "admin";
+            }
+
+            @Override
+            public boolean getAutoGenerateSchema() {
+                return true;
+            }
+
+            @Override
+            public boolean getBackgroundIndexBuild() {
+                return true;
+            }
+
+            @Override
+            public String getEntityScanPackage() {
+                return "org.springframework.data.orientdb3.test.sample";
+            }
+
+            @Override
+            public String getProjectionScanPackage() {
+                return null;
+            }
+        });
+        try {
+            sessionFactory.getIndexBuild().get(30, TimeUnit.SECONDS);
+
+            SchemaPlan plan = sessionFactory.getSchemaPlan();
+            assertThat(plan.getIndexChanges().isEmpty(), is(false));
+            assertThat(plan.getAppliedIndexChangeCount(), is(plan.getIndexChanges().size()));
+            try (ODatabaseSession session = sessionFactory.openSession()) {
+                assertThat(session.getMetadata().getIndexManager().existsIndex("ElementObject.lengthAndType"),
+                        is(true));
+            }
+        } finally {
+            sessionFactory.destroy();
+        }
+    }
+
+    @ElementEntity(indexes = {@Index(name = "UniqueElement.name", columnList = "name"),
+            @Index(name = "UniqueElement.type", columnList = "type", type = Index.NOTUNIQUE)})
+    static class UniqueElement {
+        @EntityProperty(unique = true)
+        private String code;
+        private String name;
+        private String type;
+    }
+
+    private ODatabaseSession openSession() {
+        return orientDB.open("schema_planner_test", "admin", "admin");
+    }
+
+    private static List<String> descriptions(final List<SchemaChange> changes) {
+        return changes.stream().map(SchemaChange::getDescription).collect(toList());
+    }
+}
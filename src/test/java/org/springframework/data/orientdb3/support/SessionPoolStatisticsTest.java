@@ -0,0 +1,40 @@
+package org.springframework.data.orientdb3.support;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SessionPoolStatisticsTest {
+
+    @Test
+    public void should_record_acquired_and_released_sessions() {
+        SessionPoolStatistics statistics = new SessionPoolStatistics(3);
+
+        statistics.acquired(TimeUnit.MILLISECONDS.toNanos(2));
+        statistics.acquired(TimeUnit.MILLISECONDS.toNanos(5));
+        statistics.released();
+
+        assertThat(statistics.getActiveSessions(), is(1));
+        assertThat(statistics.getAvailableSessions(), is(2));
+        assertThat(statistics.getPeakActiveSessions(), is(2L));
+        assertThat(statistics.getAcquireCount(), is(2L));
+        assertThat(statistics.getTotalAcquireTime(TimeUnit.MILLISECONDS), is(7L));
+        assertThat(statistics.getMaxAcquireTime(TimeUnit.MILLISECONDS), is(5L));
+    }
+
+    @Test
+    public void should_record_acquire_timeouts() {
+        SessionPoolStatistics statistics = new SessionPoolStatistics(1);
+
+        statistics.acquired(0);
+        statistics.acquireTimedOut(TimeUnit.MILLISECONDS.toNanos(30));
+
+        assertThat(statistics.getActiveSessions(), is(1));
+        assertThat(statistics.getAvailableSessions(), is(0));
+        assertThat(statistics.getAcquireTimeoutCount(), is(1L));
+        assertThat(statistics.getMaxAcquireTime(TimeUnit.MILLISECONDS), is(30L));
+    }
+}
@@ -9,6 +9,8 @@ public class CommandElement {
     private String id;
     private String name;
     private String description;
+    private long priority;
+    private String createdBy;
 
     public String getId() {
         return id;
@@ -33,4 +35,20 @@ public class CommandElement {
     public void setDescription(final String description) {
         this.description = description;
     }
+
+    public long getPriority() {
+        return priority;
+    }
+
+    public void setPriority(final long priority) {
+        this.priority = priority;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(final String createdBy) {
+        this.createdBy = createdBy;
+    }
 }
@@ -5,6 +5,7 @@ import org.springframework.data.orientdb3.repository.OrientdbRepository;
 import org.springframework.data.orientdb3.repository.Query;
 import org.springframework.data.orientdb3.test.sample.CommandElement;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface CommandElementRepository extends OrientdbRepository<CommandElement, String> {
@@ -18,4 +19,15 @@ public interface CommandElementRepository extends OrientdbRepository<CommandElem
     void deleteByName(String name);
 
     Optional<CommandElement> findByName(String s);
+
+    long deleteByDescriptionIn(Collection<String> descriptions);
+
+    void deleteByNameStartingWith(String prefix);
+
+    long updateDescriptionByNameIn(String description, Collection<String> names);
+
+    int updateDescriptionAndPriorityByNameStartingWithAndPriorityLessThan(String description, long priority,
+                                                                          String prefix, long maxPriority);
+
+    long updateCreatedByByName(String createdBy, String name);
 }
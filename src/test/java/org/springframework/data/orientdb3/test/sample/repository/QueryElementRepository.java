@@ -2,14 +2,18 @@ package org.springframework.data.orientdb3.test.sample.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.orientdb3.repository.OrientdbRepository;
+import org.springframework.data.orientdb3.repository.Query;
 import org.springframework.data.orientdb3.test.sample.QueryElement;
 
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 public interface QueryElementRepository extends OrientdbRepository<QueryElement, String> {
@@ -52,6 +56,8 @@ public interface QueryElementRepository extends OrientdbRepository<QueryElement,
 
     List<QueryElement> findByScoreLessThanEqual(double score);
 
+    List<QueryElement> findByScoreGreaterThanOrderByScoreDesc(double score);
+
     List<QueryElement> findByNameLike(String name);
 
     List<QueryElement> findByNameNotLike(String name);
@@ -68,9 +74,24 @@ public interface QueryElementRepository extends OrientdbRepository<QueryElement,
 
     Page<QueryElement> findByName(String name, Pageable page);
 
+    Slice<QueryElement> findSliceByNameOrDescription(String name, String description, Pageable page);
+
+    @Query("select from QueryElement where name = ?")
+    Slice<QueryElement> findDeclaredSliceByName(String name, Pageable page);
+
     List<QueryElement> findSortByName(String name, Sort sort);
 
     Iterable<QueryElement> findIterableByName(String name);
 
     Stream<QueryElement> findStreamByName(String name);
+
+    boolean existsByName(String name);
+
+    long countByName(String name);
+
+    CompletableFuture<List<QueryElement>> findAsyncByName(String name);
+
+    CompletableFuture<Optional<QueryElement>> findAsyncOptionByName(String name);
+
+    Future<Long> countAsyncByName(String name);
 }
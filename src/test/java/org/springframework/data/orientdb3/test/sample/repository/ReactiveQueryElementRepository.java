@@ -0,0 +1,15 @@
+package org.springframework.data.orientdb3.test.sample.repository;
+
+import org.springframework.data.orientdb3.repository.ReactiveOrientdbRepository;
+import org.springframework.data.orientdb3.test.sample.QueryElement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveQueryElementRepository extends ReactiveOrientdbRepository<QueryElement, String> {
+
+    Flux<QueryElement> findByName(String name);
+
+    Mono<QueryElement> findFirstByName(String name);
+
+    Mono<Long> countByName(String name);
+}
@@ -1,7 +1,13 @@
 package org.springframework.data.orientdb3.test.sample.repository;
 
+import org.springframework.data.orientdb3.repository.FetchPlan;
 import org.springframework.data.orientdb3.repository.OrientdbRepository;
 import org.springframework.data.orientdb3.test.sample.VertexWithEdges;
 
+import java.util.List;
+
 public interface VertexWithEdgesRepository extends OrientdbRepository<VertexWithEdges, String> {
-}
\ No newline at end of file
+
+    @FetchPlan({"targets", "source"})
+    List<VertexWithEdges> findByType(String type);
+}
@@ -0,0 +1,53 @@
+package org.springframework.data.orientdb3.transaction;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.orientdb3.support.SessionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SessionScopeTest {
+
+    @Mock
+    private SessionFactory sessionFactory;
+    @Mock
+    private ODatabaseSession session;
+
+    private SessionScope sessionScope;
+
+    @Before
+    public void setup() {
+        sessionScope = new SessionScope(sessionFactory);
+        when(sessionFactory.openSession()).thenReturn(session);
+    }
+
+    @Test
+    public void should_bind_one_session_for_the_scope() {
+        ODatabaseSession bound = sessionScope.execute(() -> sessionScope.execute(() ->
+                ((SessionHolder) TransactionSynchronizationManager.getResource(sessionFactory)).getSession()));
+
+        assertThat(bound, is(session));
+        assertThat(TransactionSynchronizationManager.hasResource(sessionFactory), is(false));
+        verify(sessionFactory, times(1)).openSession();
+        verify(session).close();
+    }
+
+    @Test
+    public void should_not_bind_a_session_twice() {
+        assertThat(sessionScope.bindSession(), is(true));
+        assertThat(sessionScope.bindSession(), is(false));
+
+        sessionScope.unbindSession();
+        assertThat(TransactionSynchronizationManager.hasResource(sessionFactory), is(false));
+    }
+}